@@ -0,0 +1,201 @@
+package com.tontin.platform.aspect;
+
+import com.tontin.platform.domain.Loggin;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Buffers {@link Loggin} records in memory and writes them to {@code logs} in JDBC
+ * batches from a single background thread.
+ *
+ * <p>{@link AuthloggingAspect} only appends to the bounded queue, so auth calls no
+ * longer pay for an INSERT or hold a pooled connection for it. The flusher writes
+ * whenever {@code audit.log.batch-size} records are queued or every
+ * {@code audit.log.flush-interval} ms, whichever comes first.</p>
+ *
+ * <p>When the queue is full, {@code audit.log.overflow=drop} discards the record
+ * (counted as {@code audit.log.dropped}); {@code block} makes the caller wait for
+ * space for as long as the writer runs, so no record is lost but auth calls slow
+ * down to the database's pace. Records appended after shutdown began are dropped.
+ * Remaining records are flushed on shutdown.</p>
+ */
+@Component
+@Slf4j
+public class AuditLogWriter {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO logs (id, timestamp, level, service, env, request_id, event, path, " +
+        "status, user_email, error_message, stack_trace) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /** How often a blocked {@link #append} re-checks that the writer is still running. */
+    private static final long BLOCK_RECHECK_MILLIS = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<Loggin> queue;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final boolean blockOnOverflow;
+
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter failed;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public AuditLogWriter(
+        JdbcTemplate jdbcTemplate,
+        MeterRegistry meterRegistry,
+        @Value("${audit.log.capacity:10000}") int capacity,
+        @Value("${audit.log.batch-size:200}") int batchSize,
+        @Value("${audit.log.flush-interval:1000}") long flushIntervalMillis,
+        @Value("${audit.log.overflow:drop}") String overflow
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalMillis = Math.max(10, flushIntervalMillis);
+        this.blockOnOverflow = "block".equals(overflow.trim().toLowerCase(Locale.ROOT));
+
+        this.written = Counter.builder("audit.log.written").register(meterRegistry);
+        this.dropped = Counter.builder("audit.log.dropped").register(meterRegistry);
+        this.failed = Counter.builder("audit.log.failed").register(meterRegistry);
+        Gauge.builder("audit.log.queued", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        flusher = new Thread(this::runFlusher, "audit-log-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * Queues a record for writing. Never throws. When the queue is full the record is
+     * dropped, or in {@code block} mode waited for until there is space or the writer
+     * stops (or the caller is interrupted).
+     *
+     * @param entry the record to write
+     */
+    public void append(Loggin entry) {
+        boolean queued = queue.offer(entry);
+        if (!queued && blockOnOverflow) {
+            queued = put(entry);
+        }
+        if (!queued) {
+            dropped.increment();
+            log.debug("Audit log queue full, dropping event {} ({})", entry.getEvent(), entry.getRequestId());
+        }
+    }
+
+    /** A {@code put} that gives up once the writer is stopping, so shutdown cannot hang callers. */
+    private boolean put(Loggin entry) {
+        try {
+            while (running) {
+                if (queue.offer(entry, BLOCK_RECHECK_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    private void runFlusher() {
+        List<Loggin> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Loggin first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.currentTimeMillis() + flushIntervalMillis;
+                // Collect until the batch is full or the interval elapses
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    Loggin next = queue.poll(remaining, TimeUnit.MILLISECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                write(batch);
+            } catch (InterruptedException e) {
+                // Shutdown: write what was collected, stop() flushes the rest
+                write(batch);
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Loggin> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, entry) -> {
+                ps.setObject(1, entry.getId() != null ? entry.getId() : UUID.randomUUID());
+                ps.setTimestamp(2, Timestamp.valueOf(entry.getTimestamp()));
+                ps.setString(3, entry.getLevel() != null ? entry.getLevel().name() : null);
+                ps.setString(4, entry.getService());
+                ps.setString(5, entry.getEnv());
+                ps.setString(6, entry.getRequestId());
+                ps.setString(7, entry.getEvent());
+                ps.setString(8, entry.getPath());
+                ps.setString(9, entry.getStatus());
+                ps.setString(10, entry.getUserEmail());
+                ps.setString(11, entry.getErrorMessage());
+                ps.setString(12, entry.getStackTrace());
+            });
+            written.increment(batch.size());
+        } catch (Exception e) {
+            failed.increment(batch.size());
+            log.error("Failed to write {} audit log records: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (flusher != null) {
+            flusher.interrupt();
+            try {
+                flusher.join(5_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        List<Loggin> remaining = new ArrayList<>(batchSize);
+        while (queue.drainTo(remaining, batchSize) > 0) {
+            write(remaining);
+            remaining.clear();
+        }
+        log.info("Audit log writer stopped");
+    }
+}
@@ -1,12 +1,10 @@
 package com.tontin.platform.aspect;
 
+import com.tontin.platform.config.CorrelationIdFilter;
 import com.tontin.platform.domain.Loggin;
 import com.tontin.platform.dto.auth.login.request.LoginRequest;
 import com.tontin.platform.dto.auth.register.request.RegisterRequest;
-import com.tontin.platform.repository.LogRepository;
 import java.time.LocalDateTime;
-import java.util.BitSet;
-import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -19,7 +17,7 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class AuthloggingAspect {
 
-    private final LogRepository logRepository;
+    private final AuditLogWriter auditLogWriter;
 
     @Value("${env:development}")
     private String env;
@@ -54,12 +52,12 @@ public class AuthloggingAspect {
                 .path(joinPoint.getTarget().getClass().getSimpleName())
                 .service("platform-service")
                 .status(status)
-                .requestId(UUID.randomUUID().toString())
+                .requestId(CorrelationIdFilter.currentId())
                 .env(env.toUpperCase())
                 .userEmail(userEmail)
                 .build();
 
-            logRepository.save(log);
+            auditLogWriter.append(log);
         }
         return result;
     }
@@ -0,0 +1,71 @@
+package com.tontin.platform.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Assigns a correlation id to every HTTP request.
+ *
+ * <p>An incoming {@value #HEADER} header is reused when it is a short, safe token
+ * (e.g. set by a gateway or the frontend); otherwise a new UUID is generated. The id
+ * is put in the SLF4J {@link MDC} under {@value #MDC_KEY} for the duration of the
+ * request, echoed back as a response header, and stored as {@code request_id} by the
+ * audit logging aspect so all events of one request can be found through
+ * {@code idx_logs_request_id}.</p>
+ *
+ * <p>Runs before the Spring Security filter chain so that authentication failures
+ * are correlated too. The MDC does not follow work onto other threads: background
+ * work that must stay correlated stores the id with its data (audit log entries,
+ * Stripe webhook inbox rows) and restores it when it runs.</p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CorrelationIdFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Request-Id";
+    public static final String MDC_KEY = "requestId";
+
+    private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9._:-]{1,100}");
+
+    /**
+     * Returns the correlation id of the current request, or a new random id when
+     * called outside a request (e.g. scheduled jobs).
+     *
+     * @return the current correlation id
+     */
+    public static String currentId() {
+        String id = MDC.get(MDC_KEY);
+        return id != null ? id : UUID.randomUUID().toString();
+    }
+
+    @Override
+    protected void doFilterInternal(
+        @NonNull HttpServletRequest request,
+        @NonNull HttpServletResponse response,
+        @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        String incoming = request.getHeader(HEADER);
+        String requestId = incoming != null && VALID_ID.matcher(incoming).matches()
+            ? incoming
+            : UUID.randomUUID().toString();
+
+        MDC.put(MDC_KEY, requestId);
+        response.setHeader(HEADER, requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package com.tontin.platform.config;
 
 import com.tontin.platform.domain.User;
+import com.tontin.platform.domain.enums.user.UserRole;
 import com.tontin.platform.domain.enums.user.UserStatus;
 import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 /**
@@ -18,9 +20,14 @@ import org.springframework.security.core.userdetails.UserDetails;
  *
  * <p>The class is immutable and thread-safe, making it suitable for storing in
  * the SecurityContext across multiple requests.</p>
+ *
+ * <p>Instances built from verified JWT claims ({@link #fromClaims}) carry no
+ * {@link User} entity and no password; they only exist for the lifetime of a
+ * request and are never used for password authentication. Instances held in
+ * {@link UserDetailsCache} are {@link #detached()} so the cache never retains
+ * entities (and their picture bytes).</p>
  */
 @Getter
-@RequiredArgsConstructor
 public class CustomUserDetails implements UserDetails {
 
     private static final long serialVersionUID = 1L;
@@ -42,6 +49,7 @@ public class CustomUserDetails implements UserDetails {
 
     /**
      * The full User entity for accessing additional user information.
+     * Null when the principal was rebuilt from token claims.
      */
     private final User user;
 
@@ -50,6 +58,99 @@ public class CustomUserDetails implements UserDetails {
      */
     private final Collection<? extends GrantedAuthority> authorities;
 
+    /**
+     * The account role at the time the principal was built.
+     */
+    private final UserRole role;
+
+    /**
+     * The account status at the time the principal was built.
+     */
+    private final UserStatus status;
+
+    public CustomUserDetails(
+        UUID id,
+        String username,
+        String password,
+        User user,
+        Collection<? extends GrantedAuthority> authorities
+    ) {
+        this(
+            id,
+            username,
+            password,
+            user,
+            authorities,
+            user.getRole(),
+            user.getStatus()
+        );
+    }
+
+    private CustomUserDetails(
+        UUID id,
+        String username,
+        String password,
+        User user,
+        Collection<? extends GrantedAuthority> authorities,
+        UserRole role,
+        UserStatus status
+    ) {
+        this.id = id;
+        this.username = username;
+        this.password = password;
+        this.user = user;
+        this.authorities = authorities;
+        this.role = role;
+        this.status = status;
+    }
+
+    /**
+     * Rebuilds a principal from the id, role and status claims of a verified
+     * access token, without loading the user from the database.
+     *
+     * @param id     the user id claim
+     * @param email  the token subject
+     * @param role   the role claim
+     * @param status the status claim
+     * @return a password-less principal
+     */
+    public static CustomUserDetails fromClaims(
+        UUID id,
+        String email,
+        UserRole role,
+        UserStatus status
+    ) {
+        return new CustomUserDetails(
+            id,
+            email,
+            null,
+            null,
+            List.of(new SimpleGrantedAuthority(role.name())),
+            role,
+            status
+        );
+    }
+
+    /**
+     * Returns a copy of these details without the {@link User} entity.
+     *
+     * @return the same principal data, minus the entity reference
+     */
+    public CustomUserDetails detached() {
+        if (user == null) {
+            return this;
+        }
+        return new CustomUserDetails(
+            id,
+            username,
+            password,
+            null,
+            authorities,
+            role,
+            status
+        );
+    }
+
     /**
      * Indicates whether the user's account has expired.
      *
@@ -74,8 +175,8 @@ public class CustomUserDetails implements UserDetails {
     @Override
     public boolean isAccountNonLocked() {
         return (
-            user.getStatus() != UserStatus.SUSPENDED &&
-            user.getStatus() != UserStatus.DISABLED
+            status != UserStatus.SUSPENDED &&
+            status != UserStatus.DISABLED
         );
     }
 
@@ -102,7 +203,7 @@ public class CustomUserDetails implements UserDetails {
      */
     @Override
     public boolean isEnabled() {
-        return user.getStatus() == UserStatus.ACTIVE;
+        return status == UserStatus.ACTIVE;
     }
 
     /**
@@ -111,7 +212,7 @@ public class CustomUserDetails implements UserDetails {
      * @return the email address
      */
     public String getEmail() {
-        return user.getEmail();
+        return user != null ? user.getEmail() : username;
     }
 
     @Override
@@ -126,7 +227,7 @@ public class CustomUserDetails implements UserDetails {
             ", authorities=" +
             authorities +
             ", status=" +
-            user.getStatus() +
+            status +
             ", enabled=" +
             isEnabled() +
             '}'
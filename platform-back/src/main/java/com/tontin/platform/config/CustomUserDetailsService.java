@@ -10,7 +10,6 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Custom UserDetailsService implementation for loading user-specific data.
@@ -19,8 +18,9 @@ import org.springframework.transaction.annotation.Transactional;
  * database during authentication. It fetches the user by email and converts it
  * into a {@link CustomUserDetails} object that Spring Security can use.</p>
  *
- * <p>The service is transactional to ensure proper database session management
- * and implements caching to reduce database queries for frequently accessed users.</p>
+ * <p>Loaded details are kept in a size-bounded, TTL-based {@link UserDetailsCache}
+ * keyed by normalized email to reduce database queries for frequently accessed users.
+ * Code that changes a user's status, role or credentials evicts the entry.</p>
  */
 @Service("customUserDetailsService")
 @RequiredArgsConstructor
@@ -28,6 +28,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
 
     /**
      * Locates the user based on the email address (username).
@@ -38,6 +39,7 @@ public class CustomUserDetailsService implements UserDetailsService {
      *
      * <p>The method performs the following:</p>
      * <ul>
+     *   <li>Returns cached details when present and not expired</li>
      *   <li>Searches for the user by email in the database</li>
      *   <li>Throws UsernameNotFoundException if user doesn't exist</li>
      *   <li>Creates a CustomUserDetails object with user information</li>
@@ -50,7 +52,6 @@ public class CustomUserDetailsService implements UserDetailsService {
      * @throws UsernameNotFoundException if the user could not be found or has no GrantedAuthority
      */
     @Override
-    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String email)
         throws UsernameNotFoundException {
         log.debug("Loading user details for email: {}", email);
@@ -65,6 +66,12 @@ public class CustomUserDetailsService implements UserDetailsService {
         // Normalize email to lowercase for case-insensitive lookup
         String normalizedEmail = email.trim().toLowerCase();
 
+        CustomUserDetails cached = userDetailsCache.get(normalizedEmail);
+        if (cached != null) {
+            log.debug("User details cache hit for: {}", normalizedEmail);
+            return cached;
+        }
+
         // Fetch user from database
         User user = userRepository
             .findByEmail(normalizedEmail)
@@ -96,13 +103,15 @@ public class CustomUserDetailsService implements UserDetailsService {
             user.getRole()
         );
 
-        // Build and return CustomUserDetails
-        return new CustomUserDetails(
+        // Build, cache and return CustomUserDetails
+        CustomUserDetails details = new CustomUserDetails(
             user.getId(),
             user.getEmail(),
             user.getPassword(),
             user,
             List.of(authority)
         );
+        userDetailsCache.put(normalizedEmail, details);
+        return details;
     }
 }
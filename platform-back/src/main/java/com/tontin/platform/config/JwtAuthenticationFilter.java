@@ -7,6 +7,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -22,6 +23,15 @@ import org.springframework.web.filter.OncePerRequestFilter;
  * <p>This filter intercepts incoming HTTP requests and validates JWT tokens
  * from the Authorization header. If a valid token is found, it sets the
  * authentication in the Spring Security context.</p>
+ *
+ * <p>The token is parsed and its signature verified exactly once per request;
+ * subject and expiration are then read from the resulting {@link VerifiedJwt}.</p>
+ *
+ * <p>When {@code security.jwt.stateless-principal} is enabled (the default), the
+ * principal is rebuilt from the id/role/status claims of the access token and the
+ * database is not queried. Only tokens that predate a change recorded in
+ * {@link TokenRevocationRegistry}, or that lack those claims, fall back to
+ * {@link UserDetailsService}.</p>
  */
 @Component
 @RequiredArgsConstructor
@@ -30,6 +40,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+
+    @Value("${security.jwt.stateless-principal:true}")
+    private boolean statelessPrincipal;
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
@@ -52,20 +66,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             // Extract JWT token
             final String jwt = authHeader.substring(BEARER_PREFIX_LENGTH);
-            final String userEmail = jwtService.extractUsername(jwt);
+            final VerifiedJwt token = jwtService.parseToken(jwt);
+            final String userEmail = token.username();
 
             // Check if user email is present and no authentication exists in context
             if (
                 userEmail != null &&
                 SecurityContextHolder.getContext().getAuthentication() == null
             ) {
-                // Load user details from database
-                UserDetails userDetails = userDetailsService.loadUserByUsername(
-                    userEmail
-                );
+                UserDetails userDetails = resolveUserDetails(token);
 
                 // Validate token
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                if (
+                    userDetails != null &&
+                    jwtService.isTokenValid(token, userDetails)
+                ) {
                     // Create authentication token
                     UsernamePasswordAuthenticationToken authToken =
                         new UsernamePasswordAuthenticationToken(
@@ -102,6 +117,42 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Resolves the principal for a verified token, from its claims when possible.
+     *
+     * @param token the verified token
+     * @return the user details, or null if the account is no longer usable
+     */
+    private UserDetails resolveUserDetails(VerifiedJwt token) {
+        if (statelessPrincipal) {
+            CustomUserDetails principal = jwtService.toPrincipal(token);
+            if (principal != null) {
+                if (
+                    !tokenRevocationRegistry.isRevoked(
+                        principal.getId(),
+                        token.issuedAt()
+                    )
+                ) {
+                    return principal;
+                }
+                // Status or role changed after the token was issued: re-check the account
+                log.debug(
+                    "Token of user {} predates an account change, reloading",
+                    principal.getId()
+                );
+                UserDetails reloaded = userDetailsService.loadUserByUsername(
+                    token.username()
+                );
+                return reloaded.isEnabled() && reloaded.isAccountNonLocked()
+                    ? reloaded
+                    : null;
+            }
+        }
+
+        // Load user details from database
+        return userDetailsService.loadUserByUsername(token.username());
+    }
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         // Skip JWT validation for public endpoints only
@@ -114,7 +165,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             path.equals("/api/v1/auth/refresh-token") ||
             path.startsWith("/swagger-ui") ||
             path.startsWith("/v3/api-docs") ||
-            path.startsWith("/actuator")
+            path.startsWith("/actuator/health") ||
+            path.startsWith("/actuator/info")
         );
     }
 }
@@ -1,7 +1,10 @@
 package com.tontin.platform.config;
 
+import com.tontin.platform.domain.enums.user.UserRole;
+import com.tontin.platform.domain.enums.user.UserStatus;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -9,6 +12,7 @@ import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.Key;
@@ -16,6 +20,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -41,6 +46,10 @@ import org.springframework.stereotype.Service;
  *   <li>Tokens are signed to prevent tampering</li>
  *   <li>Secret key should be externalized via environment variables in production</li>
  * </ul>
+ *
+ * <p>The signing key and the {@link JwtParser} are built once at startup; both are
+ * immutable and thread-safe, so each request only pays for a single signature
+ * verification via {@link #parseToken(String)}.</p>
  */
 @Service
 @Slf4j
@@ -79,15 +88,47 @@ public class JwtService {
     private String issuer;
 
     // Token type constants
-    private static final String TOKEN_TYPE_CLAIM = "type";
-    private static final String TOKEN_TYPE_ACCESS = "access";
-    private static final String TOKEN_TYPE_REFRESH = "refresh";
+    static final String TOKEN_TYPE_CLAIM = "type";
+    static final String TOKEN_TYPE_ACCESS = "access";
+    static final String TOKEN_TYPE_REFRESH = "refresh";
+
+    // Principal claims carried by access tokens (stateless authentication)
+    static final String USER_ID_CLAIM = "uid";
+    static final String ROLE_CLAIM = "role";
+    static final String STATUS_CLAIM = "status";
+
+    /**
+     * HMAC key derived from {@link #secretKey}, computed once at startup.
+     */
+    private Key signingKey;
+
+    /**
+     * Reusable, thread-safe parser bound to {@link #signingKey}.
+     */
+    private JwtParser jwtParser;
+
+    /**
+     * Decodes the configured secret and builds the parser once.
+     *
+     * <p>Fails fast at startup if the secret is missing instead of on the first request.</p>
+     */
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(
+            ensureMinHs256KeyLength(decodeSecretKey(secretKey))
+        );
+        this.jwtParser = Jwts.parserBuilder()
+            .setSigningKey(signingKey)
+            .build();
+    }
 
     /**
      * Generates an access token for the given user.
      *
      * <p>Access tokens are short-lived (15 minutes) and used for API authentication.
-     * They contain the user's email as the subject.</p>
+     * They contain the user's email as the subject and, for {@link CustomUserDetails},
+     * the user id, role and status so the principal can be rebuilt without a
+     * database lookup (see {@link #toPrincipal(VerifiedJwt)}).</p>
      *
      * @param userDetails the authenticated user's details
      * @return the generated JWT access token
@@ -95,6 +136,17 @@ public class JwtService {
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> extraClaims = new HashMap<>();
         extraClaims.put(TOKEN_TYPE_CLAIM, TOKEN_TYPE_ACCESS);
+        if (userDetails instanceof CustomUserDetails custom) {
+            if (
+                custom.getId() != null &&
+                custom.getRole() != null &&
+                custom.getStatus() != null
+            ) {
+                extraClaims.put(USER_ID_CLAIM, custom.getId().toString());
+                extraClaims.put(ROLE_CLAIM, custom.getRole().name());
+                extraClaims.put(STATUS_CLAIM, custom.getStatus().name());
+            }
+        }
         return generateToken(extraClaims, userDetails, accessTokenExpiration);
     }
 
@@ -168,7 +220,7 @@ public class JwtService {
             .setIssuer(issuer)
             .setIssuedAt(issuedAt)
             .setExpiration(expiresAt)
-            .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+            .signWith(signingKey, SignatureAlgorithm.HS256)
             .compact();
     }
 
@@ -188,10 +240,29 @@ public class JwtService {
      */
     public boolean isTokenValid(String token, UserDetails userDetails) {
         try {
-            final String username = extractUsername(token);
+            return isTokenValid(parseToken(token), userDetails);
+        } catch (Exception e) {
+            log.error("Token validation error: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Validates an already-parsed token for the given user.
+     *
+     * <p>The signature was verified by {@link #parseToken(String)}; this only
+     * checks the subject and the expiration, without touching the token again.</p>
+     *
+     * @param token the verified token
+     * @param userDetails the user details to validate against
+     * @return true if the token is valid, false otherwise
+     */
+    public boolean isTokenValid(VerifiedJwt token, UserDetails userDetails) {
+        try {
+            final String username = token.username();
             boolean isValid =
                 username.equals(userDetails.getUsername()) &&
-                !isTokenExpired(token);
+                !token.isExpired();
 
             if (isValid) {
                 log.debug("Token validation successful for user: {}", username);
@@ -218,15 +289,13 @@ public class JwtService {
      */
     public boolean isRefreshTokenValid(String token, UserDetails userDetails) {
         try {
-            final String username = extractUsername(token);
-            final String type = extractClaim(token, claims ->
-                claims.get(TOKEN_TYPE_CLAIM, String.class)
-            );
+            final VerifiedJwt verified = parseToken(token);
+            final String username = verified.username();
 
             boolean isValid =
                 username.equals(userDetails.getUsername()) &&
-                TOKEN_TYPE_REFRESH.equals(type) &&
-                !isTokenExpired(token);
+                verified.isRefreshToken() &&
+                !verified.isExpired();
 
             if (isValid) {
                 log.debug(
@@ -247,6 +316,53 @@ public class JwtService {
         }
     }
 
+    /**
+     * Parses and verifies the token exactly once.
+     *
+     * <p>Use this on hot paths (e.g. the authentication filter) and read every
+     * claim from the returned view instead of calling the {@code extract*}
+     * methods, each of which re-verifies the signature.</p>
+     *
+     * @param token the JWT token
+     * @return an immutable view of the verified claims
+     * @throws ExpiredJwtException if the token is expired
+     * @throws MalformedJwtException if the token is malformed
+     * @throws SignatureException if the signature validation fails
+     */
+    public VerifiedJwt parseToken(String token) {
+        return VerifiedJwt.from(extractAllClaims(token));
+    }
+
+    /**
+     * Rebuilds the authenticated principal from the claims of a verified access token.
+     *
+     * @param token the verified token
+     * @return the principal, or null if this is not an access token or it was issued
+     *         without principal claims (e.g. before they were introduced)
+     */
+    public CustomUserDetails toPrincipal(VerifiedJwt token) {
+        if (!token.isAccessToken()) {
+            return null;
+        }
+        String userId = token.claim(USER_ID_CLAIM, String.class);
+        String role = token.claim(ROLE_CLAIM, String.class);
+        String status = token.claim(STATUS_CLAIM, String.class);
+        if (userId == null || role == null || status == null) {
+            return null;
+        }
+        try {
+            return CustomUserDetails.fromClaims(
+                UUID.fromString(userId),
+                token.username(),
+                UserRole.valueOf(role),
+                UserStatus.valueOf(status)
+            );
+        } catch (IllegalArgumentException e) {
+            log.warn("JWT principal claims are invalid: {}", e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * Extracts the username (subject) from the token.
      *
@@ -301,11 +417,7 @@ public class JwtService {
      */
     private Claims extractAllClaims(String token) {
         try {
-            return Jwts.parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             log.warn("JWT token is expired: {}", e.getMessage());
             throw e;
@@ -324,30 +436,7 @@ public class JwtService {
         }
     }
 
-    /**
-     * Checks if the token has expired.
-     *
-     * @param token the JWT token
-     * @return true if the token is expired, false otherwise
-     */
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    /**
-     * Gets the signing key used for JWT signature generation and validation.
-     *
-     * <p>The key is derived from the base64-encoded secret key configured in
-     * application properties. The key must be at least 256 bits for HS256.</p>
-     *
-     * @return the signing key
-     */
-    private Key getSignInKey() {
-        byte[] keyBytes = ensureMinHs256KeyLength(decodeSecretKey(secretKey));
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-
-    private byte[] decodeSecretKey(String configuredSecretKey) {
+    byte[] decodeSecretKey(String configuredSecretKey) {
         if (configuredSecretKey == null || configuredSecretKey.isBlank()) {
             throw new IllegalStateException(
                 "security.jwt.secret-key must not be empty"
@@ -393,7 +482,7 @@ public class JwtService {
         return data;
     }
 
-    private byte[] ensureMinHs256KeyLength(byte[] keyBytes) {
+    byte[] ensureMinHs256KeyLength(byte[] keyBytes) {
         if (keyBytes.length >= 32) {
             return keyBytes;
         }
@@ -0,0 +1,16 @@
+package com.tontin.platform.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} jobs (see the {@code scheduler} package).
+ *
+ * <p>Set {@code app.scheduling.enabled=false} to run an instance without background
+ * jobs (e.g. tests or a web-only replica).</p>
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "app.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {}
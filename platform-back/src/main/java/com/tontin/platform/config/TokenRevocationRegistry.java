@@ -0,0 +1,63 @@
+package com.tontin.platform.config;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory registry of users whose outstanding access tokens must no longer be
+ * trusted on their claims alone (status or role changed, account deleted).
+ *
+ * <p>{@link JwtAuthenticationFilter} consults this registry instead of the database
+ * when rebuilding a principal from token claims. A token issued at or before the
+ * recorded change is re-checked against the database; newer tokens are trusted.</p>
+ *
+ * <p>Entries only need to outlive the access-token lifetime: any token issued before
+ * an entry older than that has already expired, so stale entries are pruned lazily.</p>
+ */
+@Component
+@Slf4j
+public class TokenRevocationRegistry {
+
+    @Value("${security.jwt.access-token.expiration:900000}")
+    private long accessTokenExpiration;
+
+    private final Map<UUID, Long> revokedAt = new ConcurrentHashMap<>();
+
+    /**
+     * Marks every token issued to the user up to now as stale.
+     *
+     * @param userId the user whose tokens should be re-checked
+     */
+    public void revoke(UUID userId) {
+        if (userId == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        revokedAt.put(userId, now);
+        revokedAt.values().removeIf(at -> at < now - accessTokenExpiration);
+        log.debug("Access tokens of user {} revoked at {}", userId, now);
+    }
+
+    /**
+     * Checks whether a token issued at the given time predates a revocation.
+     *
+     * <p>JWT timestamps have second precision, so a token issued within the same
+     * second as the revocation is treated as revoked.</p>
+     *
+     * @param userId   the token's user id claim
+     * @param issuedAt the token's issue timestamp
+     * @return true if the token must be re-checked against the database
+     */
+    public boolean isRevoked(UUID userId, Date issuedAt) {
+        Long at = revokedAt.get(userId);
+        if (at == null) {
+            return false;
+        }
+        return issuedAt == null || issuedAt.getTime() <= at;
+    }
+}
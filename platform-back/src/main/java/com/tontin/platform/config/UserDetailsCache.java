@@ -0,0 +1,164 @@
+package com.tontin.platform.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Size-bounded, TTL-based cache of {@link CustomUserDetails} keyed by normalized email.
+ *
+ * <p>Used by {@link CustomUserDetailsService} so that logins, refresh-token calls and
+ * the JWT filter fallback path do not hit {@code users} for every lookup. Entries are
+ * stored {@link CustomUserDetails#detached() detached} from the {@code User} entity.
+ * Callers that change a user's status, role, password or email must call
+ * {@link #evict(String)}.</p>
+ *
+ * <p>Metrics are published under the standard Micrometer cache names
+ * ({@code cache.gets}, {@code cache.puts}, {@code cache.evictions}, {@code cache.size})
+ * with tag {@code cache=userDetails}, visible at {@code /actuator/metrics}.</p>
+ */
+@Component
+@Slf4j
+public class UserDetailsCache {
+
+    private static final String CACHE_NAME = "userDetails";
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LinkedHashMap<String, Entry> entries;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter puts;
+    private final Counter sizeEvictions;
+    private final Counter expiredEvictions;
+    private final Counter invalidations;
+
+    private record Entry(CustomUserDetails details, long expiresAt) {}
+
+    public UserDetailsCache(
+        MeterRegistry meterRegistry,
+        @Value("${security.user-details-cache.max-size:10000}") int maxSize,
+        @Value("${security.user-details-cache.ttl:300000}") long ttlMillis
+    ) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        // Access order: the eldest entry is the least recently used one
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+
+        this.hits = counter(meterRegistry, "cache.gets", "result", "hit");
+        this.misses = counter(meterRegistry, "cache.gets", "result", "miss");
+        this.puts = Counter.builder("cache.puts")
+            .tag("cache", CACHE_NAME)
+            .register(meterRegistry);
+        this.sizeEvictions = counter(meterRegistry, "cache.evictions", "cause", "size");
+        this.expiredEvictions = counter(meterRegistry, "cache.evictions", "cause", "expired");
+        this.invalidations = counter(meterRegistry, "cache.evictions", "cause", "invalidated");
+        Gauge.builder("cache.size", this, UserDetailsCache::size)
+            .tag("cache", CACHE_NAME)
+            .register(meterRegistry);
+    }
+
+    private static Counter counter(
+        MeterRegistry registry,
+        String name,
+        String tagKey,
+        String tagValue
+    ) {
+        return Counter.builder(name)
+            .tag("cache", CACHE_NAME)
+            .tag(tagKey, tagValue)
+            .register(registry);
+    }
+
+    /**
+     * Normalizes an email the same way {@link CustomUserDetailsService} does.
+     *
+     * @param email the raw email
+     * @return the cache key
+     */
+    public static String key(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the cached details for an email, or null if absent or expired.
+     *
+     * @param email the user's email
+     * @return cached details or null
+     */
+    public CustomUserDetails get(String email) {
+        String key = key(email);
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            if (entry.expiresAt() <= System.currentTimeMillis()) {
+                entries.remove(key);
+                expiredEvictions.increment();
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.details();
+        }
+    }
+
+    /**
+     * Caches the details for an email, evicting the least recently used entry when full.
+     *
+     * @param email   the user's email
+     * @param details the details to cache
+     */
+    public void put(String email, CustomUserDetails details) {
+        if (maxSize <= 0) {
+            return;
+        }
+        Entry entry = new Entry(
+            details.detached(),
+            System.currentTimeMillis() + ttlMillis
+        );
+        synchronized (entries) {
+            entries.put(key(email), entry);
+            puts.increment();
+            Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+            while (entries.size() > maxSize && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+                sizeEvictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Removes the cached details for an email, if any.
+     *
+     * @param email the user's email (may be null)
+     */
+    public void evict(String email) {
+        if (email == null || email.isBlank()) {
+            return;
+        }
+        synchronized (entries) {
+            if (entries.remove(key(email)) != null) {
+                invalidations.increment();
+                log.debug("Evicted cached user details for {}", key(email));
+            }
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.tontin.platform.config;
+
+import io.jsonwebtoken.Claims;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable view over the claims of a JWT whose signature has already been verified.
+ *
+ * <p>Produced once per request by {@link JwtService#parseToken(String)} so that callers
+ * (e.g. {@link JwtAuthenticationFilter}) can read subject, type and expiration without
+ * re-parsing and re-verifying the token for every claim.</p>
+ *
+ * @param username   the token subject (user email)
+ * @param tokenType  value of the {@code type} claim ({@code access} or {@code refresh})
+ * @param issuedAt   issue timestamp
+ * @param expiration expiration timestamp
+ * @param claims     read-only copy of all claims
+ */
+public record VerifiedJwt(
+    String username,
+    String tokenType,
+    Date issuedAt,
+    Date expiration,
+    Map<String, Object> claims
+) {
+    static VerifiedJwt from(Claims claims) {
+        return new VerifiedJwt(
+            claims.getSubject(),
+            claims.get(JwtService.TOKEN_TYPE_CLAIM, String.class),
+            claims.getIssuedAt(),
+            claims.getExpiration(),
+            Collections.unmodifiableMap(new HashMap<>(claims))
+        );
+    }
+
+    /**
+     * Checks whether the token has expired.
+     *
+     * @return true if the expiration is in the past
+     */
+    public boolean isExpired() {
+        return expiration != null && expiration.before(new Date());
+    }
+
+    public boolean isAccessToken() {
+        return JwtService.TOKEN_TYPE_ACCESS.equals(tokenType);
+    }
+
+    public boolean isRefreshToken() {
+        return JwtService.TOKEN_TYPE_REFRESH.equals(tokenType);
+    }
+
+    /**
+     * Reads a single claim with the requested type.
+     *
+     * @param name the claim name
+     * @param type the expected claim type
+     * @param <T>  the claim type
+     * @return the claim value, or null if absent or of another type
+     */
+    public <T> T claim(String name, Class<T> type) {
+        Object value = claims.get(name);
+        return type.isInstance(value) ? type.cast(value) : null;
+    }
+}
@@ -0,0 +1,66 @@
+package com.tontin.platform.controller;
+
+import com.tontin.platform.service.ImageService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Serves user and dart pictures by content hash.
+ *
+ * <p>URLs are content-addressed ({@code /api/v1/images/{sha256}}), so a response never
+ * changes for a given URL: it is cached as {@code immutable} for a year with the hash as
+ * strong ETag. The endpoint is public because {@code <img>} tags cannot send a bearer
+ * token; the 256-bit hash is only known to clients that received it in an API response.</p>
+ */
+@RestController
+@RequestMapping("/api/v1/images")
+@RequiredArgsConstructor
+@Tag(name = "Images", description = "Content-addressed user and dart pictures")
+public class ImageController {
+
+    private static final CacheControl IMMUTABLE = CacheControl
+        .maxAge(365, TimeUnit.DAYS)
+        .cachePublic()
+        .immutable();
+
+    private final ImageService imageService;
+
+    @GetMapping("/{hash}")
+    @Operation(summary = "Get a picture by content hash")
+    public ResponseEntity<byte[]> getImage(
+        @PathVariable String hash,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        String etag = "\"" + hash + "\"";
+        if (etag.equals(ifNoneMatch)) {
+            // Same hash means same bytes: no need to read the picture
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(IMMUTABLE)
+                .build();
+        }
+        return imageService
+            .findByHash(hash)
+            .map(image ->
+                ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(IMMUTABLE)
+                    .contentType(MediaType.parseMediaType(image.contentType()))
+                    .contentLength(image.content().length)
+                    .body(image.content())
+            )
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,62 @@
+package com.tontin.platform.controller;
+
+import com.tontin.platform.dto.dart.response.PageResponse;
+import com.tontin.platform.dto.log.response.LogResponse;
+import com.tontin.platform.service.LogService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Admin access to the audit log ({@code logs} table).
+ */
+@RestController
+@RequestMapping("/api/v1/admin/logs")
+@RequiredArgsConstructor
+@Validated
+@Slf4j
+@Tag(name = "Audit Logs", description = "Admin search over authentication audit logs")
+@SecurityRequirement(name = "Bearer Authentication")
+public class LogController {
+
+    private final LogService logService;
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+        summary = "Search audit logs",
+        description = "Searches audit logs in a bounded time window (defaults to the last 24 hours), newest first. Filter by requestId to follow a single request."
+    )
+    public ResponseEntity<PageResponse<LogResponse>> searchLogs(
+        @RequestParam(required = false) @DateTimeFormat(
+            iso = DateTimeFormat.ISO.DATE_TIME
+        ) LocalDateTime from,
+        @RequestParam(required = false) @DateTimeFormat(
+            iso = DateTimeFormat.ISO.DATE_TIME
+        ) LocalDateTime to,
+        @RequestParam(required = false) String userEmail,
+        @RequestParam(required = false) String requestId,
+        @RequestParam(required = false) String event,
+        @RequestParam(required = false) String status,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "50") int size
+    ) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusDays(1);
+        return ResponseEntity.ok(
+            logService.search(start, end, userEmail, requestId, event, status, page, size)
+        );
+    }
+}
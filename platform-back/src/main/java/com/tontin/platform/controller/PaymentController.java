@@ -1,17 +1,21 @@
 package com.tontin.platform.controller;
 
 import com.tontin.platform.config.SecurityUtils;
+import com.tontin.platform.domain.enums.payment.ChartGranularity;
 import com.tontin.platform.domain.enums.payment.PaymentStatus;
 import com.tontin.platform.dto.dart.response.PageResponse;
 import com.tontin.platform.dto.payment.request.CreatePaymentIntentRequest;
 import com.tontin.platform.dto.payment.response.CanPayResponse;
 import com.tontin.platform.dto.payment.response.CreatePaymentIntentResponse;
 import com.tontin.platform.dto.payment.response.MonthlyChartPointResponse;
+import com.tontin.platform.dto.payment.response.PaymentChartResponse;
 import com.tontin.platform.dto.payment.response.PaymentReportItemResponse;
 import com.tontin.platform.dto.payment.response.PaymentReportSummaryResponse;
 import com.tontin.platform.service.PaymentReportService;
 import com.tontin.platform.service.PaymentService;
+import com.tontin.platform.service.StripeWebhookInboxService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -25,11 +29,13 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -42,6 +48,8 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/payments")
@@ -56,6 +64,7 @@ public class PaymentController {
 
     private final PaymentService paymentService;
     private final PaymentReportService paymentReportService;
+    private final StripeWebhookInboxService stripeWebhookInboxService;
     private final SecurityUtils securityUtils;
 
     @Value("${stripe.publishable-key:}")
@@ -110,7 +119,10 @@ public class PaymentController {
     @GetMapping(value = "/me", produces = MediaType.APPLICATION_JSON_VALUE)
     @PreAuthorize("hasAnyRole('CLIENT', 'ADMIN')")
     @SecurityRequirement(name = "Bearer Authentication")
-    @Operation(summary = "Paginated payments for current user (reports)")
+    @Operation(
+        summary = "Paginated payments for current user (reports)",
+        description = "Page mode by default (page/size). Pass cursor (empty for the first page) to switch to keyset pagination: follow nextCursor, and set includeTotal=true only when a total is needed."
+    )
     public ResponseEntity<PageResponse<PaymentReportItemResponse>> getMyPaymentsForReport(
         @RequestParam(required = false) UUID dartId,
         @RequestParam(required = false) @DateTimeFormat(
@@ -121,11 +133,27 @@ public class PaymentController {
         ) LocalDate endDate,
         @RequestParam(required = false) String status,
         @RequestParam(defaultValue = "0") int page,
-        @RequestParam(defaultValue = "20") int size
+        @RequestParam(defaultValue = "20") int size,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "false") boolean includeTotal
     ) {
         UUID userId = securityUtils.requireCurrentUserId();
         LocalDateTime[] range = resolveDateRange(startDate, endDate);
         PaymentStatus st = parsePaymentStatusFilter(status);
+        if (cursor != null) {
+            return ResponseEntity.ok(
+                paymentReportService.getPaymentsByCursor(
+                    userId,
+                    dartId,
+                    range[0],
+                    range[1],
+                    st,
+                    cursor,
+                    size,
+                    includeTotal
+                )
+            );
+        }
         return ResponseEntity.ok(
             paymentReportService.getPayments(
                 userId,
@@ -161,7 +189,10 @@ public class PaymentController {
     @GetMapping(value = "/admin/list", produces = MediaType.APPLICATION_JSON_VALUE)
     @PreAuthorize("hasRole('ADMIN')")
     @SecurityRequirement(name = "Bearer Authentication")
-    @Operation(summary = "Global paginated payments for admin")
+    @Operation(
+        summary = "Global paginated payments for admin",
+        description = "Page mode by default (page/size). Pass cursor (empty for the first page) to switch to keyset pagination: follow nextCursor, and set includeTotal=true only when a total is needed."
+    )
     public ResponseEntity<PageResponse<PaymentReportItemResponse>> getAdminPaymentsForReport(
         @RequestParam(required = false) UUID dartId,
         @RequestParam(required = false) @DateTimeFormat(
@@ -172,10 +203,26 @@ public class PaymentController {
         ) LocalDate endDate,
         @RequestParam(required = false) String status,
         @RequestParam(defaultValue = "0") int page,
-        @RequestParam(defaultValue = "20") int size
+        @RequestParam(defaultValue = "20") int size,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "false") boolean includeTotal
     ) {
         LocalDateTime[] range = resolveDateRange(startDate, endDate);
         PaymentStatus st = parsePaymentStatusFilter(status);
+        if (cursor != null) {
+            return ResponseEntity.ok(
+                paymentReportService.getPaymentsByCursor(
+                    null,
+                    dartId,
+                    range[0],
+                    range[1],
+                    st,
+                    cursor,
+                    size,
+                    includeTotal
+                )
+            );
+        }
         return ResponseEntity.ok(
             paymentReportService.getPayments(
                 null,
@@ -209,30 +256,121 @@ public class PaymentController {
         );
     }
 
-    @GetMapping(value = "/export", produces = "text/csv")
+    @GetMapping(value = "/chart", produces = MediaType.APPLICATION_JSON_VALUE)
     @PreAuthorize("hasAnyRole('CLIENT', 'ADMIN')")
     @SecurityRequirement(name = "Bearer Authentication")
-    @Operation(summary = "Export payments as CSV (filtered)")
-    public ResponseEntity<byte[]> exportPaymentsCsv(
+    @Operation(
+        summary = "Contribution totals for charts (day/week/month/quarter)",
+        description = "PAYED contributions of the current user per bucket. byDart=true adds one series per dart."
+    )
+    public ResponseEntity<PaymentChartResponse> getChart(
         @RequestParam(required = false) UUID dartId,
         @RequestParam(required = false) @DateTimeFormat(
             iso = DateTimeFormat.ISO.DATE
         ) LocalDate startDate,
         @RequestParam(required = false) @DateTimeFormat(
             iso = DateTimeFormat.ISO.DATE
-        ) LocalDate endDate
+        ) LocalDate endDate,
+        @RequestParam(required = false) String granularity,
+        @RequestParam(defaultValue = "false") boolean byDart
+    ) {
+        UUID userId = securityUtils.requireCurrentUserId();
+        LocalDateTime[] range = resolveDateRange(startDate, endDate);
+        return ResponseEntity.ok(
+            paymentReportService.getChart(
+                userId,
+                dartId,
+                range[0],
+                range[1],
+                parseGranularity(granularity),
+                byDart
+            )
+        );
+    }
+
+    @GetMapping(value = "/admin/chart", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @Operation(
+        summary = "Global contribution totals for admin charts",
+        description = "PAYED contributions of all users per bucket. byDart=true adds one series per dart."
+    )
+    public ResponseEntity<PaymentChartResponse> getAdminChart(
+        @RequestParam(required = false) UUID dartId,
+        @RequestParam(required = false) @DateTimeFormat(
+            iso = DateTimeFormat.ISO.DATE
+        ) LocalDate startDate,
+        @RequestParam(required = false) @DateTimeFormat(
+            iso = DateTimeFormat.ISO.DATE
+        ) LocalDate endDate,
+        @RequestParam(required = false) String granularity,
+        @RequestParam(defaultValue = "false") boolean byDart
+    ) {
+        LocalDateTime[] range = resolveDateRange(startDate, endDate);
+        return ResponseEntity.ok(
+            paymentReportService.getChart(
+                null,
+                dartId,
+                range[0],
+                range[1],
+                parseGranularity(granularity),
+                byDart
+            )
+        );
+    }
+
+    private static ChartGranularity parseGranularity(String raw) {
+        try {
+            return ChartGranularity.from(raw);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(
+                HttpStatus.BAD_REQUEST,
+                "granularity must be one of day, week, month, quarter"
+            );
+        }
+    }
+
+    @GetMapping(value = "/export", produces = { "text/csv", "application/gzip" })
+    @PreAuthorize("hasAnyRole('CLIENT', 'ADMIN')")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @Operation(
+        summary = "Export payments as CSV (filtered)",
+        description = "Streams the report row by row. With gzip=true the file is sent gzip-compressed (payment-report.csv.gz)."
+    )
+    public ResponseEntity<StreamingResponseBody> exportPaymentsCsv(
+        @RequestParam(required = false) UUID dartId,
+        @RequestParam(required = false) @DateTimeFormat(
+            iso = DateTimeFormat.ISO.DATE
+        ) LocalDate startDate,
+        @RequestParam(required = false) @DateTimeFormat(
+            iso = DateTimeFormat.ISO.DATE
+        ) LocalDate endDate,
+        @RequestParam(defaultValue = "false") boolean gzip
     ) {
         UUID userId = securityUtils.requireCurrentUserId();
         LocalDateTime[] range = resolveDateRange(startDate, endDate);
-        byte[] bytes =
-            paymentReportService.exportCsv(userId, dartId, range[0], range[1]);
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, 8192);
+                paymentReportService.exportCsv(userId, dartId, range[0], range[1], compressed);
+                compressed.finish();
+            } else {
+                paymentReportService.exportCsv(userId, dartId, range[0], range[1], out);
+            }
+        };
         return ResponseEntity.ok()
             .header(
                 HttpHeaders.CONTENT_DISPOSITION,
-                "attachment; filename=\"payment-report.csv\""
+                gzip
+                    ? "attachment; filename=\"payment-report.csv.gz\""
+                    : "attachment; filename=\"payment-report.csv\""
+            )
+            .contentType(
+                gzip
+                    ? MediaType.parseMediaType("application/gzip")
+                    : MediaType.parseMediaType("text/csv; charset=UTF-8")
             )
-            .contentType(MediaType.parseMediaType("text/csv; charset=UTF-8"))
-            .body(bytes);
+            .body(body);
     }
 
     @GetMapping(value = "/can-pay", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -305,10 +443,12 @@ public class PaymentController {
         }
     )
     public ResponseEntity<CreatePaymentIntentResponse> createPaymentIntent(
-        @Valid @RequestBody CreatePaymentIntentRequest request
+        @Valid @RequestBody CreatePaymentIntentRequest request,
+        @Parameter(description = "Client-generated key; retries with the same key reuse the same payment intent")
+        @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey
     ) {
         CreatePaymentIntentResponse response =
-            paymentService.createPaymentIntent(request);
+            paymentService.createPaymentIntent(request, idempotencyKey);
         return ResponseEntity.ok(response);
     }
 
@@ -367,11 +507,12 @@ public class PaymentController {
     )
     @Operation(
         summary = "Stripe webhook",
-        description = "Stripe sends events here (e.g. payment_intent.succeeded). Do not call directly; configure this URL in Stripe Dashboard."
+        description = "Stripe sends events here (e.g. payment_intent.succeeded). Do not call directly; configure this URL in Stripe Dashboard. " +
+            "Verified events are stored and applied in the background, so the response does not wait for the payment update."
     )
     @ApiResponses(
         value = {
-            @ApiResponse(responseCode = "200", description = "Event processed"),
+            @ApiResponse(responseCode = "200", description = "Event accepted"),
             @ApiResponse(
                 responseCode = "400",
                 description = "Invalid signature or payload"
@@ -385,7 +526,7 @@ public class PaymentController {
             required = false
         ) String signature
     ) {
-        paymentService.handleWebhook(
+        stripeWebhookInboxService.receive(
             payload,
             signature != null ? signature : ""
         );
@@ -0,0 +1,61 @@
+package com.tontin.platform.controller;
+
+import com.tontin.platform.dto.payment.response.PaymentRollupCheckResponse;
+import com.tontin.platform.service.PaymentRollupService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Admin maintenance of the daily payment totals behind the reports dashboard.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/payment-totals")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Payment Totals", description = "Rebuild and verify the daily payment totals")
+@SecurityRequirement(name = "Bearer Authentication")
+public class PaymentRollupController {
+
+    private final PaymentRollupService paymentRollupService;
+
+    @PostMapping(value = "/rebuild", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Recompute all daily totals from payments and rounds")
+    public ResponseEntity<Map<String, Long>> rebuild() {
+        log.info("Rebuilding daily payment totals on admin request");
+        return ResponseEntity.ok(Map.of("rows", paymentRollupService.rebuild()));
+    }
+
+    @GetMapping(value = "/check", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+        summary = "Compare daily totals with payments and rounds",
+        description = "Without dates the whole history is checked. endDate is inclusive."
+    )
+    public ResponseEntity<PaymentRollupCheckResponse> check(
+        @RequestParam(required = false) @DateTimeFormat(
+            iso = DateTimeFormat.ISO.DATE
+        ) LocalDate startDate,
+        @RequestParam(required = false) @DateTimeFormat(
+            iso = DateTimeFormat.ISO.DATE
+        ) LocalDate endDate
+    ) {
+        return ResponseEntity.ok(
+            paymentRollupService.check(startDate, endDate != null ? endDate.plusDays(1) : null)
+        );
+    }
+}
@@ -5,6 +5,7 @@ import com.tontin.platform.dto.round.request.CreateRoundsRequest;
 import com.tontin.platform.dto.round.request.RoundRequest;
 import com.tontin.platform.dto.round.response.RoundContributionsResponse;
 import com.tontin.platform.dto.round.response.RoundResponse;
+import com.tontin.platform.dto.round.response.UpcomingDueResponse;
 import com.tontin.platform.service.PaymentService;
 import com.tontin.platform.service.RoundService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -267,6 +268,44 @@ public class RoundController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Get the upcoming due dates across all darts of the current user.
+     *
+     * @param days horizon in days from now
+     * @param limit maximum number of entries
+     * @return open rounds in due-date order
+     */
+    @GetMapping(value = "/upcoming", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAnyRole('CLIENT', 'ADMIN')")
+    @Operation(
+        summary = "Get upcoming due dates",
+        description = "Open rounds of the current user's darts that the user has not paid yet (overdue first), " +
+        "including the rounds the user receives, read from the payout calendar stored at dart start"
+    )
+    @ApiResponses(
+        value = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Upcoming due dates retrieved successfully"
+            ),
+            @ApiResponse(responseCode = "400", description = "Invalid days or limit"),
+            @ApiResponse(
+                responseCode = "401",
+                description = "Unauthorized - authentication required"
+            ),
+        }
+    )
+    public ResponseEntity<List<UpcomingDueResponse>> getUpcomingDueDates(
+        @Parameter(description = "Horizon in days from now (1-366)", example = "30") @RequestParam(
+            defaultValue = "30"
+        ) int days,
+        @Parameter(description = "Maximum number of entries (1-100)", example = "20") @RequestParam(
+            defaultValue = "20"
+        ) int limit
+    ) {
+        return ResponseEntity.ok(roundService.getUpcomingDueDates(days, limit));
+    }
+
     /**
      * Get a round by ID.
      *
@@ -1,9 +1,12 @@
 package com.tontin.platform.controller;
 
+import com.tontin.platform.config.TokenRevocationRegistry;
+import com.tontin.platform.config.UserDetailsCache;
 import com.tontin.platform.domain.User;
 import com.tontin.platform.domain.enums.user.UserRole;
 import com.tontin.platform.domain.enums.user.UserStatus;
 import com.tontin.platform.repository.UserRepository;
+import com.tontin.platform.util.ImageUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -13,7 +16,6 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import java.util.Base64;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.UUID;
@@ -53,6 +55,8 @@ import org.springframework.web.server.ResponseStatusException;
 public class UserController {
 
     private final UserRepository userRepository;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final UserDetailsCache userDetailsCache;
 
     /**
      * Search users by username.
@@ -123,9 +127,7 @@ public class UserController {
             user.getId().toString(),
             user.getUserName(),
             user.getEmail(),
-            user.getPicture() != null
-                ? Base64.getEncoder().encodeToString(user.getPicture())
-                : null
+            ImageUtils.url(user.listPictureHash())
         );
     }
 
@@ -168,9 +170,7 @@ public class UserController {
                     user.getEmail(),
                     user.getRole() != null ? user.getRole().name() : null,
                     user.getStatus() != null ? user.getStatus().name() : null,
-                    user.getPicture() != null
-                        ? Base64.getEncoder().encodeToString(user.getPicture())
-                        : null
+                    ImageUtils.url(user.listPictureHash())
                 )
             )
             .toList();
@@ -206,6 +206,8 @@ public class UserController {
 
         user.setStatus(status);
         User saved = userRepository.save(user);
+        tokenRevocationRegistry.revoke(saved.getId());
+        userDetailsCache.evict(saved.getEmail());
         return ResponseEntity.ok(mapToAdminResponse(saved));
     }
 
@@ -227,6 +229,8 @@ public class UserController {
 
         user.setRole(role);
         User saved = userRepository.save(user);
+        tokenRevocationRegistry.revoke(saved.getId());
+        userDetailsCache.evict(saved.getEmail());
         return ResponseEntity.ok(mapToAdminResponse(saved));
     }
 
@@ -247,6 +251,8 @@ public class UserController {
 
         user.setStatus(UserStatus.DELETED);
         User saved = userRepository.save(user);
+        tokenRevocationRegistry.revoke(saved.getId());
+        userDetailsCache.evict(saved.getEmail());
         return ResponseEntity.ok(mapToAdminResponse(saved));
     }
 
@@ -257,9 +263,7 @@ public class UserController {
             user.getEmail(),
             user.getRole() != null ? user.getRole().name() : null,
             user.getStatus() != null ? user.getStatus().name() : null,
-            user.getPicture() != null
-                ? Base64.getEncoder().encodeToString(user.getPicture())
-                : null
+            ImageUtils.url(user.listPictureHash())
         );
     }
 
@@ -271,7 +275,7 @@ public class UserController {
         @Schema(description = "User ID", example = "123e4567-e89b-12d3-a456-426614174000") String id,
         @Schema(description = "Username", example = "johndoe") String userName,
         @Schema(description = "Email address", example = "john@example.com") String email,
-        @Schema(description = "Base64 encoded avatar image", example = "iVBORw0KGgoAAAANS...") String avatar
+        @Schema(description = "Avatar image URL (content-addressed, cacheable)") String avatar
     ) {}
 
     public record AdminUserResponse(
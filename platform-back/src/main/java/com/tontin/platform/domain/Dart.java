@@ -1,6 +1,7 @@
 package com.tontin.platform.domain;
 
 import com.tontin.platform.domain.enums.dart.DartStatus;
+import com.tontin.platform.domain.enums.dart.PaymentFrequency;
 import com.tontin.platform.domain.enums.round.OrderMethod;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
@@ -8,6 +9,9 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.DecimalMin;
@@ -26,7 +30,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "darts")
+@Table(
+    name = "darts",
+    indexes = { @Index(name = "idx_darts_picture_hash", columnList = "picture_hash") }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -63,17 +70,34 @@ public class Dart extends BaseEntity {
     @Column(name = "description", length = 500)
     private String description;
 
-    @NotBlank(message = "Payment Frequency is required")
+    @Enumerated(EnumType.STRING)
     @Column(name = "payment_frequency", nullable = false, length = 50)
-    private String paymentFrequency;
+    private PaymentFrequency paymentFrequency;
+
+    /** Hash of the original upload in {@code images}. */
+    @Column(name = "picture_hash", length = 64)
+    private String pictureHash;
+
+    /** Hash of the 64px variant in {@code images} (list views). */
+    @Column(name = "thumbnail_hash", length = 64)
+    private String thumbnailHash;
 
-    @Column(name = "picture", columnDefinition = "bytea")
-    private byte[] picture;
+    /** Hash of the 256px variant in {@code images} (detail views). */
+    @Column(name = "preview_hash", length = 64)
+    private String previewHash;
 
     @OneToMany(mappedBy = "dart", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     @Builder.Default
     private List<Member> members = new ArrayList<>();
 
+    /**
+     * Lowest-numbered INPAYED round, kept in sync by {@code RoundLifecycleService}.
+     * Null before rounds are created and once every round is paid.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "current_round_id")
+    private Round currentRound;
+
     // Business key equals/hashCode based on name and startDate
     @Override
     public boolean equals(Object o) {
@@ -114,6 +138,27 @@ public class Dart extends BaseEntity {
                 '}');
     }
 
+    // Picture handling
+    public void setPicture(String pictureHash, String thumbnailHash, String previewHash) {
+        this.pictureHash = pictureHash;
+        this.thumbnailHash = thumbnailHash;
+        this.previewHash = previewHash;
+    }
+
+    public void removePicture() {
+        setPicture(null, null, null);
+    }
+
+    /** Hash to show in lists: the 64px variant, or the original. */
+    public String listPictureHash() {
+        return thumbnailHash != null ? thumbnailHash : pictureHash;
+    }
+
+    /** Hash to show in detail views: the 256px variant, or the original. */
+    public String detailPictureHash() {
+        return previewHash != null ? previewHash : pictureHash;
+    }
+
     // Helper methods for bidirectional relationship
     public void addMember(Member member) {
         if (members == null) {
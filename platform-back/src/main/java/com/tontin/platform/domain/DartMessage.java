@@ -3,6 +3,7 @@ package com.tontin.platform.domain;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -24,7 +25,10 @@ import lombok.Setter;
  * Messages are deleted when the dart is deleted or when the dart is completed (FINISHED).
  */
 @Entity
-@Table(name = "dart_messages")
+@Table(
+    name = "dart_messages",
+    indexes = { @Index(name = "idx_dart_messages_dart_created", columnList = "dart_id, created_at") }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -22,7 +22,10 @@ import lombok.Setter;
 @Entity
 @Table(
     name = "dart_message_reactions",
-    uniqueConstraints = @jakarta.persistence.UniqueConstraint(columnNames = { "message_id", "member_id", "emoji" })
+    uniqueConstraints = @jakarta.persistence.UniqueConstraint(
+        name = "uk_dart_message_reactions_message_member_emoji",
+        columnNames = { "message_id", "member_id", "emoji" }
+    )
 )
 @Getter
 @Setter
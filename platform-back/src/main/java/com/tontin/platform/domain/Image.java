@@ -0,0 +1,80 @@
+package com.tontin.platform.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Content-addressed image: a user or dart picture as uploaded, or one of its
+ * thumbnail variants.
+ *
+ * <p>The primary key is the SHA-256 of {@link #content}, so identical images are
+ * stored once however many users or darts reference them. Rows are immutable.</p>
+ */
+@Entity
+@Table(name = "images")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Image {
+
+    @Id
+    @Column(name = "hash", length = 64, updatable = false, nullable = false)
+    private String hash;
+
+    @Column(name = "content_type", nullable = false, length = 50)
+    private String contentType;
+
+    @Column(name = "width", nullable = false)
+    private Integer width;
+
+    @Column(name = "height", nullable = false)
+    private Integer height;
+
+    @Column(name = "content", nullable = false, columnDefinition = "bytea")
+    private byte[] content;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Image image = (Image) o;
+        return hash != null && hash.equals(image.hash);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(hash);
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "Image{" +
+            "hash='" +
+            hash +
+            '\'' +
+            ", contentType='" +
+            contentType +
+            '\'' +
+            ", width=" +
+            width +
+            ", height=" +
+            height +
+            '}'
+        );
+    }
+}
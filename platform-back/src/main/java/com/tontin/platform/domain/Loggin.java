@@ -21,14 +21,21 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+/**
+ * Audit log row (auth events written by {@code AuthloggingAspect}).
+ *
+ * <p>On PostgreSQL the {@code logs} table is range-partitioned by month on
+ * {@code timestamp} (see {@code LogStorageServiceImpl}); expired months are dropped
+ * as whole partitions. Queries should always bound {@code timestamp} so that only
+ * the relevant partitions are scanned. Low-selectivity columns ({@code event},
+ * {@code status}) are intentionally not indexed.</p>
+ */
 @Entity
 @Table(
     name = "logs",
     indexes = {
         @Index(name = "idx_logs_timestamp", columnList = "timestamp"),
         @Index(name = "idx_logs_user_email", columnList = "user_email"),
-        @Index(name = "idx_logs_event", columnList = "event"),
-        @Index(name = "idx_logs_status", columnList = "status"),
         @Index(name = "idx_logs_request_id", columnList = "request_id"),
     }
 )
@@ -9,6 +9,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -25,7 +26,13 @@ import lombok.Setter;
  * A notification sent to a user (e.g. invitation, payment reminder, alert).
  */
 @Entity
-@Table(name = "notifications")
+@Table(
+    name = "notifications",
+    indexes = {
+        @Index(name = "idx_notifications_user_status_created", columnList = "user_id, status, created_at"),
+        @Index(name = "idx_notifications_user_created", columnList = "user_id, created_at"),
+    }
+)
 @Getter
 @Setter
 @NoArgsConstructor
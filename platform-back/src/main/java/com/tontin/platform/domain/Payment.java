@@ -6,6 +6,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -24,9 +25,19 @@ import lombok.Setter;
 /**
  * A payment represents a member's contribution for a specific round.
  * Links the payer (member), the round, amount, method and status.
+ * At most one PENDING payment exists per (round, payer): enforced by
+ * {@code uk_payments_pending_round_payer} in the vendor V4 migrations, which JPA cannot express.
  */
 @Entity
-@Table(name = "payments")
+@Table(
+    name = "payments",
+    indexes = {
+        @Index(name = "idx_payments_date_id", columnList = "payment_date, id"),
+        @Index(name = "idx_payments_round_status_payer", columnList = "round_id, payment_status, payer_member_id"),
+        @Index(name = "uk_payments_stripe_intent", columnList = "stripe_payment_intent_id", unique = true),
+        @Index(name = "idx_payments_payer_date", columnList = "payer_member_id, payment_date"),
+    }
+)
 @Getter
 @Setter
 @NoArgsConstructor
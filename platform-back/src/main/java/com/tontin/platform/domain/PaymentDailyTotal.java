@@ -0,0 +1,89 @@
+package com.tontin.platform.domain;
+
+import com.tontin.platform.domain.enums.payment.PaymentTotalKind;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Daily payment totals per (user, dart, kind), used by the reports dashboard instead
+ * of summing {@code payments} and {@code rounds} on every load.
+ *
+ * <p>Rows are maintained incrementally by {@code PaymentRollupService} in the same
+ * transaction as the payment or round change, and can be rebuilt from the source
+ * tables at any time. Payouts of rounds without a recipient are stored under
+ * {@link #NO_USER}: a NULL {@code user_id} would never match the unique key, so
+ * concurrent upserts would insert duplicates instead of adding up.</p>
+ */
+@Entity
+@Table(
+    name = "payment_daily_totals",
+    uniqueConstraints = {
+        @UniqueConstraint(
+            name = "uk_payment_daily_totals_key",
+            columnNames = { "user_id", "dart_id", "kind", "bucket_date" }
+        ),
+    },
+    indexes = {
+        @Index(name = "idx_payment_daily_totals_dart", columnList = "dart_id, kind, bucket_date"),
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaymentDailyTotal {
+
+    /** {@code user_id} of payouts without a recipient (the nil UUID). */
+    public static final UUID NO_USER = new UUID(0L, 0L);
+
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "dart_id", nullable = false)
+    private UUID dartId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind", nullable = false, length = 20)
+    private PaymentTotalKind kind;
+
+    @Column(name = "bucket_date", nullable = false)
+    private LocalDate bucketDate;
+
+    @Column(name = "amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "entry_count", nullable = false)
+    private Long entryCount;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PaymentDailyTotal other)) return false;
+        return id != null && id.equals(other.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
@@ -1,14 +1,17 @@
 package com.tontin.platform.domain;
 
+import com.tontin.platform.domain.enums.round.RoundDueStage;
 import com.tontin.platform.domain.enums.round.RoundStatus;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -21,7 +24,16 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "rounds")
+@Table(
+    name = "rounds",
+    uniqueConstraints = @UniqueConstraint(name = "uk_rounds_dart_number", columnNames = { "dart_id", "round_number" }),
+    indexes = {
+        @Index(name = "idx_rounds_dart_status_number", columnList = "dart_id, status, round_number"),
+        @Index(name = "idx_rounds_dart_status_date", columnList = "dart_id, status, round_date"),
+        @Index(name = "idx_rounds_recipient", columnList = "recipient_member_id"),
+        @Index(name = "idx_rounds_status_stage_date", columnList = "status, due_stage, round_date"),
+    }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -61,6 +73,31 @@ public class Round extends BaseEntity {
     @JoinColumn(name = "recipient_member_id", nullable = true)
     private Member recipient;
 
+    /**
+     * Number of payers needed to close the round: the active members minus the
+     * recipient, fixed when the round is created.
+     */
+    @Column(name = "expected_payer_count", nullable = false)
+    private Integer expectedPayerCount;
+
+    /**
+     * Number of distinct members with a PAYED payment for this round. Only changed by
+     * {@code RoundRepository.incrementPaidCount} (hence not updatable), so concurrent
+     * payers never conflict on the round's version.
+     */
+    @Builder.Default
+    @Column(name = "paid_count", nullable = false, updatable = false)
+    private Integer paidCount = 0;
+
+    /**
+     * Progress of the due-date scheduler on this round. Only changed by
+     * {@code RoundRepository.advanceDueStage} (hence not updatable).
+     */
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(name = "due_stage", nullable = false, length = 20, updatable = false)
+    private RoundDueStage dueStage = RoundDueStage.SCHEDULED;
+
     public boolean isPayed() {
         return RoundStatus.PAYED.equals(status);
     }
@@ -0,0 +1,108 @@
+package com.tontin.platform.domain;
+
+import com.tontin.platform.domain.enums.payment.WebhookEventStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A verified Stripe webhook event waiting for, or done with, background processing.
+ *
+ * <p>{@code eventId} is Stripe's event id, unique so redelivered events are stored
+ * once. Events sharing an {@code orderingKey} (the round of the payment) are processed
+ * one at a time in {@code receivedAt} order. State changes go through the conditional
+ * updates of {@code StripeWebhookEventRepository}, never through entity saves.</p>
+ */
+@Entity
+@Table(
+    name = "stripe_webhook_events",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_stripe_webhook_events_event_id", columnNames = "event_id"),
+    },
+    indexes = {
+        @Index(name = "idx_stripe_webhook_events_status_next", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_stripe_webhook_events_key_received", columnList = "ordering_key, received_at"),
+        @Index(name = "idx_stripe_webhook_events_status_processed", columnList = "status, processed_at"),
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StripeWebhookEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "received_at", nullable = false, updatable = false)
+    private LocalDateTime receivedAt;
+
+    @Column(name = "event_id", nullable = false, updatable = false)
+    private String eventId;
+
+    @Column(name = "event_type", nullable = false, length = 100, updatable = false)
+    private String eventType;
+
+    /** Id of the Stripe object the event is about (e.g. the PaymentIntent). */
+    @Column(name = "object_id", updatable = false)
+    private String objectId;
+
+    @Column(name = "ordering_key", nullable = false, updatable = false)
+    private String orderingKey;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT", updatable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private WebhookEventStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    /** X-Request-Id of the delivery that stored the event, for log correlation. */
+    @Column(name = "request_id", length = 100, updatable = false)
+    private String requestId;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof StripeWebhookEvent other)) return false;
+        return id != null && id.equals(other.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
@@ -8,6 +8,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
@@ -26,7 +27,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "users")
+@Table(
+    name = "users",
+    indexes = { @Index(name = "idx_users_picture_hash", columnList = "picture_hash") }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -77,8 +81,17 @@ public class User extends BaseEntity {
     @Builder.Default
     private UserRole role = UserRole.ROLE_CLIENT;
 
-    @Column(name = "picture", columnDefinition = "bytea")
-    private byte[] picture;
+    /** Hash of the original upload in {@code images}. */
+    @Column(name = "picture_hash", length = 64)
+    private String pictureHash;
+
+    /** Hash of the 64px variant in {@code images} (list views). */
+    @Column(name = "thumbnail_hash", length = 64)
+    private String thumbnailHash;
+
+    /** Hash of the 256px variant in {@code images} (detail views). */
+    @Column(name = "preview_hash", length = 64)
+    private String previewHash;
 
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false, length = 20)
@@ -149,6 +162,27 @@ public void addMember(Member member) {
 
 
 
+    // Picture handling
+    public void setPicture(String pictureHash, String thumbnailHash, String previewHash) {
+        this.pictureHash = pictureHash;
+        this.thumbnailHash = thumbnailHash;
+        this.previewHash = previewHash;
+    }
+
+    public void removePicture() {
+        setPicture(null, null, null);
+    }
+
+    /** Hash to show in lists: the 64px variant, or the original. */
+    public String listPictureHash() {
+        return thumbnailHash != null ? thumbnailHash : pictureHash;
+    }
+
+    /** Hash to show in detail views: the 256px variant, or the original. */
+    public String detailPictureHash() {
+        return previewHash != null ? previewHash : pictureHash;
+    }
+
     // Business methods
     public boolean isVerified() {
         return (
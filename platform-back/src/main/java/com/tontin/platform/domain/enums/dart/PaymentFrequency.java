@@ -0,0 +1,93 @@
+package com.tontin.platform.domain.enums.dart;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * How often a dart collects contributions and pays out a round. API values are the
+ * historical strings (WEEKLY, BI-WEEKLY, MONTH, QUARTERLY); the database stores the
+ * constant name.
+ *
+ * <p>Due dates use calendar arithmetic: round {@code n} falls {@code n} periods after
+ * the start, computed from the start date (not by chaining), so a dart started on the
+ * 31st pays on the last day of shorter months and returns to the 31st afterwards.</p>
+ */
+public enum PaymentFrequency {
+
+    WEEKLY("WEEKLY", Period.ofWeeks(1)),
+    BI_WEEKLY("BI-WEEKLY", Period.ofWeeks(2)),
+    MONTHLY("MONTH", Period.ofMonths(1)),
+    QUARTERLY("QUARTERLY", Period.ofMonths(3));
+
+    private final String apiValue;
+    private final Period period;
+
+    PaymentFrequency(String apiValue, Period period) {
+        this.apiValue = apiValue;
+        this.period = period;
+    }
+
+    @JsonValue
+    public String getApiValue() {
+        return apiValue;
+    }
+
+    public Period getPeriod() {
+        return period;
+    }
+
+    /**
+     * Accepts the API value, the constant name and the legacy spellings
+     * (MONTHLY, BIWEEKLY), case-insensitively.
+     *
+     * @return the frequency, or null if the value is unknown (rejected by validation)
+     */
+    @JsonCreator
+    public static PaymentFrequency fromApiValue(String value) {
+        if (value == null) return null;
+        String normalized = value.trim().toUpperCase().replace('_', '-');
+        return switch (normalized) {
+            case "WEEKLY" -> WEEKLY;
+            case "BI-WEEKLY", "BIWEEKLY" -> BI_WEEKLY;
+            case "MONTH", "MONTHLY" -> MONTHLY;
+            case "QUARTERLY" -> QUARTERLY;
+            default -> null;
+        };
+    }
+
+    /**
+     * Due date of a round: round 1 is one period after the start.
+     *
+     * @param startDate   the dart start date
+     * @param roundNumber the round number (1-based)
+     * @return the date when the round is due and paid out
+     */
+    public LocalDateTime dueDate(LocalDateTime startDate, int roundNumber) {
+        if (startDate == null) {
+            throw new IllegalArgumentException("Start date cannot be null");
+        }
+        if (roundNumber < 1) {
+            throw new IllegalArgumentException("Round number must be >= 1");
+        }
+        return startDate.plus(period.multipliedBy(roundNumber));
+    }
+
+    /**
+     * Full payout calendar of a dart: the due dates of rounds 1 to {@code rounds}.
+     *
+     * @param startDate the dart start date
+     * @param rounds    number of rounds
+     * @return due dates in round order
+     */
+    public List<LocalDateTime> calendar(LocalDateTime startDate, int rounds) {
+        List<LocalDateTime> dates = new ArrayList<>(rounds);
+        for (int number = 1; number <= rounds; number++) {
+            dates.add(dueDate(startDate, number));
+        }
+        return dates;
+    }
+}
@@ -0,0 +1,89 @@
+package com.tontin.platform.domain.enums.payment;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.TextStyle;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+
+/**
+ * Bucket size of the payment charts. Buckets are computed from calendar dates in
+ * Java, so the chart queries need no database-specific date functions.
+ *
+ * <ul>
+ *   <li>{@link #DAY} – one bucket per day.</li>
+ *   <li>{@link #WEEK} – ISO weeks, starting on Monday.</li>
+ *   <li>{@link #MONTH} – calendar months.</li>
+ *   <li>{@link #QUARTER} – calendar quarters.</li>
+ * </ul>
+ */
+public enum ChartGranularity {
+
+    DAY,
+
+    WEEK,
+
+    MONTH,
+
+    QUARTER;
+
+    /**
+     * @param day any day
+     * @return the first day of the bucket containing {@code day}
+     */
+    public LocalDate bucketStart(LocalDate day) {
+        return switch (this) {
+            case DAY -> day;
+            case WEEK -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> day.withDayOfMonth(1);
+            case QUARTER -> day.withDayOfMonth(1).withMonth(((day.getMonthValue() - 1) / 3) * 3 + 1);
+        };
+    }
+
+    /**
+     * @param bucketStart the first day of a bucket
+     * @return the first day of the following bucket
+     */
+    public LocalDate next(LocalDate bucketStart) {
+        return switch (this) {
+            case DAY -> bucketStart.plusDays(1);
+            case WEEK -> bucketStart.plusWeeks(1);
+            case MONTH -> bucketStart.plusMonths(1);
+            case QUARTER -> bucketStart.plusMonths(3);
+        };
+    }
+
+    /**
+     * @param bucketStart the first day of a bucket
+     * @return display label, e.g. {@code 2025-01-06}, {@code W02 2025}, {@code Jan 2025}, {@code Q1 2025}
+     */
+    public String label(LocalDate bucketStart) {
+        return switch (this) {
+            case DAY -> bucketStart.toString();
+            case WEEK -> String.format(
+                Locale.US,
+                "W%02d %d",
+                bucketStart.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR),
+                bucketStart.get(IsoFields.WEEK_BASED_YEAR)
+            );
+            case MONTH -> bucketStart.getMonth().getDisplayName(TextStyle.SHORT, Locale.US) +
+                " " + bucketStart.getYear();
+            case QUARTER -> "Q" + ((bucketStart.getMonthValue() - 1) / 3 + 1) + " " + bucketStart.getYear();
+        };
+    }
+
+    /**
+     * Parses a request parameter, case-insensitively.
+     *
+     * @param raw the parameter value, may be null
+     * @return the granularity, {@link #MONTH} when absent
+     * @throws IllegalArgumentException if the value is unknown
+     */
+    public static ChartGranularity from(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return MONTH;
+        }
+        return valueOf(raw.trim().toUpperCase(Locale.ROOT));
+    }
+}
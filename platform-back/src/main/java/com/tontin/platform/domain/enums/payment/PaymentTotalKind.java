@@ -0,0 +1,30 @@
+package com.tontin.platform.domain.enums.payment;
+
+/**
+ * What a {@code payment_daily_totals} row sums.
+ *
+ * <ul>
+ *   <li>{@link #PAYED}, {@link #PENDING}, {@link #CANCELLED} – contributions in that
+ *   {@link PaymentStatus}, bucketed by payment date and keyed by the payer's user.</li>
+ *   <li>{@link #PAYOUT} – amounts of PAYED rounds, bucketed by round date and keyed by
+ *   the recipient's user.</li>
+ * </ul>
+ */
+public enum PaymentTotalKind {
+
+    PENDING,
+
+    PAYED,
+
+    CANCELLED,
+
+    PAYOUT;
+
+    public static PaymentTotalKind of(PaymentStatus status) {
+        return switch (status) {
+            case PENDING -> PENDING;
+            case PAYED -> PAYED;
+            case CANCELLED -> CANCELLED;
+        };
+    }
+}
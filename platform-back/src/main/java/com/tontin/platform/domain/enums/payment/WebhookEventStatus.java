@@ -0,0 +1,22 @@
+package com.tontin.platform.domain.enums.payment;
+
+/**
+ * Processing state of a stored Stripe webhook event.
+ *
+ * <ul>
+ *   <li>{@link #PENDING} – waiting for a worker (new, or retrying after a failure).</li>
+ *   <li>{@link #PROCESSING} – claimed by a worker until its lease expires.</li>
+ *   <li>{@link #PROCESSED} – handled; kept for de-duplication until the retention cleanup.</li>
+ *   <li>{@link #DEAD} – gave up after the maximum number of attempts (dead letter).</li>
+ * </ul>
+ */
+public enum WebhookEventStatus {
+
+    PENDING,
+
+    PROCESSING,
+
+    PROCESSED,
+
+    DEAD
+}
@@ -0,0 +1,28 @@
+package com.tontin.platform.domain.enums.round;
+
+/**
+ * How far the due-date scheduler has taken an open round.
+ *
+ * <ul>
+ *   <li>{@link #SCHEDULED} – nothing sent yet.</li>
+ *   <li>{@link #REMINDED} – the payment window opened and unpaid payers were reminded.</li>
+ *   <li>{@link #OVERDUE} – the round is past its date (plus grace) and unpaid payers were flagged.</li>
+ * </ul>
+ */
+public enum RoundDueStage {
+
+    /**
+     * No reminder sent yet.
+     */
+    SCHEDULED,
+
+    /**
+     * Payment reminders sent.
+     */
+    REMINDED,
+
+    /**
+     * Overdue payers flagged; the scheduler is done with the round.
+     */
+    OVERDUE
+}
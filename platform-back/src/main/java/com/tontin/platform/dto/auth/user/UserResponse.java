@@ -70,8 +70,11 @@ public record UserResponse(
     )
     UserRole role,
 
-    @Schema(description = "User profile picture stored as binary data")
-    byte[] picture,
+    @Schema(
+        description = "URL of the user's profile picture (256px variant)",
+        example = "https://api.example.com/api/v1/images/9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08"
+    )
+    String picture,
 
     @Schema(
         description = "Current status of the user account",
@@ -1,5 +1,6 @@
 package com.tontin.platform.dto.dart.request;
 
+import com.tontin.platform.domain.enums.dart.PaymentFrequency;
 import com.tontin.platform.domain.enums.round.OrderMethod;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.annotation.Nullable;
@@ -78,20 +79,14 @@ public record DartRequest(
     )
     String description,
 
-    @NotNull(message = "Payment Frequency cannot be null")
-    @NotBlank(message = "Payment Frequency is required")
-    @Size(
-        min = 3,
-        max = 50,
-        message = "Payment Frequency must be between 3 and 50 characters"
-    )
+    @NotNull(message = "Payment Frequency must be one of WEEKLY, BI-WEEKLY, MONTH, QUARTERLY")
     @Schema(
         description = "Payment Frequency used to allocate funds (e.g., Weekly, Bi-Weekly, Month, Quarterly)",
         example = "MONTH",
         requiredMode = Schema.RequiredMode.REQUIRED,
         allowableValues = { "WEEKLY", "BI-WEEKLY", "MONTH", "QUARTERLY" }
     )
-    String paymentFrequency,
+    PaymentFrequency paymentFrequency,
 
     @Nullable
     @Schema(
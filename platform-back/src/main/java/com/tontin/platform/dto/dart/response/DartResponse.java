@@ -1,6 +1,7 @@
 package com.tontin.platform.dto.dart.response;
 
 import com.tontin.platform.domain.enums.dart.DartStatus;
+import com.tontin.platform.domain.enums.dart.PaymentFrequency;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -81,7 +82,7 @@ public record DartResponse(
         example = "MONTH",
         allowableValues = { "WEEKLY", "BI-WEEKLY", "MONTH", "QUARTERLY" }
     )
-    String paymentFrequency,
+    PaymentFrequency paymentFrequency,
 
     @Schema(
         description = "Current status of the dart",
@@ -46,6 +46,9 @@ public class PageResponse<T> {
     @Schema(description = "Whether there are pages before this one", example = "false")
     private boolean hasPrevious;
 
+    @Schema(description = "Cursor of the next page in cursor mode; null on the last page or in page mode")
+    private String nextCursor;
+
     /**
      * Creates a PageResponse from Spring Data Page object.
      *
@@ -66,4 +69,38 @@ public class PageResponse<T> {
             .hasPrevious(page.hasPrevious())
             .build();
     }
+
+    /**
+     * Creates a PageResponse for cursor (keyset) pagination. Page numbers are not
+     * known in this mode, so {@code page} is 0 and {@code totalElements} /
+     * {@code totalPages} are -1 unless a total was counted.
+     *
+     * @param content    the rows of this page
+     * @param size       requested page size
+     * @param first      whether this page was requested without a cursor
+     * @param nextCursor cursor of the next page, or null if this is the last one
+     * @param total      total number of matching rows, or null if not counted
+     * @param <T> the type of content
+     * @return PageResponse containing the page data
+     */
+    public static <T> PageResponse<T> ofCursor(
+        List<T> content,
+        int size,
+        boolean first,
+        String nextCursor,
+        Long total
+    ) {
+        return PageResponse.<T>builder()
+            .content(content)
+            .page(0)
+            .size(size)
+            .totalElements(total != null ? total : -1)
+            .totalPages(total != null ? (int) ((total + size - 1) / size) : -1)
+            .first(first)
+            .last(nextCursor == null)
+            .hasNext(nextCursor != null)
+            .hasPrevious(!first)
+            .nextCursor(nextCursor)
+            .build();
+    }
 }
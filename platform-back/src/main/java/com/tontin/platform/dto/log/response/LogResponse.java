@@ -0,0 +1,16 @@
+package com.tontin.platform.dto.log.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Single audit log entry")
+public record LogResponse(
+    @Schema(description = "Log entry UUID") String id,
+    @Schema(description = "ISO-8601 event timestamp") String timestamp,
+    @Schema(description = "Correlation id of the HTTP request") String requestId,
+    @Schema(description = "Service method name", example = "login") String event,
+    @Schema(description = "Source class") String path,
+    @Schema(description = "SUCCESS or FAILURE") String status,
+    @Schema(description = "User email, when known") String userEmail,
+    @Schema(description = "Environment", example = "PRODUCTION") String env,
+    @Schema(description = "Error message for failed events") String errorMessage
+) {}
@@ -86,7 +86,7 @@ public record MemberResponse(
             description = "User email address",
             example = "john.doe@example.com"
         ) String email,
-        @Schema(description = "Profile picture as base64 (JPEG/PNG)") String picture
+        @Schema(description = "Profile picture URL (content-addressed, cacheable)") String picture
     ) {}
 
     /**
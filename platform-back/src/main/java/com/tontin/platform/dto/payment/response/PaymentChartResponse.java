@@ -0,0 +1,20 @@
+package com.tontin.platform.dto.payment.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import java.util.List;
+
+@Schema(description = "Bucketed PAYED contribution totals, optionally broken down per dart")
+public record PaymentChartResponse(
+    @Schema(description = "DAY, WEEK, MONTH or QUARTER", example = "MONTH") String granularity,
+    @Schema(description = "Bucket labels, e.g. Jan 2025 or Q1 2025") List<String> labels,
+    @Schema(description = "ISO date of the first day of each bucket") List<String> bucketStarts,
+    @Schema(description = "Total per bucket (all darts in the filter)") List<BigDecimal> total,
+    @Schema(description = "One series per dart when the breakdown was requested, otherwise empty") List<Series> series
+) {
+    public record Series(
+        @Schema(description = "Dart UUID") String dartId,
+        @Schema(description = "Dart display name") String dartName,
+        @Schema(description = "Value per bucket, aligned with labels") List<BigDecimal> values
+    ) {}
+}
@@ -0,0 +1,24 @@
+package com.tontin.platform.dto.payment.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import java.util.List;
+
+@Schema(description = "Result of comparing payment_daily_totals with payments and rounds")
+public record PaymentRollupCheckResponse(
+    @Schema(description = "True when every daily total matches the source tables") boolean consistent,
+    @Schema(description = "Number of (user, dart, kind, day) keys compared") long checkedKeys,
+    @Schema(description = "Number of keys whose totals differ") long mismatchCount,
+    @Schema(description = "First mismatching keys (capped)") List<Mismatch> mismatches
+) {
+    public record Mismatch(
+        String userId,
+        String dartId,
+        String kind,
+        String date,
+        BigDecimal expectedAmount,
+        BigDecimal storedAmount,
+        long expectedCount,
+        long storedCount
+    ) {}
+}
@@ -0,0 +1,32 @@
+package com.tontin.platform.dto.round.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Builder;
+
+/**
+ * Next due date of one of the current user's darts: a contribution to pay, or a
+ * payout to receive when the user is the round's recipient.
+ */
+@Builder
+@Schema(description = "Upcoming due date of a round in one of the current user's darts")
+public record UpcomingDueResponse(
+    @Schema(description = "Dart id")
+    UUID dartId,
+    @Schema(description = "Dart name")
+    String dartName,
+    @Schema(description = "Round id")
+    UUID roundId,
+    @Schema(description = "Round number", example = "3")
+    Integer roundNumber,
+    @Schema(description = "Date the round is due (earlier than now when overdue)")
+    LocalDateTime dueDate,
+    @Schema(description = "Amount the user pays for this round (0 when the user is the recipient)", example = "100.00")
+    BigDecimal amountDue,
+    @Schema(description = "Amount paid out to the round's recipient", example = "1000.00")
+    Double payoutAmount,
+    @Schema(description = "Whether the user receives this round's payout")
+    boolean recipient
+) {}
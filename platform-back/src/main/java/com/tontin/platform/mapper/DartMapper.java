@@ -1,9 +1,12 @@
 package com.tontin.platform.mapper;
 
 import com.tontin.platform.domain.Dart;
-import com.tontin.platform.domain.User;
 import com.tontin.platform.dto.dart.request.DartRequest;
 import com.tontin.platform.dto.dart.response.DartResponse;
+import com.tontin.platform.repository.projection.DartMemberRow;
+import com.tontin.platform.repository.projection.DartRoundStats;
+import com.tontin.platform.util.ImageUtils;
+import java.util.List;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -68,52 +71,89 @@ public interface DartMapper {
         if (dart == null) {
             return null;
         }
+        List<DartMemberRow> members = dart.getMembers() == null
+            ? List.of()
+            : dart
+                .getMembers()
+                .stream()
+                .map(m ->
+                    new DartMemberRow(
+                        dart.getId(),
+                        m.getUser().getId(),
+                        m.getUser().getUserName(),
+                        m.getUser().listPictureHash(),
+                        m.getPermission(),
+                        m.getStatus()
+                    )
+                )
+                .toList();
+        return toResponse(
+            dart,
+            currentUserId,
+            new DartRoundStats(dart.getId(), paidRounds, totalRounds, nextPayoutDate),
+            members,
+            dart.detailPictureHash()
+        );
+    }
 
-        // Find the organizer member
-        User organizer = dart
-            .getMembers()
+    /**
+     * Maps a Dart for list views from data loaded in bulk by the listing queries,
+     * without touching the lazy {@code members} collection.
+     *
+     * @param dart             the dart entity
+     * @param currentUserId    the ID of the current authenticated user
+     * @param stats            round aggregates for this dart
+     * @param members          member rows of this dart (all statuses)
+     * @return the dart response
+     */
+    default DartResponse toListItem(
+        Dart dart,
+        java.util.UUID currentUserId,
+        DartRoundStats stats,
+        List<DartMemberRow> members
+    ) {
+        if (dart == null) {
+            return null;
+        }
+        return toResponse(dart, currentUserId, stats, members, dart.listPictureHash());
+    }
+
+    /**
+     * The one DartResponse mapping behind {@link #toDtoWithContext} and
+     * {@link #toListItem}, from member rows and round aggregates.
+     *
+     * @param dart          the dart entity (its {@code members} are not read)
+     * @param currentUserId the ID of the current authenticated user
+     * @param stats         round aggregates for this dart
+     * @param members       member rows of this dart (all statuses)
+     * @param imageHash     hash of the dart picture variant to link, or null
+     * @return the dart response
+     */
+    private DartResponse toResponse(
+        Dart dart,
+        java.util.UUID currentUserId,
+        DartRoundStats stats,
+        List<DartMemberRow> members,
+        String imageHash
+    ) {
+        DartMemberRow organizer = members
             .stream()
             .filter(
                 m ->
-                    m.getPermission() ==
+                    m.permission() ==
                     com.tontin.platform.domain.enums.dart.DartPermission.ORGANIZER
             )
             .findFirst()
-            .map(m -> m.getUser())
             .orElse(null);
-
-        // Check if current user is organizer
-        boolean isOrganizer = dart
-            .getMembers()
-            .stream()
-            .anyMatch(
-                m ->
-                    m.getUser().getId().equals(currentUserId) &&
-                    m.getPermission() ==
-                    com.tontin.platform.domain.enums.dart.DartPermission.ORGANIZER
-            );
-
-        // Find current user's member record
-        var currentUserMember = dart
-            .getMembers()
+        DartMemberRow currentUserMember = members
             .stream()
-            .filter(m -> m.getUser().getId().equals(currentUserId))
+            .filter(m -> m.userId().equals(currentUserId))
             .findFirst()
             .orElse(null);
 
-        // Get current user's permission and status
-        String userPermission =
-            currentUserMember != null
-                ? currentUserMember.getPermission().name()
-                : null;
-        String userMemberStatus =
-            currentUserMember != null
-                ? currentUserMember.getStatus().name()
-                : null;
-
-        // When no rounds have been created yet, fall back to member count
-        long effectiveTotalCycles =
-            totalRounds > 0 ? totalRounds : dart.getMemberCount();
+        long paidRounds = stats.paidRounds() != null ? stats.paidRounds() : 0L;
+        long totalRounds = stats.totalRounds() != null ? stats.totalRounds() : 0L;
+        long effectiveTotalCycles = totalRounds > 0 ? totalRounds : members.size();
 
         return DartResponse.builder()
             .id(dart.getId())
@@ -128,28 +168,26 @@ public interface DartMapper {
             .description(dart.getDescription())
             .paymentFrequency(dart.getPaymentFrequency())
             .status(dart.getStatus())
-            .memberCount(dart.getMemberCount())
+            .memberCount(members.size())
             .totalMonthlyPool(dart.getMonthlyContribution())
-            .organizerId(organizer != null ? organizer.getId() : null)
-            .organizerName(organizer != null ? organizer.getUserName() : null)
-            .organizerAvatar(
-                organizer != null && organizer.getPicture() != null
-                    ? java.util.Base64.getEncoder().encodeToString(
-                          organizer.getPicture()
-                      )
-                    : null
+            .organizerId(organizer != null ? organizer.userId() : null)
+            .organizerName(organizer != null ? organizer.userName() : null)
+            .organizerAvatar(organizer != null ? ImageUtils.url(organizer.pictureHash()) : null)
+            .isOrganizer(
+                currentUserMember != null &&
+                currentUserMember.permission() ==
+                com.tontin.platform.domain.enums.dart.DartPermission.ORGANIZER
+            )
+            .userPermission(
+                currentUserMember != null ? currentUserMember.permission().name() : null
+            )
+            .userMemberStatus(
+                currentUserMember != null ? currentUserMember.status().name() : null
             )
-            .isOrganizer(isOrganizer)
-            .userPermission(userPermission)
-            .userMemberStatus(userMemberStatus)
             .currentCycle((int) paidRounds)
             .totalCycles((int) effectiveTotalCycles)
-            .nextPayoutDate(nextPayoutDate)
-            .image(
-                dart.getPicture() != null && dart.getPicture().length > 0
-                    ? java.util.Base64.getEncoder().encodeToString(dart.getPicture())
-                    : null
-            )
+            .nextPayoutDate(stats.nextPayoutDate())
+            .image(ImageUtils.url(imageHash))
             .customRules(dart.getCustomRules())
             .createdAt(dart.getCreatedAt())
             .updatedAt(dart.getUpdatedAt())
@@ -5,6 +5,7 @@ import com.tontin.platform.domain.Member;
 import com.tontin.platform.domain.User;
 import com.tontin.platform.dto.member.request.MemberRequest;
 import com.tontin.platform.dto.member.response.MemberResponse;
+import com.tontin.platform.util.ImageUtils;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -40,14 +41,11 @@ public class MemberMapper {
             return null;
         }
 
-        String pictureB64 = user.getPicture() != null && user.getPicture().length > 0
-            ? java.util.Base64.getEncoder().encodeToString(user.getPicture())
-            : null;
         return MemberResponse.UserInfo.builder()
             .id(user.getId())
             .userName(user.getUserName())
             .email(user.getEmail())
-            .picture(pictureB64)
+            .picture(ImageUtils.url(user.listPictureHash()))
             .build();
     }
 
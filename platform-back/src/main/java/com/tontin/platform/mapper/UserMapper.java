@@ -1,11 +1,14 @@
 package com.tontin.platform.mapper;
 
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 import com.tontin.platform.domain.User;
 import com.tontin.platform.dto.auth.user.UserResponse;
+import com.tontin.platform.util.ImageUtils;
 
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", imports = ImageUtils.class)
 public interface UserMapper {
+    @Mapping(target = "picture", expression = "java(ImageUtils.url(user.detailPictureHash()))")
     UserResponse toDto(User user); 
 }
@@ -2,11 +2,13 @@ package com.tontin.platform.repository;
 
 import com.tontin.platform.domain.Dart;
 import com.tontin.platform.domain.enums.dart.DartStatus;
+import jakarta.persistence.LockModeType;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -18,6 +20,34 @@ public interface DartRepository extends JpaRepository<Dart, UUID> {
         "SELECT DISTINCT d FROM Dart d LEFT JOIN FETCH d.members WHERE d.id = :id"
     )
     Optional<Dart> findByIdWithMembers(@Param("id") UUID id);
+
+    /**
+     * Load dart with members and their users in one query (round generation maps every
+     * recipient's user into the response).
+     */
+    @Query(
+        "SELECT DISTINCT d FROM Dart d LEFT JOIN FETCH d.members m LEFT JOIN FETCH m.user WHERE d.id = :id"
+    )
+    Optional<Dart> findByIdWithMemberUsers(@Param("id") UUID id);
+
+    /**
+     * Find a dart with its current round, the round's recipient and the recipient's
+     * user loaded in one query.
+     */
+    @Query(
+        "SELECT d FROM Dart d LEFT JOIN FETCH d.currentRound r LEFT JOIN FETCH r.recipient rec " +
+        "LEFT JOIN FETCH rec.user WHERE d.id = :id"
+    )
+    Optional<Dart> findByIdWithCurrentRound(@Param("id") UUID id);
+
+    /**
+     * Load a dart and lock its row until the end of the transaction. Serializes round
+     * transitions of one dart across instances (see RoundLifecycleService).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM Dart d WHERE d.id = :id")
+    Optional<Dart> findByIdForUpdate(@Param("id") UUID id);
+
     /**
      * Find all darts where the user is a member
      *
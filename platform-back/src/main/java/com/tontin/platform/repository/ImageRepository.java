@@ -0,0 +1,6 @@
+package com.tontin.platform.repository;
+
+import com.tontin.platform.domain.Image;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ImageRepository extends JpaRepository<Image, String> {}
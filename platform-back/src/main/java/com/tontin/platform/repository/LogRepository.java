@@ -3,9 +3,11 @@ package com.tontin.platform.repository;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
 import com.tontin.platform.domain.Loggin;
 
-public interface LogRepository extends JpaRepository<Loggin, UUID>{
+public interface LogRepository
+    extends JpaRepository<Loggin, UUID>, JpaSpecificationExecutor<Loggin> {
     
 }
@@ -3,10 +3,15 @@ package com.tontin.platform.repository;
 import com.tontin.platform.domain.Member;
 import com.tontin.platform.domain.enums.dart.DartPermission;
 import com.tontin.platform.domain.enums.member.MemberStatus;
+import com.tontin.platform.repository.projection.DartMemberRow;
+import com.tontin.platform.repository.projection.PaymentEligibilityRow;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemberRepository extends JpaRepository<Member, UUID> {
     Optional<Member> findByIdAndDartId(UUID memberId, UUID dartId);
@@ -26,4 +31,46 @@ public interface MemberRepository extends JpaRepository<Member, UUID> {
     long countByDartIdAndStatus(UUID dartId, MemberStatus status);
 
     List<Member> findAllByDartId(UUID dartId);
+
+    /**
+     * Member rows (user id, username, picture hash, permission, status) of several darts in one query,
+     * without loading Member or User entities.
+     */
+    @Query(
+        """
+        SELECT new com.tontin.platform.repository.projection.DartMemberRow(
+            m.dart.id, u.id, u.userName, COALESCE(u.thumbnailHash, u.pictureHash), m.permission, m.status
+        )
+        FROM Member m JOIN m.user u
+        WHERE m.dart.id IN :dartIds
+        """
+    )
+    List<DartMemberRow> findMemberRowsByDartIds(@Param("dartIds") Collection<UUID> dartIds);
+
+    /**
+     * Membership, contribution, current round, recipient and already-paid flag for a
+     * user in a dart, in one query. Empty when the user is not a member; the round
+     * columns are null when no round is open.
+     */
+    @Query(
+        """
+        SELECT new com.tontin.platform.repository.projection.PaymentEligibilityRow(
+            m.id, d.id, d.monthlyContribution, r.id, r.number, r.date, rec.id,
+            CASE WHEN EXISTS (
+                SELECT 1 FROM Payment p
+                WHERE p.round = r AND p.payer = m
+                AND p.paymentStatus = com.tontin.platform.domain.enums.payment.PaymentStatus.PAYED
+            ) THEN true ELSE false END
+        )
+        FROM Member m
+        JOIN m.dart d
+        LEFT JOIN d.currentRound r
+        LEFT JOIN r.recipient rec
+        WHERE d.id = :dartId AND m.user.id = :userId
+        """
+    )
+    Optional<PaymentEligibilityRow> findPaymentEligibility(
+        @Param("dartId") UUID dartId,
+        @Param("userId") UUID userId
+    );
 }
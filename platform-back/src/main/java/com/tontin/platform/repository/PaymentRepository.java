@@ -17,6 +17,14 @@ public interface PaymentRepository
 
     List<Payment> findAllByPayerIdOrderByDateDesc(UUID payerMemberId);
 
+    /** Dart of the payment's round, to serialize the payment's round transition. */
+    @Query("SELECT p.round.dart.id FROM Payment p WHERE p.id = :paymentId")
+    java.util.Optional<UUID> findDartIdByPaymentId(@Param("paymentId") UUID paymentId);
+
+    /** Dart of the round paid by a Stripe intent, to serialize the webhook's round transition. */
+    @Query("SELECT p.round.dart.id FROM Payment p WHERE p.stripePaymentIntentId = :intentId")
+    java.util.Optional<UUID> findDartIdByStripePaymentIntentId(@Param("intentId") String intentId);
+
     @Query(
         "SELECT p FROM Payment p WHERE p.round.dart.id = :dartId ORDER BY p.date DESC"
     )
@@ -35,6 +43,16 @@ public interface PaymentRepository
 
     long countByRoundIdAndPaymentStatus(UUID roundId, PaymentStatus status);
 
+    /**
+     * The payer's PENDING payment of a round; at most one exists
+     * ({@code uk_payments_pending_round_payer}).
+     */
+    java.util.Optional<Payment> findByRoundIdAndPayerIdAndPaymentStatus(
+        UUID roundId,
+        UUID payerMemberId,
+        PaymentStatus status
+    );
+
     java.util.Optional<Payment> findByStripePaymentIntentId(
         String stripePaymentIntentId
     );
@@ -64,20 +82,6 @@ public interface PaymentRepository
         @Param("status") PaymentStatus status
     );
 
-    /**
-     * Count distinct payers (by member id) who have a payment with the given
-     * status for a round. Used instead of countByRoundIdAndPaymentStatus so
-     * that a member who paid twice for the same round is only counted once
-     * when deciding whether the round should be closed.
-     */
-    @Query(
-        "SELECT COUNT(DISTINCT p.payer.id) FROM Payment p WHERE p.round.id = :roundId AND p.paymentStatus = :status"
-    )
-    long countDistinctPayersByRoundIdAndStatus(
-        @Param("roundId") UUID roundId,
-        @Param("status") PaymentStatus status
-    );
-
     @Query(
         """
         SELECT COALESCE(SUM(p.amount), 0) FROM Payment p
@@ -137,53 +141,4 @@ public interface PaymentRepository
         @Param("from") LocalDateTime from,
         @Param("to") LocalDateTime to
     );
-
-    /**
-     * Monthly totals of PAYED contributions for charts (PostgreSQL).
-     */
-    @Query(
-        value =
-            """
-            SELECT date_trunc('month', p.payment_date) AS bucket,
-                   COALESCE(SUM(p.amount), 0) AS total
-            FROM payments p
-            INNER JOIN members m ON p.payer_member_id = m.id
-            INNER JOIN rounds r ON p.round_id = r.id
-            WHERE m.user_id = CAST(:userId AS uuid)
-            AND p.payment_status = 'PAYED'
-            AND p.payment_date >= :from AND p.payment_date < :to
-            GROUP BY date_trunc('month', p.payment_date)
-            ORDER BY bucket
-            """,
-        nativeQuery = true
-    )
-    List<Object[]> aggregateMonthlyPayedContributionsAllDarts(
-        @Param("userId") UUID userId,
-        @Param("from") LocalDateTime from,
-        @Param("to") LocalDateTime to
-    );
-
-    @Query(
-        value =
-            """
-            SELECT date_trunc('month', p.payment_date) AS bucket,
-                   COALESCE(SUM(p.amount), 0) AS total
-            FROM payments p
-            INNER JOIN members m ON p.payer_member_id = m.id
-            INNER JOIN rounds r ON p.round_id = r.id
-            WHERE m.user_id = CAST(:userId AS uuid)
-            AND p.payment_status = 'PAYED'
-            AND p.payment_date >= :from AND p.payment_date < :to
-            AND r.dart_id = CAST(:dartId AS uuid)
-            GROUP BY date_trunc('month', p.payment_date)
-            ORDER BY bucket
-            """,
-        nativeQuery = true
-    )
-    List<Object[]> aggregateMonthlyPayedContributionsForDart(
-        @Param("userId") UUID userId,
-        @Param("from") LocalDateTime from,
-        @Param("to") LocalDateTime to,
-        @Param("dartId") UUID dartId
-    );
 }
@@ -1,7 +1,13 @@
 package com.tontin.platform.repository;
 
 import com.tontin.platform.domain.Round;
+import com.tontin.platform.domain.enums.round.RoundDueStage;
 import com.tontin.platform.domain.enums.round.RoundStatus;
+import com.tontin.platform.repository.projection.DartRoundStats;
+import com.tontin.platform.repository.projection.DuePayerRow;
+import com.tontin.platform.repository.projection.DueRoundRow;
+import com.tontin.platform.repository.projection.UpcomingDueRow;
+import java.util.Collection;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -9,6 +15,7 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -63,20 +70,55 @@ public interface RoundRepository extends JpaRepository<Round, UUID> {
     );
 
     /**
-     * Find the current (next unpaid) round for a dart, with recipient and user loaded.
+     * Find the lowest-numbered round of a dart with the given status. Only used to
+     * move {@code Dart.currentRound}; readers go through that pointer.
      *
      * @param dartId the dart ID
      * @param status the round status (e.g. INPAYED)
-     * @param pageable limit to 1 result
-     * @return page with one round
+     * @return the first matching round
      */
-    @Query("SELECT DISTINCT r FROM Round r LEFT JOIN FETCH r.recipient rec LEFT JOIN FETCH rec.user WHERE r.dart.id = :dartId AND r.status = :status ORDER BY r.number ASC")
-    org.springframework.data.domain.Page<Round> findCurrentRoundByDartId(
-        @Param("dartId") UUID dartId,
-        @Param("status") RoundStatus status,
-        org.springframework.data.domain.Pageable pageable
+    Optional<Round> findFirstByDartIdAndStatusOrderByNumberAsc(UUID dartId, RoundStatus status);
+
+    /**
+     * Counts a payer's first PAYED payment in an open round: adds one to
+     * {@code paidCount} unless the payer has another PAYED payment in it. Concurrent
+     * payers are serialized by the row lock of the UPDATE, not by the round version.
+     *
+     * @param roundId   the round ID
+     * @param payerId   the paying member ID
+     * @param paymentId the payment that just became PAYED
+     * @return 1 if counted, 0 if the payer was already counted or the round is closed
+     */
+    @Modifying
+    @Query(
+        """
+        UPDATE Round r SET r.paidCount = r.paidCount + 1
+        WHERE r.id = :roundId
+        AND r.status = com.tontin.platform.domain.enums.round.RoundStatus.INPAYED
+        AND NOT EXISTS (
+            SELECT p.id FROM Payment p
+            WHERE p.round.id = :roundId AND p.payer.id = :payerId
+            AND p.paymentStatus = com.tontin.platform.domain.enums.payment.PaymentStatus.PAYED
+            AND p.id <> :paymentId
+        )
+        """
+    )
+    int incrementPaidCount(
+        @Param("roundId") UUID roundId,
+        @Param("payerId") UUID payerId,
+        @Param("paymentId") UUID paymentId
     );
 
+    /**
+     * Current paid counter of a round, read from the database (the loaded entity may
+     * predate increments made by other transactions).
+     *
+     * @param roundId the round ID
+     * @return the paid counter
+     */
+    @Query("SELECT r.paidCount FROM Round r WHERE r.id = :roundId")
+    int findPaidCountById(@Param("roundId") UUID roundId);
+
     /**
      * Count rounds for a specific dart.
      *
@@ -95,6 +137,135 @@ public interface RoundRepository extends JpaRepository<Round, UUID> {
     @Query("SELECT COUNT(r) FROM Round r WHERE r.dart.id = :dartId AND r.status = com.tontin.platform.domain.enums.round.RoundStatus.PAYED")
     long countPaidRoundsByDartId(@Param("dartId") UUID dartId);
 
+    /**
+     * Paid count, total count and next payout date for several darts in one query.
+     * Darts without rounds are absent from the result.
+     *
+     * @param dartIds the dart IDs
+     * @return one aggregate row per dart that has rounds
+     */
+    @Query(
+        """
+        SELECT new com.tontin.platform.repository.projection.DartRoundStats(
+            r.dart.id,
+            SUM(CASE WHEN r.status = com.tontin.platform.domain.enums.round.RoundStatus.PAYED THEN 1 ELSE 0 END),
+            COUNT(r),
+            MIN(CASE WHEN r.status = com.tontin.platform.domain.enums.round.RoundStatus.INPAYED THEN r.date ELSE NULL END)
+        )
+        FROM Round r
+        WHERE r.dart.id IN :dartIds
+        GROUP BY r.dart.id
+        """
+    )
+    List<DartRoundStats> findRoundStatsByDartIds(@Param("dartIds") Collection<UUID> dartIds);
+
+    /**
+     * Open rounds of every dart the user is an active member of, in due-date order,
+     * skipping rounds the user has already paid. Reads the stored payout calendar
+     * through {@code idx_rounds_dart_status_date} (one range per dart); overdue rounds
+     * come first.
+     *
+     * @param userId   the user ID
+     * @param until    exclusive upper bound on the due date
+     * @param pageable limit (no count query)
+     * @return one row per open round, earliest first
+     */
+    @Query(
+        """
+        SELECT new com.tontin.platform.repository.projection.UpcomingDueRow(
+            d.id, d.name, r.id, r.number, r.date, d.monthlyContribution, r.amount,
+            CASE WHEN r.recipient.id = m.id THEN true ELSE false END
+        )
+        FROM Member m JOIN m.dart d JOIN Round r ON r.dart.id = d.id
+        WHERE m.user.id = :userId
+        AND m.status = com.tontin.platform.domain.enums.member.MemberStatus.ACTIVE
+        AND r.status = com.tontin.platform.domain.enums.round.RoundStatus.INPAYED
+        AND r.date < :until
+        AND NOT EXISTS (
+            SELECT p.id FROM Payment p
+            WHERE p.round.id = r.id AND p.payer.id = m.id
+            AND p.paymentStatus = com.tontin.platform.domain.enums.payment.PaymentStatus.PAYED
+        )
+        ORDER BY r.date ASC, r.number ASC
+        """
+    )
+    List<UpcomingDueRow> findUpcomingDueRoundsForUser(
+        @Param("userId") UUID userId,
+        @Param("until") LocalDateTime until,
+        Pageable pageable
+    );
+
+    /**
+     * One batch of open rounds in a due stage dated before {@code before}, earliest
+     * first, read through {@code idx_rounds_status_stage_date}. Processed rounds move to
+     * the next stage, so repeated calls walk the index without an offset.
+     *
+     * @param stages   the due stages to pick up
+     * @param before   exclusive upper bound on the round date
+     * @param pageable batch size (no count query)
+     * @return at most one batch of rounds
+     */
+    @Query(
+        """
+        SELECT new com.tontin.platform.repository.projection.DueRoundRow(
+            r.id, d.id, d.name, r.number, r.date, r.recipient.id
+        )
+        FROM Round r JOIN r.dart d
+        WHERE r.status = com.tontin.platform.domain.enums.round.RoundStatus.INPAYED
+        AND r.dueStage IN :stages
+        AND r.date < :before
+        ORDER BY r.date ASC, r.id ASC
+        """
+    )
+    List<DueRoundRow> findDueRounds(
+        @Param("stages") Collection<RoundDueStage> stages,
+        @Param("before") LocalDateTime before,
+        Pageable pageable
+    );
+
+    /**
+     * Active members of the given rounds' darts who are not the recipient and have no
+     * PAYED payment for the round.
+     *
+     * @param roundIds the round IDs
+     * @return one row per round and unpaid payer
+     */
+    @Query(
+        """
+        SELECT new com.tontin.platform.repository.projection.DuePayerRow(r.id, m.id, m.user.id)
+        FROM Round r JOIN Member m ON m.dart.id = r.dart.id
+        WHERE r.id IN :roundIds
+        AND m.status = com.tontin.platform.domain.enums.member.MemberStatus.ACTIVE
+        AND (r.recipient IS NULL OR m.id <> r.recipient.id)
+        AND NOT EXISTS (
+            SELECT p.id FROM Payment p
+            WHERE p.round.id = r.id AND p.payer.id = m.id
+            AND p.paymentStatus = com.tontin.platform.domain.enums.payment.PaymentStatus.PAYED
+        )
+        """
+    )
+    List<DuePayerRow> findUnpaidPayers(@Param("roundIds") Collection<UUID> roundIds);
+
+    /**
+     * Moves open rounds from one of {@code from} to {@code stage}. Rounds closed or
+     * advanced in the meantime are left alone.
+     *
+     * @return number of rounds moved
+     */
+    @Modifying
+    @Query(
+        """
+        UPDATE Round r SET r.dueStage = :stage
+        WHERE r.id IN :roundIds AND r.dueStage IN :from
+        AND r.status = com.tontin.platform.domain.enums.round.RoundStatus.INPAYED
+        """
+    )
+    int advanceDueStage(
+        @Param("roundIds") Collection<UUID> roundIds,
+        @Param("from") Collection<RoundDueStage> from,
+        @Param("stage") RoundDueStage stage
+    );
+
     /**
      * Check if a round exists for a dart with a specific number.
      *
@@ -0,0 +1,46 @@
+package com.tontin.platform.repository;
+
+import com.tontin.platform.domain.SchedulerLock;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Leases of cluster-wide jobs. Acquiring is a single conditional UPDATE, so of several
+ * instances racing for an expired lease exactly one gets it.
+ */
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    /**
+     * Takes (or extends) the lease if it is free, expired or already held by {@code owner}.
+     *
+     * @return 1 if {@code owner} now holds the lease until {@code lockedUntil}, else 0
+     */
+    @Modifying
+    @Query(
+        "UPDATE SchedulerLock l SET l.lockedBy = :owner, l.lockedUntil = :lockedUntil " +
+        "WHERE l.name = :name AND (l.lockedUntil <= :now OR l.lockedBy = :owner)"
+    )
+    int tryAcquire(
+        @Param("name") String name,
+        @Param("owner") String owner,
+        @Param("now") LocalDateTime now,
+        @Param("lockedUntil") LocalDateTime lockedUntil
+    );
+
+    /**
+     * Gives the lease back early. Does nothing if {@code owner} no longer holds it.
+     */
+    @Modifying
+    @Query(
+        "UPDATE SchedulerLock l SET l.lockedBy = null, l.lockedUntil = :now " +
+        "WHERE l.name = :name AND l.lockedBy = :owner"
+    )
+    int release(
+        @Param("name") String name,
+        @Param("owner") String owner,
+        @Param("now") LocalDateTime now
+    );
+}
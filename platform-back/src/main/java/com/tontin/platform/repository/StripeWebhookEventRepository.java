@@ -0,0 +1,98 @@
+package com.tontin.platform.repository;
+
+import com.tontin.platform.domain.StripeWebhookEvent;
+import com.tontin.platform.domain.enums.payment.WebhookEventStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Storage of the Stripe webhook inbox. Every state change is a conditional UPDATE so
+ * that several workers (or instances) never process the same event at the same time.
+ */
+public interface StripeWebhookEventRepository extends JpaRepository<StripeWebhookEvent, UUID> {
+    boolean existsByEventId(String eventId);
+
+    /**
+     * Events that can be claimed now, at most one per ordering key: the oldest unfinished
+     * event of its key, due (PENDING past its next attempt, or PROCESSING with an expired
+     * lease) and not behind an event of the same key that is still being processed.
+     */
+    @Query(
+        "SELECT e.id FROM StripeWebhookEvent e " +
+        "WHERE ((e.status = :pending AND e.nextAttemptAt <= :now) " +
+        "    OR (e.status = :processing AND e.lockedUntil < :now)) " +
+        "AND NOT EXISTS (" +
+        "    SELECT o.id FROM StripeWebhookEvent o " +
+        "    WHERE o.orderingKey = e.orderingKey AND o.id <> e.id " +
+        "    AND o.status IN (:pending, :processing) " +
+        "    AND (o.receivedAt < e.receivedAt OR (o.status = :processing AND o.lockedUntil >= :now))" +
+        ") " +
+        "ORDER BY e.receivedAt"
+    )
+    List<UUID> findClaimable(
+        @Param("now") LocalDateTime now,
+        @Param("pending") WebhookEventStatus pending,
+        @Param("processing") WebhookEventStatus processing,
+        Pageable pageable
+    );
+
+    /**
+     * Takes the event for one attempt, leased until {@code lockedUntil}.
+     *
+     * @return 1 if claimed, 0 if another worker got it first or it is no longer due
+     */
+    @Modifying
+    @Query(
+        "UPDATE StripeWebhookEvent e " +
+        "SET e.status = :processing, e.lockedUntil = :lockedUntil, e.attempts = e.attempts + 1 " +
+        "WHERE e.id = :id " +
+        "AND ((e.status = :pending AND e.nextAttemptAt <= :now) " +
+        "    OR (e.status = :processing AND e.lockedUntil < :now))"
+    )
+    int claim(
+        @Param("id") UUID id,
+        @Param("now") LocalDateTime now,
+        @Param("lockedUntil") LocalDateTime lockedUntil,
+        @Param("pending") WebhookEventStatus pending,
+        @Param("processing") WebhookEventStatus processing
+    );
+
+    /**
+     * Ends the attempt leased until {@code lockedUntil}: PROCESSED or DEAD (with
+     * {@code processedAt}), or back to PENDING for a retry at {@code nextAttemptAt}.
+     * Does nothing if the lease was lost to another worker.
+     */
+    @Modifying
+    @Query(
+        "UPDATE StripeWebhookEvent e " +
+        "SET e.status = :status, e.lockedUntil = null, e.nextAttemptAt = :nextAttemptAt, " +
+        "    e.processedAt = :processedAt, e.lastError = :lastError " +
+        "WHERE e.id = :id AND e.status = :processing AND e.lockedUntil = :lockedUntil"
+    )
+    int complete(
+        @Param("id") UUID id,
+        @Param("lockedUntil") LocalDateTime lockedUntil,
+        @Param("status") WebhookEventStatus status,
+        @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+        @Param("processedAt") LocalDateTime processedAt,
+        @Param("lastError") String lastError,
+        @Param("processing") WebhookEventStatus processing
+    );
+
+    @Modifying
+    @Query(
+        "DELETE FROM StripeWebhookEvent e WHERE e.status = :status AND e.processedAt < :before"
+    )
+    int deleteByStatusAndProcessedAtBefore(
+        @Param("status") WebhookEventStatus status,
+        @Param("before") LocalDateTime before
+    );
+
+    long countByStatus(WebhookEventStatus status);
+}
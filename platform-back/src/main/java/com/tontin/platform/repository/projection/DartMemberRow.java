@@ -0,0 +1,24 @@
+package com.tontin.platform.repository.projection;
+
+import com.tontin.platform.domain.enums.dart.DartPermission;
+import com.tontin.platform.domain.enums.member.MemberStatus;
+import java.util.UUID;
+
+/**
+ * Lightweight member row (no entity, no picture) used by the dart listings.
+ *
+ * @param dartId     the dart id
+ * @param userId     the member's user id
+ * @param userName   the member's username
+ * @param pictureHash content hash of the member's list picture, or null
+ * @param permission ORGANIZER or MEMBER
+ * @param status     membership status
+ */
+public record DartMemberRow(
+    UUID dartId,
+    UUID userId,
+    String userName,
+    String pictureHash,
+    DartPermission permission,
+    MemberStatus status
+) {}
@@ -0,0 +1,23 @@
+package com.tontin.platform.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Per-dart round aggregates used by the dart listings.
+ *
+ * @param dartId         the dart id
+ * @param paidRounds     number of PAYED rounds
+ * @param totalRounds    number of rounds created
+ * @param nextPayoutDate earliest INPAYED round date, or null
+ */
+public record DartRoundStats(
+    UUID dartId,
+    Long paidRounds,
+    Long totalRounds,
+    LocalDateTime nextPayoutDate
+) {
+    public static DartRoundStats empty(UUID dartId) {
+        return new DartRoundStats(dartId, 0L, 0L, null);
+    }
+}
@@ -0,0 +1,16 @@
+package com.tontin.platform.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * Active member who still has to pay an open round.
+ *
+ * @param roundId  the round id
+ * @param memberId the payer's membership
+ * @param userId   the payer's user id
+ */
+public record DuePayerRow(
+    UUID roundId,
+    UUID memberId,
+    UUID userId
+) {}
@@ -0,0 +1,23 @@
+package com.tontin.platform.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Open round picked up by the due-date scheduler.
+ *
+ * @param roundId           the round id
+ * @param dartId            the dart id
+ * @param dartName          the dart name
+ * @param roundNumber       the round number
+ * @param roundDate         the due date of the round
+ * @param recipientMemberId recipient of the round, or null
+ */
+public record DueRoundRow(
+    UUID roundId,
+    UUID dartId,
+    String dartName,
+    Integer roundNumber,
+    LocalDateTime roundDate,
+    UUID recipientMemberId
+) {}
@@ -0,0 +1,29 @@
+package com.tontin.platform.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Everything needed to decide whether a member may pay the current round of a
+ * dart, read in one query.
+ *
+ * @param memberId             the caller's membership in the dart
+ * @param dartId               the dart id
+ * @param monthlyContribution  amount due per round
+ * @param roundId              current (lowest-numbered INPAYED) round, or null when none is open
+ * @param roundNumber          number of the current round, or null
+ * @param roundDate            payout date of the current round, or null
+ * @param recipientMemberId    recipient of the current round, or null
+ * @param alreadyPaid          whether the member has a PAYED payment for the current round
+ */
+public record PaymentEligibilityRow(
+    UUID memberId,
+    UUID dartId,
+    BigDecimal monthlyContribution,
+    UUID roundId,
+    Integer roundNumber,
+    LocalDateTime roundDate,
+    UUID recipientMemberId,
+    Boolean alreadyPaid
+) {}
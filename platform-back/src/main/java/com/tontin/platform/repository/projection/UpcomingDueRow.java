@@ -0,0 +1,28 @@
+package com.tontin.platform.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One open round of the stored payout calendar, seen from one member of its dart.
+ *
+ * @param dartId              the dart id
+ * @param dartName            the dart name
+ * @param roundId             the round id
+ * @param roundNumber         the round number
+ * @param dueDate             the round date (contributions due, payout made)
+ * @param monthlyContribution amount the member pays for the round
+ * @param payoutAmount        amount paid out to the recipient
+ * @param recipient           whether the member receives this round
+ */
+public record UpcomingDueRow(
+    UUID dartId,
+    String dartName,
+    UUID roundId,
+    Integer roundNumber,
+    LocalDateTime dueDate,
+    BigDecimal monthlyContribution,
+    Double payoutAmount,
+    Boolean recipient
+) {}
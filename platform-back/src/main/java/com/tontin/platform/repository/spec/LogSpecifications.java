@@ -0,0 +1,56 @@
+package com.tontin.platform.repository.spec;
+
+import com.tontin.platform.domain.Loggin;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Dynamic filters for the admin audit log search.
+ *
+ * <p>{@link #betweenInclusiveStartExclusiveEnd} must always be part of the query: the
+ * bounded {@code timestamp} range is what lets PostgreSQL prune {@code logs}
+ * partitions.</p>
+ */
+public final class LogSpecifications {
+
+    private LogSpecifications() {}
+
+    public static Specification<Loggin> betweenInclusiveStartExclusiveEnd(
+        LocalDateTime from,
+        LocalDateTime to
+    ) {
+        return (root, query, cb) ->
+            cb.and(
+                cb.greaterThanOrEqualTo(root.get("timestamp"), from),
+                cb.lessThan(root.get("timestamp"), to)
+            );
+    }
+
+    public static Specification<Loggin> hasUserEmail(String userEmail) {
+        return (root, query, cb) ->
+            userEmail == null || userEmail.isBlank()
+                ? cb.conjunction()
+                : cb.equal(root.get("userEmail"), userEmail.trim());
+    }
+
+    public static Specification<Loggin> hasRequestId(String requestId) {
+        return (root, query, cb) ->
+            requestId == null || requestId.isBlank()
+                ? cb.conjunction()
+                : cb.equal(root.get("requestId"), requestId.trim());
+    }
+
+    public static Specification<Loggin> hasEvent(String event) {
+        return (root, query, cb) ->
+            event == null || event.isBlank()
+                ? cb.conjunction()
+                : cb.equal(root.get("event"), event.trim());
+    }
+
+    public static Specification<Loggin> hasStatus(String status) {
+        return (root, query, cb) ->
+            status == null || status.isBlank()
+                ? cb.conjunction()
+                : cb.equal(root.get("status"), status.trim().toUpperCase());
+    }
+}
@@ -2,6 +2,7 @@ package com.tontin.platform.repository.spec;
 
 import com.tontin.platform.domain.Payment;
 import com.tontin.platform.domain.enums.payment.PaymentStatus;
+import com.tontin.platform.util.PageCursor;
 import jakarta.persistence.criteria.JoinType;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -45,6 +46,22 @@ public final class PaymentSpecifications {
             );
     }
 
+    /**
+     * Rows after {@code cursor} in {@code (date DESC, id DESC)} order.
+     */
+    public static Specification<Payment> after(PageCursor cursor) {
+        return (root, query, cb) ->
+            cursor == null
+                ? cb.conjunction()
+                : cb.or(
+                    cb.lessThan(root.get("date"), cursor.date()),
+                    cb.and(
+                        cb.equal(root.get("date"), cursor.date()),
+                        cb.lessThan(root.<UUID>get("id"), cursor.id())
+                    )
+                );
+    }
+
     public static Specification<Payment> hasStatus(PaymentStatus status) {
         return (root, query, cb) ->
             status == null ? cb.conjunction() : cb.equal(root.get("paymentStatus"), status);
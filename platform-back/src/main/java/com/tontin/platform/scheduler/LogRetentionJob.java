@@ -0,0 +1,30 @@
+package com.tontin.platform.scheduler;
+
+import com.tontin.platform.service.LogStorageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Daily maintenance of the {@code logs} table: creates upcoming monthly partitions
+ * and drops the ones older than {@code logs.retention.months}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LogRetentionJob {
+
+    private final LogStorageService logStorageService;
+
+    @Scheduled(cron = "${logs.retention.cron:0 15 3 * * *}")
+    public void run() {
+        try {
+            logStorageService.ensurePartitions();
+            long purged = logStorageService.purgeExpired();
+            log.info("Audit log retention done ({} purged)", purged);
+        } catch (Exception e) {
+            log.error("Audit log retention failed: {}", e.getMessage(), e);
+        }
+    }
+}
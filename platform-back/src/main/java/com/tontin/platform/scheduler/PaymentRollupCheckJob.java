@@ -0,0 +1,54 @@
+package com.tontin.platform.scheduler;
+
+import com.tontin.platform.dto.payment.response.PaymentRollupCheckResponse;
+import com.tontin.platform.service.PaymentRollupService;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Nightly comparison of {@code payment_daily_totals} with the source tables over the
+ * last {@code reports.rollup.check-days} days. With {@code reports.rollup.auto-repair}
+ * a mismatch triggers a full rebuild.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentRollupCheckJob {
+
+    private final PaymentRollupService paymentRollupService;
+
+    @Value("${reports.rollup.check-days:90}")
+    private int checkDays;
+
+    @Value("${reports.rollup.auto-repair:false}")
+    private boolean autoRepair;
+
+    @Scheduled(cron = "${reports.rollup.check-cron:0 45 3 * * *}")
+    public void run() {
+        try {
+            LocalDate toDay = LocalDate.now().plusDays(1);
+            PaymentRollupCheckResponse result = paymentRollupService.check(
+                toDay.minusDays(checkDays),
+                toDay
+            );
+            if (result.consistent()) {
+                log.info("Daily payment totals consistent ({} keys checked)", result.checkedKeys());
+                return;
+            }
+            log.error(
+                "Daily payment totals inconsistent: {} of {} keys differ",
+                result.mismatchCount(),
+                result.checkedKeys()
+            );
+            if (autoRepair) {
+                paymentRollupService.rebuild();
+            }
+        } catch (Exception e) {
+            log.error("Daily payment totals check failed: {}", e.getMessage(), e);
+        }
+    }
+}
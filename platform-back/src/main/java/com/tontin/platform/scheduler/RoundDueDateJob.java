@@ -0,0 +1,31 @@
+package com.tontin.platform.scheduler;
+
+import com.tontin.platform.service.RoundDueDateService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the round due-date tick every {@code rounds.due.poll-interval} ms on every
+ * instance; the {@code round-due-dates} lease lets only one of them do the work.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoundDueDateJob {
+
+    private final RoundDueDateService roundDueDateService;
+
+    @Scheduled(
+        fixedDelayString = "${rounds.due.poll-interval:60000}",
+        initialDelayString = "${rounds.due.initial-delay:30000}"
+    )
+    public void run() {
+        try {
+            roundDueDateService.tick();
+        } catch (Exception e) {
+            log.error("Round due-date tick failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.tontin.platform.scheduler;
+
+import com.tontin.platform.service.StripeWebhookInboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drains the Stripe webhook inbox every {@code stripe.webhook.inbox.poll-interval} ms
+ * and deletes old processed events nightly.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StripeWebhookInboxJob {
+
+    /** Bounds one drain so other jobs sharing the scheduler thread still run during a burst. */
+    private static final long MAX_DRAIN_MILLIS = 10_000;
+
+    private final StripeWebhookInboxService stripeWebhookInboxService;
+
+    @Scheduled(fixedDelayString = "${stripe.webhook.inbox.poll-interval:500}")
+    public void drain() {
+        long deadline = System.currentTimeMillis() + MAX_DRAIN_MILLIS;
+        try {
+            // Poll again right away while there is work: the next event of a round is
+            // claimable as soon as the previous one is done
+            int attempted;
+            do {
+                attempted = stripeWebhookInboxService.processDue();
+            } while (attempted > 0 && System.currentTimeMillis() < deadline);
+        } catch (Exception e) {
+            log.error("Stripe webhook inbox drain failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(cron = "${stripe.webhook.inbox.cleanup-cron:0 30 3 * * *}")
+    public void purge() {
+        try {
+            int deleted = stripeWebhookInboxService.purgeProcessed();
+            log.info("Deleted {} processed Stripe webhook events", deleted);
+        } catch (Exception e) {
+            log.error("Stripe webhook inbox cleanup failed: {}", e.getMessage(), e);
+        }
+    }
+}
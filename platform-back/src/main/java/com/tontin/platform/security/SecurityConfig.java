@@ -76,9 +76,15 @@ public class SecurityConfig {
                     // Health check endpoints - public access
                     .requestMatchers("/actuator/health", "/actuator/info")
                     .permitAll()
+                    // Metrics (e.g. cache hit/miss counters) - admin only
+                    .requestMatchers("/actuator/metrics/**")
+                    .hasRole("ADMIN")
                     // Stripe webhook - no auth (Stripe verifies with signature)
                     .requestMatchers(HttpMethod.POST, "/api/v1/payments/webhook")
                     .permitAll()
+                    // Content-addressed pictures (loaded by <img>, no bearer token)
+                    .requestMatchers(HttpMethod.GET, "/api/v1/images/**")
+                    .permitAll()
                     // Stripe publishable key — public by design (same as in Stripe.js)
                     .requestMatchers(
                         HttpMethod.GET,
@@ -171,13 +177,14 @@ public class SecurityConfig {
                 "Accept",
                 "X-Requested-With",
                 "Cache-Control",
-                "Stripe-Signature"
+                "Stripe-Signature",
+                "X-Request-Id"
             )
         );
 
         // Expose specific headers
         configuration.setExposedHeaders(
-            Arrays.asList("Authorization", "Content-Disposition")
+            Arrays.asList("Authorization", "Content-Disposition", "X-Request-Id")
         );
 
         // Allow credentials (cookies, authorization headers)
@@ -0,0 +1,49 @@
+package com.tontin.platform.service;
+
+import java.util.Optional;
+
+public interface ImageService {
+
+    /** Longest side of the variant shown in lists. */
+    int THUMBNAIL_SIZE = 64;
+
+    /** Longest side of the variant shown in detail views. */
+    int PREVIEW_SIZE = 256;
+
+    /**
+     * Stored image bytes with their content hash and detected media type.
+     *
+     * @param hash        SHA-256 of the content (used as strong ETag)
+     * @param contentType detected media type
+     * @param content     image bytes
+     */
+    record StoredImage(String hash, String contentType, byte[] content) {}
+
+    /**
+     * Result of ingesting an upload.
+     *
+     * @param originalHash  hash of the uploaded bytes, stored unchanged
+     * @param thumbnailHash hash of the {@value #THUMBNAIL_SIZE}px variant
+     * @param previewHash   hash of the {@value #PREVIEW_SIZE}px variant
+     */
+    record IngestedPicture(String originalHash, String thumbnailHash, String previewHash) {}
+
+    /**
+     * Validate an uploaded picture, decode it once and store it with its thumbnail
+     * variants (content-addressed, deduplicated).
+     *
+     * @param upload the uploaded bytes
+     * @return the hashes of the original and of the variants
+     * @throws org.springframework.web.server.ResponseStatusException 413 if the upload is
+     *         too large, 400 if it is not a supported image
+     */
+    IngestedPicture ingest(byte[] upload);
+
+    /**
+     * Find an image by its content hash: an original upload or one of its variants.
+     *
+     * @param hash SHA-256 hex of the image
+     * @return the image, or empty if unknown
+     */
+    Optional<StoredImage> findByHash(String hash);
+}
@@ -0,0 +1,35 @@
+package com.tontin.platform.service;
+
+import com.tontin.platform.dto.dart.response.PageResponse;
+import com.tontin.platform.dto.log.response.LogResponse;
+import java.time.LocalDateTime;
+
+public interface LogService {
+
+    /**
+     * Search audit logs in a bounded time window, newest first.
+     *
+     * <p>The window is mandatory so that only the matching monthly partitions of
+     * {@code logs} are scanned.</p>
+     *
+     * @param from      inclusive start
+     * @param to        exclusive end
+     * @param userEmail optional exact email filter
+     * @param requestId optional correlation id filter
+     * @param event     optional event (service method) filter
+     * @param status    optional SUCCESS / FAILURE filter
+     * @param page      page number (0-based)
+     * @param size      page size
+     * @return paginated log entries
+     */
+    PageResponse<LogResponse> search(
+        LocalDateTime from,
+        LocalDateTime to,
+        String userEmail,
+        String requestId,
+        String event,
+        String status,
+        int page,
+        int size
+    );
+}
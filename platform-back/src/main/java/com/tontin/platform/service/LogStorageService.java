@@ -0,0 +1,18 @@
+package com.tontin.platform.service;
+
+public interface LogStorageService {
+
+    /**
+     * Make sure the {@code logs} table is partitioned (when enabled and supported)
+     * and that partitions exist for the current month and the configured months ahead.
+     */
+    void ensurePartitions();
+
+    /**
+     * Remove audit logs older than the retention period: whole partitions are dropped
+     * on partitioned storage, otherwise old rows are deleted.
+     *
+     * @return number of partitions dropped, or rows deleted in single-table mode
+     */
+    long purgeExpired();
+}
@@ -0,0 +1,42 @@
+package com.tontin.platform.service;
+
+import com.tontin.platform.repository.projection.PaymentEligibilityRow;
+import java.util.UUID;
+
+/**
+ * Decides whether a user may pay the current round of a dart. Shared by the
+ * "can pay" check and payment intent creation so both apply the same rules.
+ */
+public interface PaymentEligibilityService {
+
+    /** Why a user can or cannot pay, in the order the rules are checked. */
+    enum Outcome {
+        ELIGIBLE,
+        NOT_MEMBER,
+        NO_OPEN_ROUND,
+        RECIPIENT,
+        ALREADY_PAID,
+        WINDOW_NOT_OPEN,
+    }
+
+    /**
+     * Result of an evaluation.
+     *
+     * @param outcome the first rule that failed, or {@link Outcome#ELIGIBLE}
+     * @param facts   the loaded membership/round data, null when {@link Outcome#NOT_MEMBER}
+     */
+    record Eligibility(Outcome outcome, PaymentEligibilityRow facts) {
+        public boolean eligible() {
+            return outcome == Outcome.ELIGIBLE;
+        }
+    }
+
+    /**
+     * Evaluates the payment rules for a user and dart with a single query.
+     *
+     * @param dartId the dart UUID
+     * @param userId the user UUID
+     * @return the outcome together with the data it was based on
+     */
+    Eligibility evaluate(UUID dartId, UUID userId);
+}
@@ -0,0 +1,57 @@
+package com.tontin.platform.service;
+
+import java.util.Map;
+
+/**
+ * Calls to the payment provider (Stripe). Implementations make network requests:
+ * never call them inside a database transaction.
+ */
+public interface PaymentGatewayService {
+
+    /**
+     * The provider-side view of a payment intent.
+     *
+     * @param id           provider intent id ({@code pi_...})
+     * @param status       provider status (e.g. {@code requires_payment_method})
+     * @param clientSecret secret handed to Stripe.js to complete the payment
+     */
+    record Intent(String id, String status, String clientSecret) {
+        /** Whether the customer can still complete this intent. */
+        public boolean isOpen() {
+            return "requires_payment_method".equals(status) || "requires_confirmation".equals(status);
+        }
+    }
+
+    /**
+     * @return true if a usable secret key is configured
+     */
+    boolean isConfigured();
+
+    /**
+     * Create a payment intent with automatic payment methods.
+     *
+     * @param amountCents amount in the smallest currency unit
+     * @param currency    ISO currency code, lower case
+     * @param metadata    metadata stored on the intent (e.g. paymentId)
+     * @param idempotencyKey Stripe idempotency key: a repeated call with the same key
+     *                    returns the intent of the first one; null for none
+     * @return the created intent
+     * @throws org.springframework.web.server.ResponseStatusException 503 if the provider is
+     *         unavailable or the circuit is open, 500 if the provider rejected the request
+     */
+    Intent createIntent(
+        long amountCents,
+        String currency,
+        Map<String, String> metadata,
+        String idempotencyKey
+    );
+
+    /**
+     * Retrieve an existing payment intent.
+     *
+     * @param intentId provider intent id
+     * @return the intent
+     * @throws org.springframework.web.server.ResponseStatusException same as {@link #createIntent}
+     */
+    Intent retrieveIntent(String intentId);
+}
@@ -2,9 +2,13 @@ package com.tontin.platform.service;
 
 import com.tontin.platform.dto.dart.response.PageResponse;
 import com.tontin.platform.dto.payment.response.MonthlyChartPointResponse;
+import com.tontin.platform.dto.payment.response.PaymentChartResponse;
 import com.tontin.platform.dto.payment.response.PaymentReportItemResponse;
 import com.tontin.platform.dto.payment.response.PaymentReportSummaryResponse;
+import com.tontin.platform.domain.enums.payment.ChartGranularity;
 import com.tontin.platform.domain.enums.payment.PaymentStatus;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -28,6 +32,23 @@ public interface PaymentReportService {
         int size
     );
 
+    /**
+     * Cursor (keyset) variant of {@link #getPayments}: rows after {@code cursor} in
+     * {@code (date DESC, id DESC)} order, so deep pages cost the same as the first.
+     * A null or blank cursor starts from the newest payment. The total is only
+     * counted when {@code includeTotal} is set.
+     */
+    PageResponse<PaymentReportItemResponse> getPaymentsByCursor(
+        UUID userId,
+        UUID dartId,
+        LocalDateTime from,
+        LocalDateTime to,
+        PaymentStatus statusFilter,
+        String cursor,
+        int size,
+        boolean includeTotal
+    );
+
     List<MonthlyChartPointResponse> getMonthlyChart(
         UUID userId,
         UUID dartId,
@@ -35,5 +56,31 @@ public interface PaymentReportService {
         LocalDateTime to
     );
 
-    byte[] exportCsv(UUID userId, UUID dartId, LocalDateTime from, LocalDateTime to);
+    /**
+     * PAYED contribution totals in buckets of {@code granularity}, zero-filled over
+     * {@code [from, to)}. Served from the daily totals in one grouped query, so long
+     * ranges cost the same as short ones. With {@code byDart}, one series per dart
+     * is returned next to the overall total.
+     */
+    PaymentChartResponse getChart(
+        UUID userId,
+        UUID dartId,
+        LocalDateTime from,
+        LocalDateTime to,
+        ChartGranularity granularity,
+        boolean byDart
+    );
+
+    /**
+     * Writes the matching payments as CSV (newest first) to {@code out}, batch by
+     * batch, without holding the whole report in memory. {@code out} is flushed but
+     * not closed.
+     */
+    void exportCsv(
+        UUID userId,
+        UUID dartId,
+        LocalDateTime from,
+        LocalDateTime to,
+        OutputStream out
+    ) throws IOException;
 }
@@ -0,0 +1,72 @@
+package com.tontin.platform.service;
+
+import com.tontin.platform.domain.Payment;
+import com.tontin.platform.domain.Round;
+import com.tontin.platform.domain.enums.payment.PaymentStatus;
+import com.tontin.platform.domain.enums.payment.PaymentTotalKind;
+import com.tontin.platform.dto.payment.response.PaymentRollupCheckResponse;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Maintains and queries {@code payment_daily_totals}.
+ *
+ * <p>The {@code record*} methods must be called inside the transaction that changes
+ * the payment or round, so totals and source rows commit together. Date ranges are
+ * whole days: {@code fromDay} inclusive, {@code toDay} exclusive.</p>
+ */
+public interface PaymentRollupService {
+
+    /** Adds a newly created payment to its status bucket. */
+    void recordPaymentCreated(Payment payment);
+
+    /** Moves a payment from its previous status/date bucket to its current one. */
+    void recordPaymentChanged(
+        Payment payment,
+        PaymentStatus previousStatus,
+        LocalDateTime previousDate
+    );
+
+    /** Adds a round that just became PAYED to its recipient's payouts. */
+    void recordRoundPaid(Round round);
+
+    /**
+     * Sums one kind of total. A null {@code userId} or {@code dartId} means all users
+     * or all darts.
+     */
+    BigDecimal sum(
+        PaymentTotalKind kind,
+        UUID userId,
+        UUID dartId,
+        LocalDate fromDay,
+        LocalDate toDay
+    );
+
+    /** Total of one kind for one dart on one day. */
+    record DartDay(UUID dartId, String dartName, LocalDate day, BigDecimal amount) {}
+
+    /** Daily amounts of one kind per dart, only for days that have a total. */
+    List<DartDay> dailyByDart(
+        PaymentTotalKind kind,
+        UUID userId,
+        UUID dartId,
+        LocalDate fromDay,
+        LocalDate toDay
+    );
+
+    /**
+     * Recomputes every total from {@code payments} and {@code rounds}.
+     *
+     * @return number of rows written
+     */
+    long rebuild();
+
+    /**
+     * Compares stored totals with a fresh aggregation of the source tables. Null
+     * bounds check the whole history.
+     */
+    PaymentRollupCheckResponse check(LocalDate fromDay, LocalDate toDay);
+}
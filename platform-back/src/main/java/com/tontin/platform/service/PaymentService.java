@@ -24,27 +24,22 @@ public interface PaymentService {
     CanPayResponse canPay(UUID dartId);
     /**
      * Create a Stripe PaymentIntent for the current user's contribution for the current round of the given dart.
-     * The current user must be a member (not the recipient of the current round).
+     * The current user must be a member (not the recipient of the current round). Repeated or
+     * concurrent calls reuse the same PENDING payment.
      *
-     * @param request dart ID
+     * @param request        dart ID
+     * @param idempotencyKey client-chosen key ({@code Idempotency-Key} header), or null; a retry with
+     *                       the same key never creates a second Stripe intent for the payment
      * @return client secret and payment ID for the frontend
      */
     CreatePaymentIntentResponse createPaymentIntent(
-        CreatePaymentIntentRequest request
+        CreatePaymentIntentRequest request,
+        String idempotencyKey
     );
 
-    /**
-     * Handle Stripe webhook (e.g. payment_intent.succeeded). Updates payment status and optionally the round.
-     * This is the async path triggered by Stripe's servers.
-     *
-     * @param payload   raw request body
-     * @param signature Stripe-Signature header
-     */
-    void handleWebhook(String payload, String signature);
-
     /**
      * Mark payment as completed by Stripe PaymentIntent id (idempotent).
-     * Called internally by the webhook handler.
+     * Called by the Stripe webhook inbox workers ({@link StripeWebhookInboxService}).
      *
      * @param stripePaymentIntentId Stripe PaymentIntent id
      */
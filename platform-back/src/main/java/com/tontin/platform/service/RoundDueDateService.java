@@ -0,0 +1,41 @@
+package com.tontin.platform.service;
+
+/**
+ * Time-driven side of the round lifecycle: walks the open rounds in due-date order
+ * and moves each through {@code RoundDueStage}.
+ *
+ * <ul>
+ *   <li>When the payment window of a round opens ({@code rounds.payment-window.open-days}
+ *   before its date), every unpaid payer gets a PAYMENT_DUE notification.</li>
+ *   <li>{@code rounds.due.overdue-grace-hours} after its date, every payer still unpaid
+ *   gets an ALERT and the dart organizers a WARNING naming how many are late.</li>
+ * </ul>
+ *
+ * <p>Rounds are read in batches of {@code rounds.due.batch-size}, each handled in its
+ * own transaction, so memory stays bounded whatever the number of darts. Only the
+ * instance holding the {@code round-due-dates} lease runs a tick.</p>
+ */
+public interface RoundDueDateService {
+
+    /**
+     * Outcome of one tick.
+     *
+     * @param ran           false when another instance held the lease
+     * @param remindedRounds rounds whose payers were reminded
+     * @param overdueRounds  rounds whose unpaid payers were flagged overdue
+     * @param notifications  notifications created
+     */
+    record TickResult(boolean ran, int remindedRounds, int overdueRounds, int notifications) {
+        public static TickResult skipped() {
+            return new TickResult(false, 0, 0, 0);
+        }
+    }
+
+    /**
+     * Runs one tick if the lease can be taken: overdue rounds first, then reminders,
+     * until no round is due or the lease is lost.
+     *
+     * @return what was done
+     */
+    TickResult tick();
+}
@@ -0,0 +1,47 @@
+package com.tontin.platform.service;
+
+import com.tontin.platform.domain.Round;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Round state machine of a dart: INPAYED → PAYED, after which the next INPAYED round
+ * becomes {@code Dart.currentRound}.
+ *
+ * <p>Every change to a dart's rounds runs through {@link #execute}: one transition at a
+ * time per dart (a lock in this instance and the dart row lock across instances), each
+ * attempt in its own transaction, retried a bounded number of times when it loses an
+ * optimistic-lock race. Meters: {@code round.transition} (timer by transition and
+ * outcome), {@code round.transition.conflicts}, {@code round.transition.retries}.</p>
+ */
+public interface RoundLifecycleService {
+
+    /**
+     * Runs a transition on the rounds of a dart. Call outside any transaction; inside
+     * one, the work joins it and is not retried.
+     *
+     * @param dartId     the dart whose rounds change
+     * @param transition name used in logs and metrics
+     * @param work       the transition; may run more than once, so it must (re)load what it changes
+     * @return the result of the successful attempt
+     * @throws org.springframework.web.server.ResponseStatusException 409 when every attempt conflicted
+     */
+    <T> T execute(UUID dartId, String transition, Supplier<T> work);
+
+    /**
+     * Closes the round if its paid counter reached the expected number of payers.
+     * Must be called from {@link #execute}.
+     *
+     * @param round an INPAYED round
+     * @return true if the round was closed
+     */
+    boolean closeIfComplete(Round round);
+
+    /**
+     * Marks the round PAYED regardless of its counter and moves the current round of
+     * its dart. No-op for a round already PAYED. Must be called from {@link #execute}.
+     *
+     * @param round the round to close
+     */
+    void close(Round round);
+}
@@ -3,6 +3,7 @@ package com.tontin.platform.service;
 import com.tontin.platform.dto.round.request.CreateRoundsRequest;
 import com.tontin.platform.dto.round.request.RoundRequest;
 import com.tontin.platform.dto.round.response.RoundResponse;
+import com.tontin.platform.dto.round.response.UpcomingDueResponse;
 import com.tontin.platform.dto.dart.response.PageResponse;
 import java.util.List;
 import java.util.UUID;
@@ -101,6 +102,16 @@ public interface RoundService {
      */
     RoundStatistics getRoundStatistics(UUID dartId);
 
+    /**
+     * Upcoming due dates across all darts of the current user: open rounds not yet
+     * paid by the user (overdue first), including the rounds the user receives.
+     *
+     * @param days  horizon in days from now
+     * @param limit maximum number of entries
+     * @return entries in due-date order
+     */
+    List<UpcomingDueResponse> getUpcomingDueDates(int days, int limit);
+
     /**
      * Round statistics record.
      *
@@ -0,0 +1,29 @@
+package com.tontin.platform.service;
+
+import java.time.Duration;
+
+/**
+ * Cluster-wide leases for scheduled jobs, stored in {@code scheduler_locks}: every
+ * instance runs the same {@code @Scheduled} methods, and only the one holding the
+ * lease does the work.
+ */
+public interface SchedulerLockService {
+
+    /**
+     * Takes the lease for {@code lease} from now, or extends it when this instance
+     * already holds it. Call again between units of work to keep a long run alive.
+     *
+     * @param name  the job name (a row of {@code scheduler_locks})
+     * @param lease how long the lease is held without renewal
+     * @return true if this instance holds the lease
+     */
+    boolean tryAcquire(String name, Duration lease);
+
+    /**
+     * Releases the lease if this instance holds it, so the next tick of any instance
+     * can take it right away.
+     *
+     * @param name the job name
+     */
+    void release(String name);
+}
@@ -0,0 +1,36 @@
+package com.tontin.platform.service;
+
+/**
+ * Durable inbox for Stripe webhooks.
+ *
+ * <p>The webhook request only verifies and stores the event; background workers apply
+ * it later. Events of the same round are applied one at a time in arrival order, failed
+ * attempts are retried with exponential backoff and dead-lettered (status {@code DEAD})
+ * after {@code stripe.webhook.inbox.max-attempts}.</p>
+ */
+public interface StripeWebhookInboxService {
+
+    /**
+     * Verifies the signature and stores the event once (redeliveries of the same Stripe
+     * event id are ignored). Events of types the application does not handle are dropped.
+     *
+     * @param payload   raw request body
+     * @param signature Stripe-Signature header
+     */
+    void receive(String payload, String signature);
+
+    /**
+     * Claims one batch of due events and processes them on the worker pool, waiting
+     * until the batch is done.
+     *
+     * @return number of events attempted (0 when nothing was due)
+     */
+    int processDue();
+
+    /**
+     * Deletes PROCESSED events older than {@code stripe.webhook.inbox.retention-days}.
+     *
+     * @return number of rows deleted
+     */
+    int purgeProcessed();
+}
@@ -3,6 +3,8 @@ package com.tontin.platform.service.impl;
 import com.tontin.platform.config.CustomUserDetails;
 import com.tontin.platform.config.JwtService;
 import com.tontin.platform.config.SecurityUtils;
+import com.tontin.platform.config.TokenRevocationRegistry;
+import com.tontin.platform.config.UserDetailsCache;
 import com.tontin.platform.domain.User;
 import com.tontin.platform.domain.enums.user.UserRole;
 import com.tontin.platform.domain.enums.user.UserStatus;
@@ -15,11 +17,12 @@ import com.tontin.platform.helper.TokenUtil;
 import com.tontin.platform.mapper.UserMapper;
 import com.tontin.platform.repository.UserRepository;
 import com.tontin.platform.service.AuthService;
+import com.tontin.platform.service.ImageService;
+import com.tontin.platform.util.ImageUtils;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import java.io.UnsupportedEncodingException;
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -44,6 +47,9 @@ public class AuthServiceImpl implements AuthService {
     private final UserMapper userMapper;
     private final JavaMailSender mailSender;
     private final SecurityUtils securityUtils;
+    private final UserDetailsCache userDetailsCache;
+    private final ImageService imageService;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
     @Value("${spring.mail.username:}")
     private String mailUsername;
     @Value("${app.mail.from:}")
@@ -126,7 +132,7 @@ public class AuthServiceImpl implements AuthService {
             user.setCreationDate(LocalDateTime.now().toString());
             user.setAccountAccessFileCount(0);
             user.setResetPasswordDate(null);
-            user.setPicture(null);
+            user.removePicture();
         }
 
         user.setEmail(normalizedEmail);
@@ -139,6 +145,7 @@ public class AuthServiceImpl implements AuthService {
         String randomCode = TokenUtil.generate(64);
         user.setVerificationCode(randomCode);
         User userRes = userRepository.save(user);
+        userDetailsCache.evict(userRes.getEmail());
         try {
             sendVerificationEmail(userRes, siteURL);
         } catch (Exception e) {
@@ -164,6 +171,7 @@ public class AuthServiceImpl implements AuthService {
     ) {
         User user = securityUtils.requireCurrentUser();
         boolean updated = false;
+        boolean passwordChanged = false;
 
         if (request.userName() != null) {
             String trimmedName = request.userName().trim();
@@ -199,16 +207,19 @@ public class AuthServiceImpl implements AuthService {
             user.setPassword(passwordEncoder.encode(request.password()));
             user.setResetPasswordDate(LocalDateTime.now());
             updated = true;
+            passwordChanged = true;
         }
 
         if (request.picture() != null) {
+            // Compare hashes so an unchanged picture is not ingested again
             if (request.picture().length == 0) {
-                if (user.getPicture() != null && user.getPicture().length > 0) {
-                    user.setPicture(null);
+                if (user.getPictureHash() != null) {
+                    user.removePicture();
                     updated = true;
                 }
-            } else if (!Arrays.equals(request.picture(), user.getPicture())) {
-                user.setPicture(request.picture());
+            } else if (!ImageUtils.sha256Hex(request.picture()).equals(user.getPictureHash())) {
+                ImageService.IngestedPicture ingested = imageService.ingest(request.picture());
+                user.setPicture(ingested.originalHash(), ingested.thumbnailHash(), ingested.previewHash());
                 updated = true;
             }
         }
@@ -218,6 +229,11 @@ public class AuthServiceImpl implements AuthService {
         }
 
         User updatedUser = userRepository.save(user);
+        userDetailsCache.evict(updatedUser.getEmail());
+        if (passwordChanged) {
+            // Access tokens issued before the change are re-checked against the account
+            tokenRevocationRegistry.revoke(updatedUser.getId());
+        }
         return userMapper.toDto(updatedUser);
     }
 
@@ -286,6 +302,7 @@ public class AuthServiceImpl implements AuthService {
         user.setStatus(UserStatus.ACTIVE);
         user.setEmailConfirmed(Boolean.TRUE);
         userRepository.save(user);
+        userDetailsCache.evict(user.getEmail());
         return "User activated successfully. Welcome " + user.getUserName();
     }
 
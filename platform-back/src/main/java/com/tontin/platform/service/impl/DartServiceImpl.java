@@ -2,12 +2,10 @@ package com.tontin.platform.service.impl;
 
 import com.tontin.platform.config.SecurityUtils;
 import com.tontin.platform.domain.Dart;
-import com.tontin.platform.domain.Round;
 import com.tontin.platform.domain.User;
 import com.tontin.platform.domain.enums.dart.DartPermission;
 import com.tontin.platform.domain.enums.dart.DartStatus;
 import com.tontin.platform.domain.enums.member.MemberStatus;
-import com.tontin.platform.domain.enums.round.RoundStatus;
 import com.tontin.platform.domain.Member;
 import com.tontin.platform.dto.dart.request.DartRequest;
 import com.tontin.platform.dto.dart.request.StartDartRequest;
@@ -18,11 +16,18 @@ import com.tontin.platform.repository.DartRepository;
 import com.tontin.platform.repository.MemberRepository;
 import com.tontin.platform.repository.RoundRepository;
 import com.tontin.platform.repository.UserRepository;
+import com.tontin.platform.repository.projection.DartMemberRow;
+import com.tontin.platform.repository.projection.DartRoundStats;
 import com.tontin.platform.service.DartService;
+import com.tontin.platform.service.ImageService;
 import com.tontin.platform.service.MemberService;
+import com.tontin.platform.util.ImageUtils;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -46,6 +51,7 @@ public class DartServiceImpl implements DartService {
     private final SecurityUtils securityUtils;
     private final com.tontin.platform.service.RoundService roundService;
     private final UserRepository userRepository;
+    private final ImageService imageService;
 
     // -------------------------------------------------------------------------
     // Helper
@@ -53,18 +59,15 @@ public class DartServiceImpl implements DartService {
 
     /**
      * Builds a fully-populated DartResponse with real round statistics.
-     * Uses 3 lightweight queries: paid count, total count, and next payout date.
+     * Uses 2 count queries; the next payout date comes from the current round pointer.
      */
     private DartResponse buildResponse(Dart dart, UUID currentUserId) {
         UUID dartId = dart.getId();
         long paidRounds = roundRepository.countPaidRoundsByDartId(dartId);
         long totalRounds = roundRepository.countByDartId(dartId);
-        LocalDateTime nextPayoutDate = roundRepository
-            .findAllByDartIdAndStatus(dartId, RoundStatus.INPAYED)
-            .stream()
-            .findFirst()
-            .map(Round::getDate)
-            .orElse(null);
+        LocalDateTime nextPayoutDate = dart.getCurrentRound() != null
+            ? dart.getCurrentRound().getDate()
+            : null;
         return dartMapper.toDtoWithContext(
             dart,
             currentUserId,
@@ -74,6 +77,36 @@ public class DartServiceImpl implements DartService {
         );
     }
 
+    /**
+     * Builds list responses for a page of darts with two set-based queries (round
+     * aggregates and member rows), whatever the page size. Darts' lazy {@code members}
+     * and pictures are never initialized.
+     */
+    private Page<DartResponse> buildListing(Page<Dart> dartPage, UUID currentUserId) {
+        if (dartPage.isEmpty()) {
+            return dartPage.map(dart -> null);
+        }
+        List<UUID> dartIds = dartPage.getContent().stream().map(Dart::getId).toList();
+
+        Map<UUID, DartRoundStats> statsByDart = roundRepository
+            .findRoundStatsByDartIds(dartIds)
+            .stream()
+            .collect(Collectors.toMap(DartRoundStats::dartId, Function.identity()));
+        Map<UUID, List<DartMemberRow>> membersByDart = memberRepository
+            .findMemberRowsByDartIds(dartIds)
+            .stream()
+            .collect(Collectors.groupingBy(DartMemberRow::dartId));
+
+        return dartPage.map(dart ->
+            dartMapper.toListItem(
+                dart,
+                currentUserId,
+                statsByDart.getOrDefault(dart.getId(), DartRoundStats.empty(dart.getId())),
+                membersByDart.getOrDefault(dart.getId(), List.of())
+            )
+        );
+    }
+
     @Override
     @Transactional
     public DartResponse createDart(DartRequest request) {
@@ -83,6 +116,7 @@ public class DartServiceImpl implements DartService {
         );
         validateRequest(request);
         Dart dart = dartMapper.toEntity(request);
+        applyPicture(dart, request.picture());
         dart.setStatus(DartStatus.PENDING);
         dart.setStartDate(null); // Will be set when organizer starts the dart
         Dart savedDart = dartRepository.save(dart);
@@ -133,6 +167,7 @@ public class DartServiceImpl implements DartService {
             );
 
         Dart dart = dartMapper.toEntity(request);
+        applyPicture(dart, request.picture());
         dart.setStatus(DartStatus.PENDING);
         dart.setStartDate(null);
         Dart savedDart = dartRepository.save(dart);
@@ -248,11 +283,29 @@ public class DartServiceImpl implements DartService {
         if (request.customRules() != null) {
             dart.setCustomRules(request.customRules());
         }
-        if (request.picture() != null) {
-            dart.setPicture(
-                request.picture().length == 0 ? null : request.picture()
-            );
+        applyPicture(dart, request.picture());
+    }
+
+    /**
+     * Stores a new cover picture with its thumbnail variants. Null leaves the picture
+     * unchanged, an empty array removes it.
+     */
+    private void applyPicture(Dart dart, byte[] picture) {
+        if (picture == null) {
+            return;
+        }
+        if (picture.length == 0) {
+            dart.removePicture();
+            return;
         }
+        if (
+            dart.getThumbnailHash() != null &&
+            ImageUtils.sha256Hex(picture).equals(dart.getPictureHash())
+        ) {
+            return;
+        }
+        ImageService.IngestedPicture ingested = imageService.ingest(picture);
+        dart.setPicture(ingested.originalHash(), ingested.thumbnailHash(), ingested.previewHash());
     }
 
     private void validateRequest(DartRequest request) {
@@ -289,42 +342,30 @@ public class DartServiceImpl implements DartService {
             pageSize
         );
 
-        User currentUser = securityUtils.requireCurrentUser();
+        UUID currentUserId = securityUtils.requireCurrentUserId();
         Pageable pageable = PageRequest.of(page, pageSize);
 
         Page<Dart> dartPage;
         if (status != null) {
             dartPage = dartRepository.findAllByUserIdAndStatus(
-                currentUser.getId(),
+                currentUserId,
                 status,
                 pageable
             );
         } else {
             dartPage = dartRepository.findAllByUserId(
-                currentUser.getId(),
+                currentUserId,
                 pageable
             );
         }
-        log.info("Total elements from DB: {}", dartPage.getTotalElements());
-        log.info(
-            "Content size before mapping: {}",
-            dartPage.getContent().size()
-        );
-        dartPage
-            .getContent()
-            .forEach(d -> log.info("Dart ID from DB: {}", d.getId()));
-        log.info("Current user ID: {}", currentUser.getId());
-
-        Page<DartResponse> responsePage = dartPage.map(dart ->
-            buildResponse(dart, currentUser.getId())
-        );
+        Page<DartResponse> responsePage = buildListing(dartPage, currentUserId);
 
         log.debug(
-            "Retrieved {} darts for user {}",
+            "Retrieved {} of {} darts for user {}",
             responsePage.getNumberOfElements(),
-            currentUser.getId()
+            responsePage.getTotalElements(),
+            currentUserId
         );
-        System.out.println(responsePage);
 
         return PageResponse.of(responsePage);
     }
@@ -336,17 +377,14 @@ public class DartServiceImpl implements DartService {
         int page,
         int pageSize
     ) {
-        User currentUser = securityUtils.requireCurrentUser();
+        UUID currentUserId = securityUtils.requireCurrentUserId();
         Pageable pageable = PageRequest.of(page, pageSize);
         Page<Dart> dartPage =
             status != null
                 ? dartRepository.findAllByStatusOrderByCreatedAtDesc(status, pageable)
                 : dartRepository.findAllByOrderByCreatedAtDesc(pageable);
 
-        Page<DartResponse> responsePage = dartPage.map(dart ->
-            buildResponse(dart, currentUser.getId())
-        );
-        return PageResponse.of(responsePage);
+        return PageResponse.of(buildListing(dartPage, currentUserId));
     }
 
     @Override
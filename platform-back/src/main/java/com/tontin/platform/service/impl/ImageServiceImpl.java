@@ -0,0 +1,181 @@
+package com.tontin.platform.service.impl;
+
+import com.tontin.platform.repository.ImageRepository;
+import com.tontin.platform.service.ImageService;
+import com.tontin.platform.util.ImageUtils;
+import java.awt.Dimension;
+import java.awt.image.BufferedImage;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Picture ingestion and lookup.
+ *
+ * <p>Uploads are decoded once and rendered to 64px (lists) and 256px (detail)
+ * variants. The original and both variants are stored in {@code images} under the
+ * SHA-256 of their bytes, so identical pictures (same picture uploaded twice, shared
+ * avatars) are stored once and user/dart rows only carry the hashes.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImageServiceImpl implements ImageService {
+
+    private static final int BACKFILL_BATCH = 100;
+    private static final float JPEG_QUALITY = 0.85f;
+    private static final String INSERT_IMAGE_SQL =
+        "INSERT INTO images (hash, content_type, width, height, content, created_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?) ON CONFLICT DO NOTHING";
+
+    private final ImageRepository imageRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.images.max-upload-bytes:5242880}")
+    private long maxUploadBytes;
+
+    /** Decoding budget: a small compressed upload can declare a huge canvas. */
+    @Value("${app.images.max-pixels:16000000}")
+    private long maxPixels;
+
+    @Override
+    @Transactional
+    public IngestedPicture ingest(byte[] upload) {
+        if (upload.length > maxUploadBytes) {
+            throw new ResponseStatusException(
+                HttpStatus.PAYLOAD_TOO_LARGE,
+                "Picture must not exceed " + (maxUploadBytes / 1024) + " KB"
+            );
+        }
+        // Header only: the pixels are decoded once the size is known to fit the budget
+        Dimension size = ImageUtils.readDimensions(upload);
+        if (size != null && !withinPixelBudget(size)) {
+            throw new ResponseStatusException(
+                HttpStatus.PAYLOAD_TOO_LARGE,
+                "Picture must not exceed " + (maxPixels / 1_000_000) + " megapixels"
+            );
+        }
+        BufferedImage decoded = size != null ? ImageUtils.decode(upload) : null;
+        if (decoded == null) {
+            throw new ResponseStatusException(
+                HttpStatus.BAD_REQUEST,
+                "Unsupported picture format (use JPEG, PNG or GIF)"
+            );
+        }
+        return new IngestedPicture(
+            store(upload, decoded.getWidth(), decoded.getHeight()),
+            storeVariant(decoded, THUMBNAIL_SIZE),
+            storeVariant(decoded, PREVIEW_SIZE)
+        );
+    }
+
+    private boolean withinPixelBudget(Dimension size) {
+        return (long) size.width * size.height <= maxPixels;
+    }
+
+    private String storeVariant(BufferedImage decoded, int maxSide) {
+        BufferedImage resized = ImageUtils.resizeToFit(decoded, maxSide);
+        return store(ImageUtils.encode(resized, JPEG_QUALITY), resized.getWidth(), resized.getHeight());
+    }
+
+    private String store(byte[] content, int width, int height) {
+        String hash = ImageUtils.sha256Hex(content);
+        // Content-addressed: an existing row with this hash holds the same bytes
+        if (!imageRepository.existsById(hash)) {
+            jdbcTemplate.update(
+                INSERT_IMAGE_SQL,
+                hash,
+                ImageUtils.detectContentType(content),
+                width,
+                height,
+                content,
+                Timestamp.valueOf(LocalDateTime.now())
+            );
+        }
+        return hash;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<StoredImage> findByHash(String hash) {
+        if (!ImageUtils.isValidHash(hash)) {
+            return Optional.empty();
+        }
+        return imageRepository
+            .findById(hash)
+            .map(image -> new StoredImage(hash, image.getContentType(), image.getContent()));
+    }
+
+    /**
+     * Moves pictures stored before ingestion existed out of the legacy
+     * {@code users.picture}/{@code darts.picture} columns into {@code images}, with
+     * their thumbnail variants, and clears the column.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillPictures() {
+        try {
+            int users = backfill("users");
+            int darts = backfill("darts");
+            if (users + darts > 0) {
+                log.info("Backfilled pictures of {} users and {} darts", users, darts);
+            }
+        } catch (Exception e) {
+            log.error("Picture backfill failed: {}", e.getMessage());
+        }
+    }
+
+    private int backfill(String table) {
+        int total = 0;
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT id, picture FROM " + table + " WHERE picture IS NOT NULL LIMIT " + BACKFILL_BATCH
+            );
+            if (rows.isEmpty()) {
+                return total;
+            }
+            for (Map<String, Object> row : rows) {
+                UUID id = (UUID) row.get("id");
+                byte[] picture = (byte[]) row.get("picture");
+                String hash = ImageUtils.sha256Hex(picture);
+                if (hash == null) {
+                    // Empty bytea: clear it so it is not picked up again
+                    jdbcTemplate.update("UPDATE " + table + " SET picture = NULL WHERE id = ?", id);
+                    continue;
+                }
+                Dimension size = ImageUtils.readDimensions(picture);
+                BufferedImage decoded = null;
+                if (size != null && !withinPixelBudget(size)) {
+                    log.warn("Picture of {} {} is {}x{}, not rendering variants", table, id, size.width, size.height);
+                } else if (size != null) {
+                    decoded = ImageUtils.decode(picture);
+                }
+                // Undecodable or oversized legacy upload: kept as is, variants point at it
+                store(picture, size != null ? size.width : 0, size != null ? size.height : 0);
+                String thumbnail = decoded != null ? storeVariant(decoded, THUMBNAIL_SIZE) : hash;
+                String preview = decoded != null ? storeVariant(decoded, PREVIEW_SIZE) : hash;
+                jdbcTemplate.update(
+                    "UPDATE " + table +
+                    " SET picture = NULL, picture_hash = ?, thumbnail_hash = ?, preview_hash = ? WHERE id = ?",
+                    hash,
+                    thumbnail,
+                    preview,
+                    id
+                );
+                total++;
+            }
+        }
+    }
+}
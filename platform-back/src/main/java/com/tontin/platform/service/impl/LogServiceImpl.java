@@ -0,0 +1,90 @@
+package com.tontin.platform.service.impl;
+
+import com.tontin.platform.domain.Loggin;
+import com.tontin.platform.dto.dart.response.PageResponse;
+import com.tontin.platform.dto.log.response.LogResponse;
+import com.tontin.platform.repository.LogRepository;
+import com.tontin.platform.repository.spec.LogSpecifications;
+import com.tontin.platform.service.LogService;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LogServiceImpl implements LogService {
+
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final LogRepository logRepository;
+
+    @Value("${logs.query.max-range-days:93}")
+    private long maxRangeDays;
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<LogResponse> search(
+        LocalDateTime from,
+        LocalDateTime to,
+        String userEmail,
+        String requestId,
+        String event,
+        String status,
+        int page,
+        int size
+    ) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new ResponseStatusException(
+                HttpStatus.BAD_REQUEST,
+                "A valid time range (from < to) is required"
+            );
+        }
+        if (Duration.between(from, to).toDays() > maxRangeDays) {
+            throw new ResponseStatusException(
+                HttpStatus.BAD_REQUEST,
+                "Time range must not exceed " + maxRangeDays + " days"
+            );
+        }
+
+        Specification<Loggin> spec =
+            Specification.where(LogSpecifications.betweenInclusiveStartExclusiveEnd(from, to))
+                .and(LogSpecifications.hasUserEmail(userEmail))
+                .and(LogSpecifications.hasRequestId(requestId))
+                .and(LogSpecifications.hasEvent(event))
+                .and(LogSpecifications.hasStatus(status));
+        PageRequest pageable = PageRequest.of(
+            Math.max(0, page),
+            Math.min(Math.max(1, size), MAX_PAGE_SIZE),
+            Sort.by(Sort.Direction.DESC, "timestamp")
+        );
+        Page<LogResponse> result = logRepository
+            .findAll(spec, pageable)
+            .map(this::toResponse);
+        return PageResponse.of(result);
+    }
+
+    private LogResponse toResponse(Loggin log) {
+        return new LogResponse(
+            log.getId() != null ? log.getId().toString() : null,
+            log.getTimestamp() != null ? log.getTimestamp().toString() : null,
+            log.getRequestId(),
+            log.getEvent(),
+            log.getPath(),
+            log.getStatus(),
+            log.getUserEmail(),
+            log.getEnv(),
+            log.getErrorMessage()
+        );
+    }
+}
@@ -0,0 +1,198 @@
+package com.tontin.platform.service.impl;
+
+import com.tontin.platform.service.LogStorageService;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Storage management for the {@code logs} audit table.
+ *
+ * <p>On PostgreSQL, {@code logs} is partitioned by {@code RANGE (timestamp)} by the
+ * {@code V10__partition_logs_by_month} vendor migration: one partition per month
+ * ({@code logs_pYYYYMM}) plus {@code logs_default}, which holds everything written
+ * before. This service only creates the coming months ahead of time and drops the
+ * expired ones, which is much cheaper than {@code DELETE} on the insert path. A new
+ * month takes over the rows {@code logs_default} already holds for it; the rest of
+ * {@code logs_default} is purged row by row once it is older than the retention.</p>
+ *
+ * <p>When {@code logs} is a plain table (H2 in the {@code embedded} profile),
+ * retention falls back to deleting rows older than the cut-off.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LogStorageServiceImpl implements LogStorageService {
+
+    private static final String TABLE = "logs";
+    private static final String DEFAULT_PARTITION = "logs_default";
+    private static final Pattern PARTITION_NAME = Pattern.compile("logs_p(\\d{6})");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${logs.partitions.premake-months:2}")
+    private int premakeMonths;
+
+    @Value("${logs.retention.months:6}")
+    private int retentionMonths;
+
+    private volatile Boolean partitioned;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            ensurePartitions();
+        } catch (Exception e) {
+            log.error("Could not prepare partitions for table {}: {}", TABLE, e.getMessage());
+        }
+    }
+
+    @Override
+    public void ensurePartitions() {
+        if (!isPartitioned()) {
+            return;
+        }
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= premakeMonths; i++) {
+            createPartition(current.plusMonths(i));
+        }
+    }
+
+    @Override
+    public long purgeExpired() {
+        if (retentionMonths <= 0) {
+            return 0;
+        }
+        YearMonth oldestKept = YearMonth.now().minusMonths(retentionMonths);
+
+        if (!isPartitioned()) {
+            int deleted = jdbcTemplate.update(
+                "DELETE FROM " + TABLE + " WHERE timestamp < ?",
+                Timestamp.valueOf(oldestKept.atDay(1).atStartOfDay())
+            );
+            log.info("Deleted {} audit log rows older than {}", deleted, oldestKept);
+            return deleted;
+        }
+
+        // Rows outside every monthly partition (far past or future timestamps)
+        int deleted = jdbcTemplate.update(
+            "DELETE FROM " + DEFAULT_PARTITION + " WHERE timestamp < ?",
+            Timestamp.valueOf(oldestKept.atDay(1).atStartOfDay())
+        );
+        if (deleted > 0) {
+            log.info("Deleted {} expired audit log rows from {}", deleted, DEFAULT_PARTITION);
+        }
+
+        long dropped = 0;
+        for (String partition : listPartitions()) {
+            Matcher matcher = PARTITION_NAME.matcher(partition);
+            if (!matcher.matches()) {
+                continue;
+            }
+            YearMonth month = YearMonth.parse(matcher.group(1), SUFFIX);
+            if (month.isBefore(oldestKept)) {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+                log.info("Dropped expired audit log partition {}", partition);
+                dropped++;
+            }
+        }
+        return dropped;
+    }
+
+    /**
+     * Resolves (once) whether {@code logs} is a partitioned table.
+     */
+    private boolean isPartitioned() {
+        Boolean current = partitioned;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (partitioned == null) {
+                partitioned = resolvePartitioned();
+            }
+            return partitioned;
+        }
+    }
+
+    private boolean resolvePartitioned() {
+        String product = jdbcTemplate.execute(
+            (ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName()
+        );
+        if (product == null || !product.toLowerCase(Locale.ROOT).contains("postgresql")) {
+            log.info("Audit log partitioning not supported on {}, using a single table", product);
+            return false;
+        }
+
+        List<String> kind = jdbcTemplate.queryForList(
+            "SELECT relkind::text FROM pg_class WHERE oid = to_regclass(?)",
+            String.class,
+            TABLE
+        );
+        if (kind.isEmpty() || !"p".equals(kind.get(0))) {
+            log.warn("Table {} is not partitioned (migrations not applied?), using single-table retention", TABLE);
+            return false;
+        }
+        return true;
+    }
+
+    private void createPartition(YearMonth month) {
+        String name = "logs_p" + month.format(SUFFIX);
+        Timestamp start = Timestamp.valueOf(month.atDay(1).atStartOfDay());
+        Timestamp end = Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay());
+        String bounds = " FOR VALUES FROM ('" + start.toLocalDateTime() + "') TO ('" + end.toLocalDateTime() + "')";
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (Boolean.TRUE.equals(
+                    jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, name)
+                )) {
+                    return;
+                }
+                // Blocks inserts into logs_default until the month is attached, so no
+                // row for it can land there between the move and the ATTACH check
+                jdbcTemplate.execute("LOCK TABLE " + DEFAULT_PARTITION + " IN SHARE ROW EXCLUSIVE MODE");
+                jdbcTemplate.execute(
+                    "CREATE TABLE " + name + " (LIKE " + TABLE + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)"
+                );
+                int moved = jdbcTemplate.update(
+                    "WITH moved AS (DELETE FROM " + DEFAULT_PARTITION +
+                    " WHERE timestamp >= ? AND timestamp < ? RETURNING *) " +
+                    "INSERT INTO " + name + " SELECT * FROM moved",
+                    start,
+                    end
+                );
+                jdbcTemplate.execute("ALTER TABLE " + TABLE + " ATTACH PARTITION " + name + bounds);
+                if (moved > 0) {
+                    log.info("Moved {} audit log rows from {} into {}", moved, DEFAULT_PARTITION, name);
+                }
+            });
+        } catch (Exception e) {
+            log.error("Could not create audit log partition {}: {}", name, e.getMessage());
+        }
+    }
+
+    private List<String> listPartitions() {
+        return jdbcTemplate.queryForList(
+            "SELECT c.relname::text FROM pg_inherits i " +
+            "JOIN pg_class c ON c.oid = i.inhrelid " +
+            "WHERE i.inhparent = to_regclass(?)",
+            String.class,
+            TABLE
+        );
+    }
+}
@@ -0,0 +1,51 @@
+package com.tontin.platform.service.impl;
+
+import com.tontin.platform.repository.MemberRepository;
+import com.tontin.platform.repository.projection.PaymentEligibilityRow;
+import com.tontin.platform.service.PaymentEligibilityService;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class PaymentEligibilityServiceImpl implements PaymentEligibilityService {
+
+    private final MemberRepository memberRepository;
+
+    /** Payments open this many days before each round date; 0 or less: pay anytime. */
+    @Value("${rounds.payment-window.open-days:5}")
+    private int windowOpenDays;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Eligibility evaluate(UUID dartId, UUID userId) {
+        Optional<PaymentEligibilityRow> row = memberRepository.findPaymentEligibility(dartId, userId);
+        if (row.isEmpty()) {
+            return new Eligibility(Outcome.NOT_MEMBER, null);
+        }
+        PaymentEligibilityRow facts = row.get();
+        return new Eligibility(outcomeOf(facts, LocalDateTime.now()), facts);
+    }
+
+    private Outcome outcomeOf(PaymentEligibilityRow facts, LocalDateTime now) {
+        if (facts.roundId() == null) {
+            return Outcome.NO_OPEN_ROUND;
+        }
+        if (facts.memberId().equals(facts.recipientMemberId())) {
+            return Outcome.RECIPIENT;
+        }
+        if (Boolean.TRUE.equals(facts.alreadyPaid())) {
+            return Outcome.ALREADY_PAID;
+        }
+        // Same window as the reminders of RoundDueDateServiceImpl
+        if (windowOpenDays > 0 && now.isBefore(facts.roundDate().minusDays(windowOpenDays))) {
+            return Outcome.WINDOW_NOT_OPEN;
+        }
+        return Outcome.ELIGIBLE;
+    }
+}
@@ -0,0 +1,158 @@
+package com.tontin.platform.service.impl;
+
+import com.stripe.StripeClient;
+import com.stripe.exception.ApiConnectionException;
+import com.stripe.exception.ApiException;
+import com.stripe.exception.AuthenticationException;
+import com.stripe.exception.RateLimitException;
+import com.stripe.exception.StripeException;
+import com.stripe.model.PaymentIntent;
+import com.stripe.net.RequestOptions;
+import com.stripe.param.PaymentIntentCreateParams;
+import com.tontin.platform.service.PaymentGatewayService;
+import com.tontin.platform.util.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Stripe implementation of {@link PaymentGatewayService}.
+ *
+ * <p>Uses one {@link StripeClient} built from the configuration instead of the global
+ * {@code Stripe.apiKey}, with explicit connect/read timeouts. Its HTTP client keeps
+ * connections to the API host alive between calls. {@code stripe.api-base} can point
+ * at a local stub for tests.</p>
+ *
+ * <p>Calls go through a {@link CircuitBreaker}: timeouts, connection errors, 5xx and
+ * rate limiting count as failures; after {@code stripe.circuit-breaker.failure-threshold}
+ * in a row, calls fail fast with 503 for {@code stripe.circuit-breaker.open-duration} ms.
+ * Errors where Stripe answered (invalid request, card error, bad key) do not trip it.
+ * Latency is recorded as {@code payment.gateway.requests} by operation and outcome.</p>
+ */
+@Service
+@Slf4j
+public class PaymentGatewayServiceImpl implements PaymentGatewayService {
+
+    private static final String UNAVAILABLE =
+        "The payment provider is temporarily unavailable. Try again in a moment.";
+
+    private final StripeClient client;
+    private final CircuitBreaker breaker;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejected;
+
+    public PaymentGatewayServiceImpl(
+        MeterRegistry meterRegistry,
+        @Value("${stripe.secret-key:}") String secretKey,
+        @Value("${stripe.api-base:https://api.stripe.com}") String apiBase,
+        @Value("${stripe.connect-timeout:5000}") int connectTimeoutMillis,
+        @Value("${stripe.read-timeout:15000}") int readTimeoutMillis,
+        @Value("${stripe.max-network-retries:1}") int maxNetworkRetries,
+        @Value("${stripe.circuit-breaker.failure-threshold:5}") int failureThreshold,
+        @Value("${stripe.circuit-breaker.open-duration:30000}") long openDurationMillis
+    ) {
+        String key = secretKey != null ? secretKey.trim() : "";
+        boolean configured = key.startsWith("sk_") || key.startsWith("rk_");
+        this.client = configured
+            ? StripeClient.builder()
+                .setApiKey(key)
+                .setApiBase(apiBase)
+                .setConnectTimeout(connectTimeoutMillis)
+                .setReadTimeout(readTimeoutMillis)
+                .setMaxNetworkRetries(maxNetworkRetries)
+                .build()
+            : null;
+        this.breaker = new CircuitBreaker(failureThreshold, openDurationMillis);
+        this.meterRegistry = meterRegistry;
+        this.rejected = Counter.builder("payment.gateway.rejected").register(meterRegistry);
+        Gauge.builder("payment.gateway.circuit.open", breaker, b -> b.state() == CircuitBreaker.State.OPEN ? 1 : 0)
+            .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    private interface StripeCall {
+        PaymentIntent run() throws StripeException;
+    }
+
+    @Override
+    public boolean isConfigured() {
+        return client != null;
+    }
+
+    @Override
+    public Intent createIntent(
+        long amountCents,
+        String currency,
+        Map<String, String> metadata,
+        String idempotencyKey
+    ) {
+        PaymentIntentCreateParams params = PaymentIntentCreateParams.builder()
+            .setAmount(amountCents)
+            .setCurrency(currency)
+            .putAllMetadata(metadata)
+            .setAutomaticPaymentMethods(
+                PaymentIntentCreateParams.AutomaticPaymentMethods.builder()
+                    .setEnabled(true)
+                    .build()
+            )
+            .build();
+        RequestOptions options = idempotencyKey != null
+            ? RequestOptions.builder().setIdempotencyKey(idempotencyKey).build()
+            : RequestOptions.getDefault();
+        return toIntent(call("create", () -> client.paymentIntents().create(params, options)));
+    }
+
+    @Override
+    public Intent retrieveIntent(String intentId) {
+        return toIntent(call("retrieve", () -> client.paymentIntents().retrieve(intentId)));
+    }
+
+    private PaymentIntent call(String operation, StripeCall call) {
+        if (client == null) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Stripe is not configured.");
+        }
+        if (!breaker.tryAcquire()) {
+            rejected.increment();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, UNAVAILABLE);
+        }
+        long start = System.nanoTime();
+        String outcome = "success";
+        try {
+            PaymentIntent result = call.run();
+            breaker.onSuccess();
+            return result;
+        } catch (ApiConnectionException | ApiException | RateLimitException e) {
+            outcome = "unavailable";
+            breaker.onFailure();
+            log.warn("Stripe {} failed ({}): {}", operation, e.getClass().getSimpleName(), e.getMessage());
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, UNAVAILABLE);
+        } catch (StripeException e) {
+            // Stripe answered: the provider is up, the request itself was refused
+            outcome = "error";
+            breaker.onSuccess();
+            log.error("Stripe {} rejected: {}", operation, e.getMessage());
+            String msg = e instanceof AuthenticationException
+                ? "Stripe secret key is invalid. Check STRIPE_SECRET_KEY or stripe.secret-key."
+                : "Could not create payment session. Try again.";
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, msg);
+        } finally {
+            Timer.builder("payment.gateway.requests")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Intent toIntent(PaymentIntent intent) {
+        return new Intent(intent.getId(), intent.getStatus(), intent.getClientSecret());
+    }
+}
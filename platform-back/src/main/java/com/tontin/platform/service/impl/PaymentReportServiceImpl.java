@@ -1,26 +1,38 @@
 package com.tontin.platform.service.impl;
 
 import com.tontin.platform.domain.Payment;
+import com.tontin.platform.domain.enums.payment.ChartGranularity;
 import com.tontin.platform.domain.enums.payment.PaymentStatus;
+import com.tontin.platform.domain.enums.payment.PaymentTotalKind;
 import com.tontin.platform.domain.enums.round.RoundStatus;
 import com.tontin.platform.dto.dart.response.PageResponse;
 import com.tontin.platform.dto.payment.response.MonthlyChartPointResponse;
+import com.tontin.platform.dto.payment.response.PaymentChartResponse;
 import com.tontin.platform.dto.payment.response.PaymentReportItemResponse;
 import com.tontin.platform.dto.payment.response.PaymentReportSummaryResponse;
 import com.tontin.platform.repository.PaymentRepository;
 import com.tontin.platform.repository.RoundRepository;
 import com.tontin.platform.repository.spec.PaymentSpecifications;
 import com.tontin.platform.service.PaymentReportService;
+import com.tontin.platform.service.PaymentRollupService;
+import com.tontin.platform.util.PageCursor;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.YearMonth;
-import java.time.format.TextStyle;
+import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -29,16 +41,26 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PaymentReportServiceImpl implements PaymentReportService {
 
+    private static final int EXPORT_BATCH_SIZE = 1000;
+    private static final int MAX_CURSOR_PAGE_SIZE = 200;
+    private static final int MAX_CHART_BUCKETS = 1000;
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+
     private final PaymentRepository paymentRepository;
     private final RoundRepository roundRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PaymentRollupService paymentRollupService;
 
     @Override
     @Transactional(readOnly = true)
@@ -47,6 +69,35 @@ public class PaymentReportServiceImpl implements PaymentReportService {
         UUID dartId,
         LocalDateTime from,
         LocalDateTime to
+    ) {
+        if (!isWholeDays(from, to)) {
+            return getSummaryFromSources(userId, dartId, from, to);
+        }
+        LocalDate fromDay = from.toLocalDate();
+        LocalDate toDay = to.toLocalDate();
+        return new PaymentReportSummaryResponse(
+            paymentRollupService.sum(PaymentTotalKind.PAYED, userId, dartId, fromDay, toDay),
+            paymentRollupService.sum(PaymentTotalKind.PENDING, userId, dartId, fromDay, toDay),
+            paymentRollupService.sum(PaymentTotalKind.PAYOUT, userId, dartId, fromDay, toDay),
+            BigDecimal.ZERO,
+            null
+        );
+    }
+
+    private static boolean isWholeDays(LocalDateTime from, LocalDateTime to) {
+        return from.toLocalTime().equals(LocalTime.MIDNIGHT) &&
+            to.toLocalTime().equals(LocalTime.MIDNIGHT);
+    }
+
+    /**
+     * Sums straight from {@code payments} and {@code rounds}, for ranges that do not
+     * start and end at midnight (the daily totals cannot split a day).
+     */
+    private PaymentReportSummaryResponse getSummaryFromSources(
+        UUID userId,
+        UUID dartId,
+        LocalDateTime from,
+        LocalDateTime to
     ) {
         BigDecimal contributed =
             sumByStatus(userId, dartId, PaymentStatus.PAYED, from, to);
@@ -142,13 +193,7 @@ public class PaymentReportServiceImpl implements PaymentReportService {
         int page,
         int size
     ) {
-        Specification<Payment> spec =
-            Specification.where(PaymentSpecifications.forUser(userId))
-                .and(PaymentSpecifications.forDartId(dartId))
-                .and(
-                    PaymentSpecifications.betweenInclusiveStartExclusiveEnd(from, to)
-                )
-                .and(PaymentSpecifications.hasStatus(statusFilter));
+        Specification<Payment> spec = reportFilter(userId, dartId, from, to, statusFilter);
 
         Page<Payment> result =
             paymentRepository.findAll(
@@ -160,6 +205,58 @@ public class PaymentReportServiceImpl implements PaymentReportService {
         return PageResponse.of(mapped);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<PaymentReportItemResponse> getPaymentsByCursor(
+        UUID userId,
+        UUID dartId,
+        LocalDateTime from,
+        LocalDateTime to,
+        PaymentStatus statusFilter,
+        String cursor,
+        int size,
+        boolean includeTotal
+    ) {
+        int limit = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        PageCursor position = PageCursor.decode(cursor);
+        Specification<Payment> filter = reportFilter(userId, dartId, from, to, statusFilter);
+        Sort sort = Sort.by(Sort.Direction.DESC, "date").and(Sort.by(Sort.Direction.DESC, "id"));
+
+        // One extra row tells whether a next page exists, without a count query
+        List<Payment> rows = paymentRepository.findBy(
+            filter.and(PaymentSpecifications.after(position)),
+            query -> query.sortBy(sort).limit(limit + 1).all()
+        );
+        boolean hasNext = rows.size() > limit;
+        List<Payment> pageRows = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            Payment last = pageRows.get(pageRows.size() - 1);
+            nextCursor = new PageCursor(last.getDate(), last.getId()).encode();
+        }
+
+        return PageResponse.ofCursor(
+            pageRows.stream().map(this::toItem).toList(),
+            limit,
+            position == null,
+            nextCursor,
+            includeTotal ? paymentRepository.count(filter) : null
+        );
+    }
+
+    private static Specification<Payment> reportFilter(
+        UUID userId,
+        UUID dartId,
+        LocalDateTime from,
+        LocalDateTime to,
+        PaymentStatus statusFilter
+    ) {
+        return Specification.where(PaymentSpecifications.forUser(userId))
+            .and(PaymentSpecifications.forDartId(dartId))
+            .and(PaymentSpecifications.betweenInclusiveStartExclusiveEnd(from, to))
+            .and(PaymentSpecifications.hasStatus(statusFilter));
+    }
+
     private PaymentReportItemResponse toItem(Payment p) {
         return new PaymentReportItemResponse(
             p.getId().toString(),
@@ -198,94 +295,179 @@ public class PaymentReportServiceImpl implements PaymentReportService {
         LocalDateTime from,
         LocalDateTime to
     ) {
-        List<Object[]> rows =
-            dartId == null
-                ? paymentRepository.aggregateMonthlyPayedContributionsAllDarts(
-                    userId,
-                    from,
-                    to
-                )
-                : paymentRepository.aggregateMonthlyPayedContributionsForDart(
-                    userId,
-                    from,
-                    to,
-                    dartId
-                );
+        PaymentChartResponse chart = getChart(userId, dartId, from, to, ChartGranularity.MONTH, false);
+        List<MonthlyChartPointResponse> out = new ArrayList<>(chart.labels().size());
+        for (int i = 0; i < chart.labels().size(); i++) {
+            out.add(new MonthlyChartPointResponse(chart.labels().get(i), chart.total().get(i)));
+        }
+        return out;
+    }
 
-        Map<YearMonth, BigDecimal> totals = new HashMap<>();
-        for (Object[] row : rows) {
-            if (row[0] == null || row[1] == null) {
-                continue;
+    @Override
+    @Transactional(readOnly = true)
+    public PaymentChartResponse getChart(
+        UUID userId,
+        UUID dartId,
+        LocalDateTime from,
+        LocalDateTime to,
+        ChartGranularity granularity,
+        boolean byDart
+    ) {
+        LocalDate fromDay = from.toLocalDate();
+        LocalDate toDay = to.toLocalTime().equals(LocalTime.MIDNIGHT)
+            ? to.toLocalDate()
+            : to.toLocalDate().plusDays(1);
+
+        // Zero-filled buckets covering [fromDay, toDay)
+        Map<LocalDate, Integer> index = new HashMap<>();
+        List<String> labels = new ArrayList<>();
+        List<String> starts = new ArrayList<>();
+        for (
+            LocalDate start = granularity.bucketStart(fromDay);
+            start.isBefore(toDay);
+            start = granularity.next(start)
+        ) {
+            if (labels.size() == MAX_CHART_BUCKETS) {
+                throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Too many chart buckets; use a coarser granularity or a shorter range"
+                );
             }
-            LocalDateTime bucket =
-                row[0] instanceof Timestamp ts
-                    ? ts.toLocalDateTime()
-                    : (LocalDateTime) row[0];
-            YearMonth ym = YearMonth.from(bucket);
-            BigDecimal amt =
-                row[1] instanceof BigDecimal bd
-                    ? bd
-                    : BigDecimal.valueOf(((Number) row[1]).doubleValue());
-            totals.put(ym, amt);
+            index.put(start, labels.size());
+            labels.add(granularity.label(start));
+            starts.add(start.toString());
         }
 
-        YearMonth startYm = YearMonth.from(from);
-        YearMonth endYm = YearMonth.from(to.minusNanos(1));
-
-        List<MonthlyChartPointResponse> out = new ArrayList<>();
-        for (YearMonth ym = startYm; !ym.isAfter(endYm); ym = ym.plusMonths(1)) {
-            String label =
-                ym.getMonth().getDisplayName(TextStyle.SHORT, Locale.US)
-                    + " "
-                    + ym.getYear();
-            BigDecimal value = totals.getOrDefault(ym, BigDecimal.ZERO);
-            out.add(new MonthlyChartPointResponse(label, value));
+        BigDecimal[] total = zeros(labels.size());
+        Map<UUID, BigDecimal[]> perDart = new LinkedHashMap<>();
+        Map<UUID, String> dartNames = new HashMap<>();
+        for (PaymentRollupService.DartDay row : paymentRollupService.dailyByDart(
+            PaymentTotalKind.PAYED,
+            userId,
+            dartId,
+            fromDay,
+            toDay
+        )) {
+            int bucket = index.get(granularity.bucketStart(row.day()));
+            total[bucket] = total[bucket].add(row.amount());
+            if (byDart) {
+                BigDecimal[] values = perDart.computeIfAbsent(row.dartId(), id -> zeros(labels.size()));
+                values[bucket] = values[bucket].add(row.amount());
+                dartNames.putIfAbsent(row.dartId(), row.dartName());
+            }
         }
-        return out;
+
+        List<PaymentChartResponse.Series> series = new ArrayList<>(perDart.size());
+        perDart.forEach((id, values) ->
+            series.add(new PaymentChartResponse.Series(id.toString(), dartNames.get(id), List.of(values)))
+        );
+        return new PaymentChartResponse(granularity.name(), labels, starts, List.of(total), series);
+    }
+
+    private static BigDecimal[] zeros(int size) {
+        BigDecimal[] values = new BigDecimal[size];
+        Arrays.fill(values, BigDecimal.ZERO);
+        return values;
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public byte[] exportCsv(UUID userId, UUID dartId, LocalDateTime from, LocalDateTime to) {
-        Specification<Payment> spec =
-            Specification.where(PaymentSpecifications.forUser(userId))
-                .and(PaymentSpecifications.forDartId(dartId))
-                .and(
-                    PaymentSpecifications.betweenInclusiveStartExclusiveEnd(from, to)
-                );
+    public void exportCsv(
+        UUID userId,
+        UUID dartId,
+        LocalDateTime from,
+        LocalDateTime to,
+        OutputStream out
+    ) throws IOException {
+        Writer writer = new BufferedWriter(
+            new OutputStreamWriter(out, StandardCharsets.UTF_8),
+            EXPORT_BUFFER_SIZE
+        );
+        writer.write("id,dartId,darName,date,amount,status,type\n");
 
-        Sort sort = Sort.by(Sort.Direction.DESC, "date");
-        List<Payment> all = new ArrayList<>();
-        int pageIdx = 0;
-        Page<Payment> page;
-        do {
-            page =
-                paymentRepository.findAll(
-                    spec,
-                    PageRequest.of(pageIdx++, 500, sort)
-                );
-            all.addAll(page.getContent());
-        } while (page.hasNext());
-
-        StringBuilder sb = new StringBuilder();
-        sb.append("id,dartId,darName,date,amount,status,type\n");
-        for (Payment p : all) {
-            sb.append(csvEscape(p.getId().toString()))
-                .append(',')
-                .append(csvEscape(p.getRound().getDart().getId().toString()))
-                .append(',')
-                .append(csvEscape(p.getRound().getDart().getName()))
-                .append(',')
-                .append(csvEscape(p.getDate().toString()))
-                .append(',')
-                .append(p.getAmount().toPlainString())
-                .append(',')
-                .append(csvEscape(toFrontendStatus(p.getPaymentStatus())))
-                .append(',')
-                .append("contribution")
-                .append('\n');
+        // Keyset scan over (payment_date, id): every batch is a short indexed query,
+        // so no connection or transaction is held while the client reads
+        ExportCursor cursor = new ExportCursor();
+        int rows;
+        try {
+            do {
+                rows = writeExportBatch(userId, dartId, from, to, cursor, writer);
+                writer.flush();
+            } while (rows == EXPORT_BATCH_SIZE);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private int writeExportBatch(
+        UUID userId,
+        UUID dartId,
+        LocalDateTime from,
+        LocalDateTime to,
+        ExportCursor cursor,
+        Writer writer
+    ) {
+        StringBuilder sql = new StringBuilder(
+            "SELECT p.id, p.payment_date, p.amount, p.payment_status, d.id, d.name " +
+            "FROM payments p " +
+            "JOIN rounds r ON r.id = p.round_id " +
+            "JOIN darts d ON d.id = r.dart_id "
+        );
+        List<Object> args = new ArrayList<>();
+        if (userId != null) {
+            sql.append("JOIN members m ON m.id = p.payer_member_id AND m.user_id = ? ");
+            args.add(userId);
         }
-        return sb.toString().getBytes(StandardCharsets.UTF_8);
+        sql.append("WHERE p.payment_date >= ? AND p.payment_date < ? ");
+        args.add(Timestamp.valueOf(from));
+        args.add(Timestamp.valueOf(to));
+        if (dartId != null) {
+            sql.append("AND r.dart_id = ? ");
+            args.add(dartId);
+        }
+        if (cursor.date != null) {
+            sql.append("AND (p.payment_date < ? OR (p.payment_date = ? AND p.id < ?)) ");
+            args.add(cursor.date);
+            args.add(cursor.date);
+            args.add(cursor.id);
+        }
+        sql.append("ORDER BY p.payment_date DESC, p.id DESC LIMIT ").append(EXPORT_BATCH_SIZE);
+
+        int[] count = { 0 };
+        jdbcTemplate.query(sql.toString(), rs -> {
+            UUID id = rs.getObject(1, UUID.class);
+            Timestamp date = rs.getTimestamp(2);
+            BigDecimal amount = rs.getBigDecimal(3);
+            try {
+                writer.write(csvEscape(id.toString()));
+                writer.write(',');
+                writer.write(csvEscape(rs.getObject(5, UUID.class).toString()));
+                writer.write(',');
+                writer.write(csvEscape(rs.getString(6)));
+                writer.write(',');
+                writer.write(csvEscape(date.toLocalDateTime().toString()));
+                writer.write(',');
+                writer.write(amount.toPlainString());
+                writer.write(',');
+                writer.write(
+                    csvEscape(toFrontendStatus(PaymentStatus.valueOf(rs.getString(4))))
+                );
+                writer.write(",contribution\n");
+            } catch (IOException e) {
+                // Client went away: abort the scan instead of reading the rest
+                throw new UncheckedIOException(e);
+            }
+            cursor.date = date;
+            cursor.id = id;
+            count[0]++;
+        }, args.toArray());
+        return count[0];
+    }
+
+    /** Position of the last exported row. */
+    private static final class ExportCursor {
+
+        private Timestamp date;
+        private UUID id;
     }
 
     private static String csvEscape(String s) {
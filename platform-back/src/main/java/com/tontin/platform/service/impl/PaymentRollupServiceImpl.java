@@ -0,0 +1,506 @@
+package com.tontin.platform.service.impl;
+
+import com.tontin.platform.domain.Member;
+import com.tontin.platform.domain.Payment;
+import com.tontin.platform.domain.PaymentDailyTotal;
+import com.tontin.platform.domain.Round;
+import com.tontin.platform.domain.enums.payment.PaymentStatus;
+import com.tontin.platform.domain.enums.payment.PaymentTotalKind;
+import com.tontin.platform.dto.payment.response.PaymentRollupCheckResponse;
+import com.tontin.platform.service.PaymentRollupService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * JDBC implementation of {@link PaymentRollupService}.
+ *
+ * <p>Increments are upserts: {@code INSERT ... ON CONFLICT DO UPDATE} on PostgreSQL
+ * (safe under concurrent payments), UPDATE-then-INSERT elsewhere (H2 in the
+ * {@code embedded} profile). A move from PENDING to PAYED leaves a zero row in the
+ * PENDING bucket, which sums and the checker treat like a missing row.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentRollupServiceImpl implements PaymentRollupService {
+
+    private static final String TABLE = "payment_daily_totals";
+    private static final int REBUILD_BATCH_SIZE = 500;
+    private static final int MAX_REPORTED_MISMATCHES = 100;
+
+    private static final String UPSERT_POSTGRES_SQL =
+        "INSERT INTO " + TABLE + " (id, user_id, dart_id, kind, bucket_date, amount, entry_count) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?) " +
+        "ON CONFLICT (user_id, dart_id, kind, bucket_date) DO UPDATE SET " +
+        "amount = " + TABLE + ".amount + EXCLUDED.amount, " +
+        "entry_count = " + TABLE + ".entry_count + EXCLUDED.entry_count";
+
+    private static final String INSERT_SQL =
+        "INSERT INTO " + TABLE + " (id, user_id, dart_id, kind, bucket_date, amount, entry_count) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String CONTRIBUTIONS_SQL =
+        "SELECT m.user_id, r.dart_id, p.payment_status, CAST(p.payment_date AS DATE), " +
+        "SUM(p.amount), COUNT(*) " +
+        "FROM payments p " +
+        "JOIN members m ON m.id = p.payer_member_id " +
+        "JOIN rounds r ON r.id = p.round_id ";
+
+    private static final String CONTRIBUTIONS_GROUP_BY =
+        "GROUP BY m.user_id, r.dart_id, p.payment_status, CAST(p.payment_date AS DATE)";
+
+    private static final String PAYOUTS_SQL =
+        "SELECT m.user_id, r.dart_id, 'PAYOUT', CAST(r.round_date AS DATE), " +
+        "SUM(r.amount), COUNT(*) " +
+        "FROM rounds r " +
+        "LEFT JOIN members m ON m.id = r.recipient_member_id " +
+        "WHERE r.status = 'PAYED' ";
+
+    private static final String PAYOUTS_GROUP_BY =
+        "GROUP BY m.user_id, r.dart_id, CAST(r.round_date AS DATE)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong lastMismatches = new AtomicLong();
+    private volatile Boolean postgres;
+
+    private record Key(UUID userId, UUID dartId, String kind, LocalDate day) {}
+
+    private record Totals(BigDecimal amount, long count) {
+
+        static final Totals ZERO = new Totals(BigDecimal.ZERO, 0);
+
+        Totals plus(Totals other) {
+            return new Totals(amount.add(other.amount), count + other.count);
+        }
+
+        boolean sameAs(Totals other) {
+            return amount.compareTo(other.amount) == 0 && count == other.count;
+        }
+    }
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("payment.rollup.mismatches", lastMismatches, AtomicLong::get)
+            .description("Mismatching daily totals found by the last consistency check")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Builds the totals once when the table is still empty (first start after the
+     * rollup was introduced).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        try {
+            Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + TABLE, Long.class);
+            if (existing != null && existing == 0) {
+                long rows = rebuild();
+                if (rows > 0) {
+                    log.info("Backfilled {} daily payment totals", rows);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Daily payment totals backfill failed: {}", e.getMessage());
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Incremental maintenance
+    // -------------------------------------------------------------------------
+
+    @Override
+    public void recordPaymentCreated(Payment payment) {
+        increment(
+            payerUserId(payment),
+            payment.getRound().getDart().getId(),
+            PaymentTotalKind.of(payment.getPaymentStatus()),
+            payment.getDate().toLocalDate(),
+            payment.getAmount(),
+            1
+        );
+    }
+
+    @Override
+    public void recordPaymentChanged(
+        Payment payment,
+        PaymentStatus previousStatus,
+        LocalDateTime previousDate
+    ) {
+        LocalDate previousDay = previousDate.toLocalDate();
+        LocalDate day = payment.getDate().toLocalDate();
+        if (previousStatus == payment.getPaymentStatus() && previousDay.equals(day)) {
+            return;
+        }
+        UUID userId = payerUserId(payment);
+        UUID dartId = payment.getRound().getDart().getId();
+        increment(
+            userId,
+            dartId,
+            PaymentTotalKind.of(previousStatus),
+            previousDay,
+            payment.getAmount().negate(),
+            -1
+        );
+        increment(
+            userId,
+            dartId,
+            PaymentTotalKind.of(payment.getPaymentStatus()),
+            day,
+            payment.getAmount(),
+            1
+        );
+    }
+
+    @Override
+    public void recordRoundPaid(Round round) {
+        Member recipient = round.getRecipient();
+        increment(
+            recipient != null ? recipient.getUser().getId() : PaymentDailyTotal.NO_USER,
+            round.getDart().getId(),
+            PaymentTotalKind.PAYOUT,
+            round.getDate().toLocalDate(),
+            toAmount(BigDecimal.valueOf(round.getAmount())),
+            1
+        );
+    }
+
+    private static UUID payerUserId(Payment payment) {
+        return payment.getPayer().getUser().getId();
+    }
+
+    private void increment(
+        UUID userId,
+        UUID dartId,
+        PaymentTotalKind kind,
+        LocalDate day,
+        BigDecimal amount,
+        long count
+    ) {
+        if (isPostgres()) {
+            jdbcTemplate.update(
+                UPSERT_POSTGRES_SQL,
+                UUID.randomUUID(),
+                userId,
+                dartId,
+                kind.name(),
+                Date.valueOf(day),
+                amount,
+                count
+            );
+            return;
+        }
+
+        int updated = jdbcTemplate.update(
+            "UPDATE " + TABLE + " SET amount = amount + ?, entry_count = entry_count + ? " +
+            "WHERE user_id = ? AND dart_id = ? AND kind = ? AND bucket_date = ?",
+            amount,
+            count,
+            userId,
+            dartId,
+            kind.name(),
+            Date.valueOf(day)
+        );
+        if (updated == 0) {
+            jdbcTemplate.update(
+                INSERT_SQL,
+                UUID.randomUUID(),
+                userId,
+                dartId,
+                kind.name(),
+                Date.valueOf(day),
+                amount,
+                count
+            );
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Queries
+    // -------------------------------------------------------------------------
+
+    @Override
+    public BigDecimal sum(
+        PaymentTotalKind kind,
+        UUID userId,
+        UUID dartId,
+        LocalDate fromDay,
+        LocalDate toDay
+    ) {
+        List<Object> args = new ArrayList<>();
+        String where = filter(kind, userId, dartId, fromDay, toDay, args);
+        BigDecimal total = jdbcTemplate.queryForObject(
+            "SELECT COALESCE(SUM(t.amount), 0) FROM " + TABLE + " t" + where,
+            BigDecimal.class,
+            args.toArray()
+        );
+        return total != null ? total : BigDecimal.ZERO;
+    }
+
+    @Override
+    public List<DartDay> dailyByDart(
+        PaymentTotalKind kind,
+        UUID userId,
+        UUID dartId,
+        LocalDate fromDay,
+        LocalDate toDay
+    ) {
+        List<Object> args = new ArrayList<>();
+        String where = filter(kind, userId, dartId, fromDay, toDay, args);
+        return jdbcTemplate.query(
+            "SELECT t.dart_id, d.name, t.bucket_date, SUM(t.amount) FROM " + TABLE + " t " +
+            "JOIN darts d ON d.id = t.dart_id" + where +
+            " GROUP BY t.dart_id, d.name, t.bucket_date ORDER BY t.bucket_date",
+            (rs, rowNum) -> new DartDay(
+                rs.getObject(1, UUID.class),
+                rs.getString(2),
+                rs.getDate(3).toLocalDate(),
+                rs.getBigDecimal(4)
+            ),
+            args.toArray()
+        );
+    }
+
+    private static String filter(
+        PaymentTotalKind kind,
+        UUID userId,
+        UUID dartId,
+        LocalDate fromDay,
+        LocalDate toDay,
+        List<Object> args
+    ) {
+        StringBuilder where = new StringBuilder(
+            " WHERE t.kind = ? AND t.bucket_date >= ? AND t.bucket_date < ?"
+        );
+        args.add(kind.name());
+        args.add(Date.valueOf(fromDay));
+        args.add(Date.valueOf(toDay));
+        if (userId != null) {
+            where.append(" AND t.user_id = ?");
+            args.add(userId);
+        }
+        if (dartId != null) {
+            where.append(" AND t.dart_id = ?");
+            args.add(dartId);
+        }
+        return where.toString();
+    }
+
+    // -------------------------------------------------------------------------
+    // Rebuild and consistency check
+    // -------------------------------------------------------------------------
+
+    @Override
+    public long rebuild() {
+        Long rows = transactionTemplate.execute(status -> {
+            if (isPostgres()) {
+                // Incremental writers wait until the new totals are committed
+                jdbcTemplate.execute("LOCK TABLE " + TABLE + " IN EXCLUSIVE MODE");
+            }
+            jdbcTemplate.update("DELETE FROM " + TABLE);
+
+            List<Object[]> batch = new ArrayList<>(REBUILD_BATCH_SIZE);
+            long[] written = { 0 };
+            aggregateSources(null, null, (key, totals) -> {
+                batch.add(new Object[] {
+                    UUID.randomUUID(),
+                    key.userId(),
+                    key.dartId(),
+                    key.kind(),
+                    Date.valueOf(key.day()),
+                    totals.amount(),
+                    totals.count(),
+                });
+                if (batch.size() >= REBUILD_BATCH_SIZE) {
+                    written[0] += flush(batch);
+                }
+            });
+            written[0] += flush(batch);
+            return written[0];
+        });
+        long total = rows != null ? rows : 0;
+        log.info("Rebuilt {} with {} rows", TABLE, total);
+        return total;
+    }
+
+    private int flush(List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+        int size = batch.size();
+        batch.clear();
+        return size;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaymentRollupCheckResponse check(LocalDate fromDay, LocalDate toDay) {
+        Map<Key, Totals> expected = new HashMap<>();
+        aggregateSources(fromDay, toDay, (key, totals) -> expected.merge(key, totals, Totals::plus));
+
+        Map<Key, Totals> stored = new HashMap<>();
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = new StringBuilder(
+            "SELECT user_id, dart_id, kind, bucket_date, amount, entry_count FROM " + TABLE + " WHERE 1 = 1"
+        );
+        if (fromDay != null) {
+            sql.append(" AND bucket_date >= ?");
+            args.add(Date.valueOf(fromDay));
+        }
+        if (toDay != null) {
+            sql.append(" AND bucket_date < ?");
+            args.add(Date.valueOf(toDay));
+        }
+        jdbcTemplate.query(sql.toString(), rs -> {
+            Key key = new Key(
+                rs.getObject(1, UUID.class),
+                rs.getObject(2, UUID.class),
+                rs.getString(3),
+                rs.getDate(4).toLocalDate()
+            );
+            stored.merge(key, new Totals(rs.getBigDecimal(5), rs.getLong(6)), Totals::plus);
+        }, args.toArray());
+
+        Set<Key> keys = new HashSet<>(expected.keySet());
+        keys.addAll(stored.keySet());
+        List<PaymentRollupCheckResponse.Mismatch> mismatches = new ArrayList<>();
+        long mismatchCount = 0;
+        for (Key key : keys) {
+            Totals want = expected.getOrDefault(key, Totals.ZERO);
+            Totals have = stored.getOrDefault(key, Totals.ZERO);
+            if (want.sameAs(have)) {
+                continue;
+            }
+            mismatchCount++;
+            if (mismatches.size() < MAX_REPORTED_MISMATCHES) {
+                mismatches.add(
+                    new PaymentRollupCheckResponse.Mismatch(
+                        PaymentDailyTotal.NO_USER.equals(key.userId()) ? null : key.userId().toString(),
+                        key.dartId().toString(),
+                        key.kind(),
+                        key.day().toString(),
+                        want.amount(),
+                        have.amount(),
+                        want.count(),
+                        have.count()
+                    )
+                );
+            }
+        }
+
+        lastMismatches.set(mismatchCount);
+        if (mismatchCount > 0) {
+            log.warn("{} daily payment totals differ from the source tables", mismatchCount);
+        }
+        return new PaymentRollupCheckResponse(
+            mismatchCount == 0,
+            keys.size(),
+            mismatchCount,
+            mismatches
+        );
+    }
+
+    private interface TotalsConsumer {
+        void accept(Key key, Totals totals);
+    }
+
+    /**
+     * Aggregates contributions and payouts from the source tables per day, optionally
+     * limited to {@code [fromDay, toDay)}.
+     */
+    private void aggregateSources(LocalDate fromDay, LocalDate toDay, TotalsConsumer consumer) {
+        List<Object> contributionArgs = new ArrayList<>();
+        StringBuilder contributions = new StringBuilder(CONTRIBUTIONS_SQL).append("WHERE 1 = 1 ");
+        appendRange(contributions, "p.payment_date", fromDay, toDay, contributionArgs);
+        contributions.append(CONTRIBUTIONS_GROUP_BY);
+        jdbcTemplate.query(contributions.toString(), rs -> {
+            consumer.accept(
+                new Key(
+                    rs.getObject(1, UUID.class),
+                    rs.getObject(2, UUID.class),
+                    PaymentTotalKind.of(PaymentStatus.valueOf(rs.getString(3))).name(),
+                    rs.getDate(4).toLocalDate()
+                ),
+                new Totals(toAmount(rs.getBigDecimal(5)), rs.getLong(6))
+            );
+        }, contributionArgs.toArray());
+
+        List<Object> payoutArgs = new ArrayList<>();
+        StringBuilder payouts = new StringBuilder(PAYOUTS_SQL);
+        appendRange(payouts, "r.round_date", fromDay, toDay, payoutArgs);
+        payouts.append(PAYOUTS_GROUP_BY);
+        jdbcTemplate.query(payouts.toString(), rs -> {
+            UUID recipient = rs.getObject(1, UUID.class);
+            consumer.accept(
+                new Key(
+                    recipient != null ? recipient : PaymentDailyTotal.NO_USER,
+                    rs.getObject(2, UUID.class),
+                    PaymentTotalKind.PAYOUT.name(),
+                    rs.getDate(4).toLocalDate()
+                ),
+                new Totals(toAmount(rs.getBigDecimal(5)), rs.getLong(6))
+            );
+        }, payoutArgs.toArray());
+    }
+
+    private static void appendRange(
+        StringBuilder sql,
+        String column,
+        LocalDate fromDay,
+        LocalDate toDay,
+        List<Object> args
+    ) {
+        if (fromDay != null) {
+            sql.append("AND ").append(column).append(" >= ? ");
+            args.add(Timestamp.valueOf(fromDay.atStartOfDay()));
+        }
+        if (toDay != null) {
+            sql.append("AND ").append(column).append(" < ? ");
+            args.add(Timestamp.valueOf(toDay.atStartOfDay()));
+        }
+    }
+
+    private static BigDecimal toAmount(BigDecimal value) {
+        return value != null ? value.setScale(2, RoundingMode.HALF_UP) : BigDecimal.ZERO;
+    }
+
+    private boolean isPostgres() {
+        Boolean current = postgres;
+        if (current == null) {
+            String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName()
+            );
+            current = product != null && product.toLowerCase(Locale.ROOT).contains("postgresql");
+            postgres = current;
+        }
+        return current;
+    }
+}
@@ -1,36 +1,37 @@
 package com.tontin.platform.service.impl;
 
-import com.stripe.Stripe;
-import com.stripe.exception.SignatureVerificationException;
-import com.stripe.model.Event;
-import com.stripe.model.PaymentIntent;
-import com.stripe.net.Webhook;
 import com.tontin.platform.config.SecurityUtils;
-import com.tontin.platform.domain.Dart;
 import com.tontin.platform.domain.Member;
 import com.tontin.platform.domain.Payment;
 import com.tontin.platform.domain.Round;
 import com.tontin.platform.domain.enums.payment.PaymentStatus;
-import com.tontin.platform.domain.enums.round.RoundStatus;
 import com.tontin.platform.dto.payment.request.CreatePaymentIntentRequest;
 import com.tontin.platform.dto.payment.response.CanPayResponse;
 import com.tontin.platform.dto.payment.response.CreatePaymentIntentResponse;
-import com.tontin.platform.repository.DartRepository;
 import com.tontin.platform.repository.MemberRepository;
 import com.tontin.platform.repository.PaymentRepository;
 import com.tontin.platform.repository.RoundRepository;
+import com.tontin.platform.repository.projection.PaymentEligibilityRow;
+import com.tontin.platform.service.PaymentEligibilityService;
+import com.tontin.platform.service.PaymentEligibilityService.Eligibility;
+import com.tontin.platform.service.PaymentEligibilityService.Outcome;
+import com.tontin.platform.service.PaymentGatewayService;
+import com.tontin.platform.service.PaymentRollupService;
 import com.tontin.platform.service.PaymentService;
+import com.tontin.platform.service.RoundLifecycleService;
+import com.tontin.platform.util.SingleFlight;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
 @Service
@@ -38,32 +39,31 @@ import org.springframework.web.server.ResponseStatusException;
 @RequiredArgsConstructor
 public class PaymentServiceImpl implements PaymentService {
 
-    @Value("${stripe.secret-key:}")
-    private String stripeSecretKey;
-
-    @Value("${stripe.webhook-secret:}")
-    private String stripeWebhookSecret;
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 200;
 
     private final SecurityUtils securityUtils;
     private final MemberRepository memberRepository;
-    private final DartRepository dartRepository;
     private final RoundRepository roundRepository;
     private final PaymentRepository paymentRepository;
+    private final PaymentRollupService paymentRollupService;
+    private final PaymentEligibilityService paymentEligibilityService;
+    private final RoundLifecycleService roundLifecycleService;
+    private final PaymentGatewayService paymentGatewayService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final SingleFlight<String, CreatePaymentIntentResponse> intentCreations = new SingleFlight<>();
 
     // -------------------------------------------------------------------------
     // Helpers
     // -------------------------------------------------------------------------
 
-    private String getStripeSecretKey() {
-        return stripeSecretKey != null ? stripeSecretKey.trim() : "";
-    }
-
     /**
      * Core idempotent logic: marks a payment as PAYED and closes the round
      * when all contributing members have paid.
      *
      * This is shared by the webhook path (markPaymentSucceeded) and the
-     * synchronous client-side confirmation path (confirmPaymentById).
+     * synchronous client-side confirmation path (confirmPaymentById), both of
+     * which run it as a {@link RoundLifecycleService} transition.
      */
     private void applyPaymentSuccess(Payment payment) {
         if (payment.getPaymentStatus() == PaymentStatus.PAYED) {
@@ -74,32 +74,51 @@ public class PaymentServiceImpl implements PaymentService {
             return;
         }
 
+        PaymentStatus previousStatus = payment.getPaymentStatus();
+        LocalDateTime previousDate = payment.getDate();
         payment.setPaymentStatus(PaymentStatus.PAYED);
         payment.setDate(LocalDateTime.now());
         paymentRepository.save(payment);
+        paymentRollupService.recordPaymentChanged(payment, previousStatus, previousDate);
         log.info("Payment {} marked as PAYED.", payment.getId());
 
-        // Check if all non-recipient members of this round have now paid.
-        // Use DISTINCT payer count so a member who paid twice is only counted once.
+        // Count the payer once per round; only the payment that brings the counter to
+        // the expected number of payers closes the round.
         Round round = payment.getRound();
-        Dart dart = round.getDart();
-        int activeCount = dart.getActiveMembers().size();
-        long paidCount =
-            paymentRepository.countDistinctPayersByRoundIdAndStatus(
-                round.getId(),
-                PaymentStatus.PAYED
-            );
+        int counted = roundRepository.incrementPaidCount(
+            round.getId(),
+            payment.getPayer().getId(),
+            payment.getId()
+        );
+        if (counted > 0) {
+            roundLifecycleService.closeIfComplete(round);
+        }
+    }
 
-        // All payers = active members minus the one recipient
-        if (paidCount >= activeCount - 1) {
-            round.setStatus(RoundStatus.PAYED);
-            roundRepository.save(round);
-            log.info(
-                "Round {} marked as PAYED — all {} contributions received.",
-                round.getId(),
-                paidCount
-            );
+    /**
+     * Maps a failed eligibility rule to the HTTP error the payment endpoints have
+     * always returned.
+     */
+    private static PaymentEligibilityRow requireEligible(Eligibility eligibility) {
+        String reason = switch (eligibility.outcome()) {
+            case ELIGIBLE -> null;
+            case NOT_MEMBER -> "You are not a member of this Dâr.";
+            case NO_OPEN_ROUND ->
+                "There is no contribution due for this Dâr right now. All rounds may be completed.";
+            case RECIPIENT -> "You are receiving this round — no payment needed from you.";
+            case ALREADY_PAID ->
+                "You have already paid for this round. You cannot pay again for the same tour.";
+            case WINDOW_NOT_OPEN ->
+                "Payments for this round are not open yet. The round is due on " +
+                    eligibility.facts().roundDate().toLocalDate() + ".";
+        };
+        if (reason != null) {
+            HttpStatus status = eligibility.outcome() == Outcome.NOT_MEMBER
+                ? HttpStatus.FORBIDDEN
+                : HttpStatus.BAD_REQUEST;
+            throw new ResponseStatusException(status, reason);
         }
+        return eligibility.facts();
     }
 
     // -------------------------------------------------------------------------
@@ -110,163 +129,39 @@ public class PaymentServiceImpl implements PaymentService {
     @Transactional(readOnly = true)
     public CanPayResponse canPay(UUID dartId) {
         UUID userId = securityUtils.requireCurrentUserId();
-
-        Member payer = memberRepository
-            .findByDartIdAndUserId(dartId, userId)
-            .orElseThrow(() ->
-                new ResponseStatusException(
-                    HttpStatus.FORBIDDEN,
-                    "You are not a member of this Dâr."
-                )
-            );
-
-        Dart dart = dartRepository
-            .findById(dartId)
-            .orElseThrow(() ->
-                new ResponseStatusException(
-                    HttpStatus.NOT_FOUND,
-                    "This Dâr was not found."
-                )
-            );
-
-        List<Round> current = roundRepository
-            .findCurrentRoundByDartId(
-                dartId,
-                RoundStatus.INPAYED,
-                PageRequest.of(0, 1)
-            )
-            .getContent();
-
-        if (current.isEmpty()) {
-            throw new ResponseStatusException(
-                HttpStatus.BAD_REQUEST,
-                "There is no contribution due for this Dâr right now. All rounds may be completed."
-            );
-        }
-
-        Round round = current.get(0);
-
-        // DEV: payment window disabled — pay anytime (re-enable by uncommenting below)
-        /*
-        if (round.getDate() != null) {
-            LocalDateTime paymentOpenDate = round.getDate().minusDays(5);
-            if (LocalDateTime.now().isBefore(paymentOpenDate)) {
-                throw new ResponseStatusException(
-                    HttpStatus.BAD_REQUEST,
-                    "Payments open 5 days before each round. You can pay from " +
-                        paymentOpenDate.toLocalDate() + "."
-                );
-            }
-        }
-        */
-
-        if (
-            round.getRecipient() != null &&
-            round.getRecipient().getId().equals(payer.getId())
-        ) {
-            throw new ResponseStatusException(
-                HttpStatus.BAD_REQUEST,
-                "You are receiving this round — no payment needed from you."
-            );
-        }
-
-        boolean alreadyPaid = paymentRepository.existsByRoundIdAndPayerIdAndPaymentStatus(
-            round.getId(),
-            payer.getId(),
-            PaymentStatus.PAYED
-        );
-        if (alreadyPaid) {
-            throw new ResponseStatusException(
-                HttpStatus.BAD_REQUEST,
-                "You have already paid for this round. You cannot pay again for the same tour."
-            );
-        }
-
+        requireEligible(paymentEligibilityService.evaluate(dartId, userId));
         return CanPayResponse.builder().canPay(true).build();
     }
 
+    /**
+     * Not transactional: the Stripe calls run between short transactions so no pooled
+     * connection is held during network I/O. Concurrent calls of one user for one dart
+     * (double clicks, client retries) share a single execution.
+     */
     @Override
-    @Transactional
     public CreatePaymentIntentResponse createPaymentIntent(
-        CreatePaymentIntentRequest request
+        CreatePaymentIntentRequest request,
+        String idempotencyKey
     ) {
         UUID dartId = request.dartId();
         UUID userId = securityUtils.requireCurrentUserId();
+        String key = normalizeIdempotencyKey(idempotencyKey);
+        return intentCreations.execute(
+            userId + ":" + dartId,
+            () -> createPaymentIntent(dartId, userId, key)
+        );
+    }
 
-        Member payer = memberRepository
-            .findByDartIdAndUserId(dartId, userId)
-            .orElseThrow(() ->
-                new ResponseStatusException(
-                    HttpStatus.FORBIDDEN,
-                    "You are not a member of this Dâr."
-                )
-            );
-
-        Dart dart = dartRepository
-            .findById(dartId)
-            .orElseThrow(() ->
-                new ResponseStatusException(
-                    HttpStatus.NOT_FOUND,
-                    "This Dâr was not found."
-                )
-            );
-
-        List<Round> current = roundRepository
-            .findCurrentRoundByDartId(
-                dartId,
-                RoundStatus.INPAYED,
-                PageRequest.of(0, 1)
-            )
-            .getContent();
-
-        if (current.isEmpty()) {
-            throw new ResponseStatusException(
-                HttpStatus.BAD_REQUEST,
-                "There is no contribution due for this Dâr right now. All rounds may be completed."
-            );
-        }
-
-        Round round = current.get(0);
-
-        // DEV: payment window disabled — pay anytime (re-enable by uncommenting below)
-        /*
-        // Enforce payment window: members can only pay starting 5 days before the round date
-        if (round.getDate() != null) {
-            LocalDateTime paymentOpenDate = round.getDate().minusDays(5);
-            if (LocalDateTime.now().isBefore(paymentOpenDate)) {
-                throw new ResponseStatusException(
-                    HttpStatus.BAD_REQUEST,
-                    "Payments open 5 days before each round. You can pay from " +
-                        paymentOpenDate.toLocalDate() + "."
-                );
-            }
-        }
-        */
-
-        if (
-            round.getRecipient() != null &&
-            round.getRecipient().getId().equals(payer.getId())
-        ) {
-            throw new ResponseStatusException(
-                HttpStatus.BAD_REQUEST,
-                "You are receiving this round — no payment needed from you."
-            );
-        }
-
-        // Block paying again in the same round
-        boolean alreadyPaid = paymentRepository.existsByRoundIdAndPayerIdAndPaymentStatus(
-            round.getId(),
-            payer.getId(),
-            PaymentStatus.PAYED
+    private CreatePaymentIntentResponse createPaymentIntent(
+        UUID dartId,
+        UUID userId,
+        String idempotencyKey
+    ) {
+        PaymentEligibilityRow facts = requireEligible(
+            paymentEligibilityService.evaluate(dartId, userId)
         );
-        if (alreadyPaid) {
-            throw new ResponseStatusException(
-                HttpStatus.BAD_REQUEST,
-                "You have already paid for this round. You cannot pay again for the same tour."
-            );
-        }
 
-        BigDecimal amount = dart.getMonthlyContribution();
+        BigDecimal amount = facts.monthlyContribution();
         if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
             throw new ResponseStatusException(
                 HttpStatus.BAD_REQUEST,
@@ -279,11 +174,7 @@ public class PaymentServiceImpl implements PaymentService {
             amountCents = 50; // Stripe minimum
         }
 
-        String secretKey = getStripeSecretKey();
-        boolean stripeConfigured =
-            secretKey.length() > 0 &&
-            (secretKey.startsWith("sk_") || secretKey.startsWith("rk_"));
-        if (!stripeConfigured) {
+        if (!paymentGatewayService.isConfigured()) {
             throw new ResponseStatusException(
                 HttpStatus.SERVICE_UNAVAILABLE,
                 "Stripe is not configured. Set STRIPE_SECRET_KEY in your environment " +
@@ -291,157 +182,155 @@ public class PaymentServiceImpl implements PaymentService {
                     "Use a secret key from the Stripe Dashboard (sk_test_... or sk_live_...)."
             );
         }
-        Stripe.apiKey = secretKey;
 
         // Idempotent: reuse an existing PENDING payment for this payer/round
-        Payment payment = null;
-        List<Payment> existing =
-            paymentRepository.findAllByRoundIdAndPaymentStatus(
-                round.getId(),
-                PaymentStatus.PENDING
-            );
-
-        for (Payment p : existing) {
-            if (!p.getPayer().getId().equals(payer.getId())) continue;
+        PendingPayment pending = transactionTemplate.execute(status ->
+            findPendingPayment(facts.roundId(), facts.memberId())
+        );
 
-            String existingIntentId = p.getStripePaymentIntentId();
+        if (pending != null) {
+            String existingIntentId = pending.stripePaymentIntentId();
             // Try to reuse an existing open Stripe PaymentIntent
             if (existingIntentId != null && !existingIntentId.startsWith("pi_mock_")) {
                 try {
-                    PaymentIntent intent = PaymentIntent.retrieve(
-                        existingIntentId
-                    );
-                    if (
-                        "requires_payment_method".equals(intent.getStatus()) ||
-                        "requires_confirmation".equals(intent.getStatus())
-                    ) {
+                    PaymentGatewayService.Intent intent =
+                        paymentGatewayService.retrieveIntent(existingIntentId);
+                    if (intent.isOpen()) {
                         return CreatePaymentIntentResponse.builder()
-                            .clientSecret(intent.getClientSecret())
-                            .paymentId(p.getId())
+                            .clientSecret(intent.clientSecret())
+                            .paymentId(pending.paymentId())
                             .build();
                     }
-                } catch (Exception e) {
+                } catch (ResponseStatusException e) {
                     log.warn(
                         "Could not retrieve existing intent, will create new one: {}",
-                        e.getMessage()
+                        e.getReason()
                     );
                 }
             }
-
-            // Reuse this payment record — create a fresh Stripe intent below
-            payment = p;
-            break;
         }
 
-        if (payment == null) {
-            payment = Payment.builder()
-                .amount(amount)
-                .method("STRIPE")
-                .date(LocalDateTime.now())
-                .paymentStatus(PaymentStatus.PENDING)
-                .round(round)
-                .payer(payer)
-                .build();
-            payment = paymentRepository.save(payment);
-        }
+        // Reuse the pending payment record (fresh Stripe intent) or create one
+        UUID paymentId = pending != null
+            ? pending.paymentId()
+            : createOrFindPendingPayment(facts, amount);
+
+        PaymentGatewayService.Intent intent = paymentGatewayService.createIntent(
+            amountCents,
+            "usd",
+            Map.of(
+                "paymentId", paymentId.toString(),
+                "roundId", facts.roundId().toString(),
+                "dartId", dartId.toString()
+            ),
+            // A retried request must not open a second intent for this payment
+            idempotencyKey != null ? "payment-" + paymentId + "-" + idempotencyKey : null
+        );
 
-        try {
-            PaymentIntent intent = PaymentIntent.create(
-                new com.stripe.param.PaymentIntentCreateParams.Builder()
-                    .setAmount(amountCents)
-                    .setCurrency("usd")
-                    .putMetadata("paymentId", payment.getId().toString())
-                    .putMetadata("roundId", round.getId().toString())
-                    .putMetadata("dartId", dartId.toString())
-                    .setAutomaticPaymentMethods(
-                        com.stripe.param.PaymentIntentCreateParams.AutomaticPaymentMethods.builder()
-                            .setEnabled(true)
-                            .build()
-                    )
-                    .build()
-            );
-            payment.setStripePaymentIntentId(intent.getId());
-            paymentRepository.save(payment);
-            return CreatePaymentIntentResponse.builder()
-                .clientSecret(intent.getClientSecret())
-                .paymentId(payment.getId())
-                .build();
-        } catch (Exception e) {
-            log.error(
-                "Stripe PaymentIntent create failed: {}",
-                e.getMessage(),
-                e
-            );
-            String msg =
-                e.getMessage() != null &&
-                e.getMessage().contains("Invalid API Key")
-                    ? "Stripe secret key is invalid. Check STRIPE_SECRET_KEY or stripe.secret-key."
-                    : "Could not create payment session. Try again.";
-            throw new ResponseStatusException(
-                HttpStatus.INTERNAL_SERVER_ERROR,
-                msg
-            );
-        }
+        transactionTemplate.executeWithoutResult(status ->
+            paymentRepository
+                .findById(paymentId)
+                .ifPresent(p -> p.setStripePaymentIntentId(intent.id()))
+        );
+        return CreatePaymentIntentResponse.builder()
+            .clientSecret(intent.clientSecret())
+            .paymentId(paymentId)
+            .build();
     }
 
-    @Override
-    @Transactional
-    public void handleWebhook(String payload, String signature) {
-        String webhookSecret =
-            stripeWebhookSecret != null ? stripeWebhookSecret.trim() : "";
+    /** Id and Stripe intent of a payment, read in a transaction and used after it. */
+    private record PendingPayment(UUID paymentId, String stripePaymentIntentId) {}
 
-        if (webhookSecret.isBlank()) {
-            log.warn(
-                "Stripe webhook secret not configured; skipping verification."
-            );
-            return;
-        }
+    private PendingPayment findPendingPayment(UUID roundId, UUID payerMemberId) {
+        return paymentRepository
+            .findByRoundIdAndPayerIdAndPaymentStatus(roundId, payerMemberId, PaymentStatus.PENDING)
+            .map(p -> new PendingPayment(p.getId(), p.getStripePaymentIntentId()))
+            .orElse(null);
+    }
 
-        Event event;
+    /**
+     * Creates the payer's PENDING payment, or returns the one another instance created
+     * concurrently ({@code uk_payments_pending_round_payer} lets only one insert win).
+     */
+    private UUID createOrFindPendingPayment(PaymentEligibilityRow facts, BigDecimal amount) {
         try {
-            event = Webhook.constructEvent(payload, signature, webhookSecret);
-        } catch (SignatureVerificationException e) {
-            log.warn(
-                "Stripe webhook signature verification failed: {}",
-                e.getMessage()
+            return transactionTemplate.execute(status -> createPendingPayment(facts, amount));
+        } catch (DataIntegrityViolationException e) {
+            PendingPayment winner = transactionTemplate.execute(status ->
+                findPendingPayment(facts.roundId(), facts.memberId())
             );
+            if (winner == null) {
+                throw e;
+            }
+            log.info("Reusing pending payment {} created by a concurrent request", winner.paymentId());
+            return winner.paymentId();
+        }
+    }
+
+    private static String normalizeIdempotencyKey(String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return null;
+        }
+        String key = idempotencyKey.trim();
+        if (key.length() > MAX_IDEMPOTENCY_KEY_LENGTH || !key.chars().allMatch(c -> c > 0x20 && c < 0x7f)) {
             throw new ResponseStatusException(
                 HttpStatus.BAD_REQUEST,
-                "Invalid signature"
+                "Idempotency-Key must be at most " + MAX_IDEMPOTENCY_KEY_LENGTH + " printable ASCII characters."
             );
         }
+        return key;
+    }
 
-        if ("payment_intent.succeeded".equals(event.getType())) {
-            PaymentIntent intent = (PaymentIntent) event
-                .getDataObjectDeserializer()
-                .getObject()
-                .orElse(null);
-            if (intent != null) {
-                markPaymentSucceeded(intent.getId());
-            }
-        }
+    private UUID createPendingPayment(PaymentEligibilityRow facts, BigDecimal amount) {
+        // Ids are known from the eligibility query: no need to load the entities
+        Member payer = memberRepository.getReferenceById(facts.memberId());
+        Round round = roundRepository.getReferenceById(facts.roundId());
+        Payment payment = Payment.builder()
+            .amount(amount)
+            .method("STRIPE")
+            .date(LocalDateTime.now())
+            .paymentStatus(PaymentStatus.PENDING)
+            .round(round)
+            .payer(payer)
+            .build();
+        payment = paymentRepository.save(payment);
+        paymentRollupService.recordPaymentCreated(payment);
+        return payment.getId();
     }
 
+    /**
+     * Not transactional: runs as a round transition, which retries in a new
+     * transaction when it races the client confirmation of the same payment.
+     */
     @Override
-    @Transactional
     public void markPaymentSucceeded(String stripePaymentIntentId) {
-        paymentRepository
-            .findByStripePaymentIntentId(stripePaymentIntentId)
-            .ifPresentOrElse(this::applyPaymentSuccess, () ->
-                log.warn(
-                    "No payment found for Stripe intent id: {}",
-                    stripePaymentIntentId
-                )
+        UUID dartId = paymentRepository
+            .findDartIdByStripePaymentIntentId(stripePaymentIntentId)
+            .orElse(null);
+        if (dartId == null) {
+            log.warn(
+                "No payment found for Stripe intent id: {}",
+                stripePaymentIntentId
             );
+            return;
+        }
+        roundLifecycleService.execute(dartId, "payment-succeeded", () -> {
+            paymentRepository
+                .findByStripePaymentIntentId(stripePaymentIntentId)
+                .ifPresent(this::applyPaymentSuccess);
+            return null;
+        });
     }
 
+    /**
+     * Not transactional: runs as a round transition, like {@link #markPaymentSucceeded}.
+     */
     @Override
-    @Transactional
     public void confirmPaymentById(UUID paymentId) {
         UUID currentUserId = securityUtils.requireCurrentUserId();
 
-        Payment payment = paymentRepository
-            .findById(paymentId)
+        UUID dartId = paymentRepository
+            .findDartIdByPaymentId(paymentId)
             .orElseThrow(() ->
                 new ResponseStatusException(
                     HttpStatus.NOT_FOUND,
@@ -449,19 +338,31 @@ public class PaymentServiceImpl implements PaymentService {
                 )
             );
 
-        // Security: only the payer themselves can confirm their own payment
-        if (
-            payment.getPayer() == null ||
-            payment.getPayer().getUser() == null ||
-            !payment.getPayer().getUser().getId().equals(currentUserId)
-        ) {
-            throw new ResponseStatusException(
-                HttpStatus.FORBIDDEN,
-                "You are not authorised to confirm this payment."
-            );
-        }
+        roundLifecycleService.execute(dartId, "payment-confirmed", () -> {
+            Payment payment = paymentRepository
+                .findById(paymentId)
+                .orElseThrow(() ->
+                    new ResponseStatusException(
+                        HttpStatus.NOT_FOUND,
+                        "Payment not found."
+                    )
+                );
+
+            // Security: only the payer themselves can confirm their own payment
+            if (
+                payment.getPayer() == null ||
+                payment.getPayer().getUser() == null ||
+                !payment.getPayer().getUser().getId().equals(currentUserId)
+            ) {
+                throw new ResponseStatusException(
+                    HttpStatus.FORBIDDEN,
+                    "You are not authorised to confirm this payment."
+                );
+            }
 
-        applyPaymentSuccess(payment);
+            applyPaymentSuccess(payment);
+            return null;
+        });
     }
 
     @Override
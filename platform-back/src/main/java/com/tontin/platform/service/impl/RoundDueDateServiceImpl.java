@@ -0,0 +1,255 @@
+package com.tontin.platform.service.impl;
+
+import com.tontin.platform.domain.Notification;
+import com.tontin.platform.domain.enums.dart.DartPermission;
+import com.tontin.platform.domain.enums.member.MemberStatus;
+import com.tontin.platform.domain.enums.notification.NotificationStatus;
+import com.tontin.platform.domain.enums.notification.NotificationType;
+import com.tontin.platform.domain.enums.round.RoundDueStage;
+import com.tontin.platform.repository.MemberRepository;
+import com.tontin.platform.repository.NotificationRepository;
+import com.tontin.platform.repository.RoundRepository;
+import com.tontin.platform.repository.UserRepository;
+import com.tontin.platform.repository.projection.DartMemberRow;
+import com.tontin.platform.repository.projection.DuePayerRow;
+import com.tontin.platform.repository.projection.DueRoundRow;
+import com.tontin.platform.service.RoundDueDateService;
+import com.tontin.platform.service.SchedulerLockService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Default {@link RoundDueDateService}.
+ *
+ * <p>Each pass reads one stage of {@code idx_rounds_status_stage_date} in date order;
+ * a batch creates its notifications (one batched INSERT), then moves its rounds to the
+ * next stage in the same transaction, so the next query starts after it and a crash
+ * never sends a batch twice. The lease is renewed before every batch.</p>
+ */
+@Service
+@Slf4j
+public class RoundDueDateServiceImpl implements RoundDueDateService {
+
+    static final String LOCK_NAME = "round-due-dates";
+
+    private final RoundRepository roundRepository;
+    private final MemberRepository memberRepository;
+    private final NotificationRepository notificationRepository;
+    private final UserRepository userRepository;
+    private final SchedulerLockService schedulerLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int reminderDays;
+    private final int overdueGraceHours;
+    private final Duration lease;
+
+    private final Timer tickTimer;
+    private final Counter reminders;
+    private final Counter overduePayers;
+
+    public RoundDueDateServiceImpl(
+        RoundRepository roundRepository,
+        MemberRepository memberRepository,
+        NotificationRepository notificationRepository,
+        UserRepository userRepository,
+        SchedulerLockService schedulerLockService,
+        TransactionTemplate transactionTemplate,
+        MeterRegistry meterRegistry,
+        @Value("${rounds.due.batch-size:500}") int batchSize,
+        @Value("${rounds.payment-window.open-days:5}") int reminderDays,
+        @Value("${rounds.due.overdue-grace-hours:24}") int overdueGraceHours,
+        @Value("${rounds.due.lease:300000}") long leaseMillis
+    ) {
+        this.roundRepository = roundRepository;
+        this.memberRepository = memberRepository;
+        this.notificationRepository = notificationRepository;
+        this.userRepository = userRepository;
+        this.schedulerLockService = schedulerLockService;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = Math.max(1, batchSize);
+        this.reminderDays = Math.max(0, reminderDays);
+        this.overdueGraceHours = Math.max(0, overdueGraceHours);
+        this.lease = Duration.ofMillis(Math.max(1_000, leaseMillis));
+        this.tickTimer = Timer.builder("rounds.due.tick").register(meterRegistry);
+        this.reminders = Counter.builder("rounds.due.reminders").register(meterRegistry);
+        this.overduePayers = Counter.builder("rounds.due.overdue.payers").register(meterRegistry);
+    }
+
+    @Override
+    public TickResult tick() {
+        if (!schedulerLockService.tryAcquire(LOCK_NAME, lease)) {
+            return TickResult.skipped();
+        }
+        long start = System.nanoTime();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime overdueBefore = now.minusHours(overdueGraceHours);
+            // Overdue first: a round the scheduler never reminded (e.g. all instances
+            // were down) is flagged directly instead of getting a late reminder
+            Pass overdue = drain(RoundDueStage.SCHEDULED, RoundDueStage.OVERDUE, overdueBefore)
+                .plus(drain(RoundDueStage.REMINDED, RoundDueStage.OVERDUE, overdueBefore));
+            Pass reminded = drain(RoundDueStage.SCHEDULED, RoundDueStage.REMINDED, now.plusDays(reminderDays));
+            if (overdue.rounds() > 0 || reminded.rounds() > 0) {
+                log.info(
+                    "Round due dates: {} rounds reminded, {} rounds overdue, {} notifications",
+                    reminded.rounds(),
+                    overdue.rounds(),
+                    reminded.notifications() + overdue.notifications()
+                );
+            }
+            return new TickResult(
+                true,
+                reminded.rounds(),
+                overdue.rounds(),
+                reminded.notifications() + overdue.notifications()
+            );
+        } finally {
+            tickTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            schedulerLockService.release(LOCK_NAME);
+        }
+    }
+
+    /** Rounds and notifications handled by one pass. */
+    private record Pass(int rounds, int notifications) {
+        Pass plus(Pass other) {
+            return new Pass(rounds + other.rounds, notifications + other.notifications);
+        }
+    }
+
+    /**
+     * Moves every round of stage {@code from} dated before {@code before} to {@code to},
+     * batch by batch, while the lease is held.
+     */
+    private Pass drain(RoundDueStage from, RoundDueStage to, LocalDateTime before) {
+        Pass total = new Pass(0, 0);
+        while (true) {
+            if (!schedulerLockService.tryAcquire(LOCK_NAME, lease)) {
+                log.warn("Lost the {} lease; stopping the tick", LOCK_NAME);
+                return total;
+            }
+            Pass batch = transactionTemplate.execute(status -> processBatch(from, to, before));
+            total = total.plus(batch);
+            if (batch.rounds() < batchSize) {
+                return total;
+            }
+        }
+    }
+
+    private Pass processBatch(RoundDueStage from, RoundDueStage to, LocalDateTime before) {
+        List<DueRoundRow> rounds = roundRepository.findDueRounds(
+            List.of(from),
+            before,
+            PageRequest.of(0, batchSize)
+        );
+        if (rounds.isEmpty()) {
+            return new Pass(0, 0);
+        }
+        List<UUID> roundIds = rounds.stream().map(DueRoundRow::roundId).toList();
+        Map<UUID, List<DuePayerRow>> unpaidByRound = roundRepository
+            .findUnpaidPayers(roundIds)
+            .stream()
+            .collect(Collectors.groupingBy(DuePayerRow::roundId));
+        Map<UUID, List<UUID>> organizersByDart = to == RoundDueStage.OVERDUE
+            ? organizersOf(rounds)
+            : Map.of();
+
+        List<Notification> notifications = new ArrayList<>();
+        for (DueRoundRow round : rounds) {
+            List<DuePayerRow> unpaid = unpaidByRound.getOrDefault(round.roundId(), List.of());
+            if (to == RoundDueStage.REMINDED) {
+                unpaid.forEach(payer -> notifications.add(reminder(round, payer.userId())));
+                reminders.increment(unpaid.size());
+            } else if (!unpaid.isEmpty()) {
+                unpaid.forEach(payer -> notifications.add(overdueNotice(round, payer.userId())));
+                organizersByDart
+                    .getOrDefault(round.dartId(), List.of())
+                    .forEach(userId -> notifications.add(overdueSummary(round, userId, unpaid.size())));
+                overduePayers.increment(unpaid.size());
+            }
+        }
+        notificationRepository.saveAll(notifications);
+        roundRepository.advanceDueStage(roundIds, List.of(from), to);
+        return new Pass(rounds.size(), notifications.size());
+    }
+
+    private Map<UUID, List<UUID>> organizersOf(List<DueRoundRow> rounds) {
+        List<UUID> dartIds = rounds.stream().map(DueRoundRow::dartId).distinct().toList();
+        return memberRepository
+            .findMemberRowsByDartIds(dartIds)
+            .stream()
+            .filter(m -> m.permission() == DartPermission.ORGANIZER && m.status() == MemberStatus.ACTIVE)
+            .collect(Collectors.groupingBy(
+                DartMemberRow::dartId,
+                Collectors.mapping(DartMemberRow::userId, Collectors.toList())
+            ));
+    }
+
+    private Notification reminder(DueRoundRow round, UUID userId) {
+        return notification(
+            userId,
+            NotificationType.PAYMENT_DUE,
+            "Contribution due for " + round.dartName(),
+            "Round " + round.roundNumber() + " is due on " + round.roundDate().toLocalDate() +
+                ". Payments are now open.",
+            "/dashboard/client/pay-contribution/" + round.dartId(),
+            "Pay now"
+        );
+    }
+
+    private Notification overdueNotice(DueRoundRow round, UUID userId) {
+        return notification(
+            userId,
+            NotificationType.ALERT,
+            "Payment overdue for " + round.dartName(),
+            "Your contribution to round " + round.roundNumber() + " was due on " +
+                round.roundDate().toLocalDate() + " and has not been received.",
+            "/dashboard/client/pay-contribution/" + round.dartId(),
+            "Pay now"
+        );
+    }
+
+    private Notification overdueSummary(DueRoundRow round, UUID userId, int unpaidCount) {
+        return notification(
+            userId,
+            NotificationType.WARNING,
+            "Late payments in " + round.dartName(),
+            unpaidCount + (unpaidCount == 1 ? " member has" : " members have") +
+                " not paid round " + round.roundNumber() + ", due on " + round.roundDate().toLocalDate() + ".",
+            "/dashboard/client/dar/" + round.dartId(),
+            "View dâr"
+        );
+    }
+
+    private Notification notification(
+        UUID userId,
+        NotificationType type,
+        String title,
+        String description,
+        String actionUrl,
+        String actionLabel
+    ) {
+        return Notification.builder()
+            .user(userRepository.getReferenceById(userId))
+            .type(type)
+            .title(title.length() > 200 ? title.substring(0, 200) : title)
+            .description(description)
+            .actionUrl(actionUrl)
+            .actionLabel(actionLabel)
+            .status(NotificationStatus.UNREAD)
+            .build();
+    }
+}
@@ -0,0 +1,190 @@
+package com.tontin.platform.service.impl;
+
+import com.tontin.platform.domain.Dart;
+import com.tontin.platform.domain.Round;
+import com.tontin.platform.domain.enums.round.RoundStatus;
+import com.tontin.platform.repository.DartRepository;
+import com.tontin.platform.repository.RoundRepository;
+import com.tontin.platform.service.PaymentRollupService;
+import com.tontin.platform.service.RoundLifecycleService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Default {@link RoundLifecycleService}.
+ *
+ * <p>Transitions of the same dart first queue on one of {@code LOCK_STRIPES} in-process
+ * locks, so waiting threads do not hold pooled connections, then lock the dart row
+ * ({@code SELECT ... FOR UPDATE}) for instances sharing the database. A conflict with
+ * a writer outside the engine (e.g. a dart edit) is retried up to
+ * {@code rounds.transition.max-attempts} times after a jittered, doubling pause of
+ * {@code rounds.transition.retry-backoff} ms, then reported as 409.</p>
+ */
+@Service
+@Slf4j
+public class RoundLifecycleServiceImpl implements RoundLifecycleService {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final RoundRepository roundRepository;
+    private final DartRepository dartRepository;
+    private final PaymentRollupService paymentRollupService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+    private final Counter conflicts;
+    private final Counter retries;
+
+    public RoundLifecycleServiceImpl(
+        RoundRepository roundRepository,
+        DartRepository dartRepository,
+        PaymentRollupService paymentRollupService,
+        TransactionTemplate transactionTemplate,
+        MeterRegistry meterRegistry,
+        @Value("${rounds.transition.max-attempts:3}") int maxAttempts,
+        @Value("${rounds.transition.retry-backoff:20}") long retryBackoffMillis
+    ) {
+        this.roundRepository = roundRepository;
+        this.dartRepository = dartRepository;
+        this.paymentRollupService = paymentRollupService;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMillis = Math.max(1, retryBackoffMillis);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.conflicts = Counter.builder("round.transition.conflicts").register(meterRegistry);
+        this.retries = Counter.builder("round.transition.retries").register(meterRegistry);
+    }
+
+    @Override
+    public <T> T execute(UUID dartId, String transition, Supplier<T> work) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            // Cannot retry inside the caller's transaction: run once as part of it
+            lockDart(dartId);
+            return work.get();
+        }
+
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            for (int attempt = 1; ; attempt++) {
+                ReentrantLock lock = locks[Math.floorMod(dartId.hashCode(), LOCK_STRIPES)];
+                lock.lock();
+                try {
+                    T result = transactionTemplate.execute(status -> {
+                        lockDart(dartId);
+                        return work.get();
+                    });
+                    outcome = attempt == 1 ? "ok" : "retried";
+                    return result;
+                } catch (ConcurrencyFailureException e) {
+                    conflicts.increment();
+                    if (attempt >= maxAttempts) {
+                        outcome = "conflict";
+                        log.warn(
+                            "Round transition {} on dart {} still conflicting after {} attempts: {}",
+                            transition,
+                            dartId,
+                            attempt,
+                            e.getMessage()
+                        );
+                        throw new ResponseStatusException(
+                            HttpStatus.CONFLICT,
+                            "The round was updated at the same time. Please try again."
+                        );
+                    }
+                    log.debug("Round transition {} on dart {} conflicted (attempt {})", transition, dartId, attempt);
+                } finally {
+                    lock.unlock();
+                }
+                retries.increment();
+                pause(attempt);
+            }
+        } finally {
+            Timer.builder("round.transition")
+                .tag("transition", transition)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void lockDart(UUID dartId) {
+        dartRepository.findByIdForUpdate(dartId).orElseThrow(() ->
+            new ResponseStatusException(HttpStatus.NOT_FOUND, "Dart not found with id: " + dartId)
+        );
+    }
+
+    /** Sleeps a random time in [backoff, 2 * backoff) with backoff doubling per attempt. */
+    private void pause(int attempt) {
+        long backoff = retryBackoffMillis << Math.min(attempt - 1, 10);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(backoff, 2 * backoff));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Interrupted");
+        }
+    }
+
+    @Override
+    public boolean closeIfComplete(Round round) {
+        if (!round.isInPayed()) {
+            return false;
+        }
+        int paidCount = roundRepository.findPaidCountById(round.getId());
+        if (paidCount < round.getExpectedPayerCount()) {
+            return false;
+        }
+        close(round);
+        log.info(
+            "Round {} marked as PAYED — all {} contributions received.",
+            round.getId(),
+            paidCount
+        );
+        return true;
+    }
+
+    @Override
+    public void close(Round round) {
+        if (round.isPayed()) {
+            return;
+        }
+        round.setStatus(RoundStatus.PAYED);
+        roundRepository.save(round);
+        paymentRollupService.recordRoundPaid(round);
+        advanceCurrentRound(round.getDart());
+    }
+
+    /** Points the dart at its lowest-numbered INPAYED round, or null once all are paid. */
+    private void advanceCurrentRound(Dart dart) {
+        Round current = roundRepository
+            .findFirstByDartIdAndStatusOrderByNumberAsc(dart.getId(), RoundStatus.INPAYED)
+            .orElse(null);
+        dart.setCurrentRound(current);
+        dartRepository.save(dart);
+        log.debug(
+            "Current round of dart {} is now {}",
+            dart.getId(),
+            current != null ? current.getNumber() : null
+        );
+    }
+}
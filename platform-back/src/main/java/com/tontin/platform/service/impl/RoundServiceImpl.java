@@ -12,13 +12,14 @@ import com.tontin.platform.dto.dart.response.PageResponse;
 import com.tontin.platform.dto.round.request.CreateRoundsRequest;
 import com.tontin.platform.dto.round.request.RoundRequest;
 import com.tontin.platform.dto.round.response.RoundResponse;
+import com.tontin.platform.dto.round.response.UpcomingDueResponse;
 import com.tontin.platform.mapper.RoundMapper;
 import com.tontin.platform.repository.DartRepository;
 import com.tontin.platform.repository.PaymentRepository;
 import com.tontin.platform.repository.RoundRepository;
+import com.tontin.platform.service.RoundLifecycleService;
 import com.tontin.platform.service.RoundOrderService;
 import com.tontin.platform.service.RoundService;
-import com.tontin.platform.util.PaymentFrequencyUtil;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -50,6 +51,7 @@ public class RoundServiceImpl implements RoundService {
     private final RoundMapper roundMapper;
     private final SecurityUtils securityUtils;
     private final RoundOrderService roundOrderService;
+    private final RoundLifecycleService roundLifecycleService;
 
     // -------------------------------------------------------------------------
     // Helpers
@@ -157,9 +159,6 @@ public class RoundServiceImpl implements RoundService {
             request.dartId(),
             orderedMembers.size()
         );
-        orderedMembers.forEach(m ->
-            log.debug("  - Member {}: {}", m.getId(), m.getUser().getUserName())
-        );
 
         double roundAmount = dart
             .getMonthlyContribution()
@@ -167,17 +166,15 @@ public class RoundServiceImpl implements RoundService {
             .doubleValue();
 
         List<Round> rounds = new ArrayList<>();
-        LocalDateTime startDate = dart.getStartDate();
+        // The whole payout calendar is fixed at start and stored on the rounds
+        List<LocalDateTime> calendar = dart
+            .getPaymentFrequency()
+            .calendar(dart.getStartDate(), orderedMembers.size());
 
         for (int i = 0; i < orderedMembers.size(); i++) {
             Member recipient = orderedMembers.get(i);
             int roundNumber = i + 1;
-
-            LocalDateTime roundDate = PaymentFrequencyUtil.calculateRoundDate(
-                startDate,
-                dart.getPaymentFrequency(),
-                roundNumber
-            );
+            LocalDateTime roundDate = calendar.get(i);
 
             Round round = Round.builder()
                 .number(roundNumber)
@@ -186,19 +183,23 @@ public class RoundServiceImpl implements RoundService {
                 .amount(roundAmount)
                 .dart(dart)
                 .recipient(recipient)
+                .expectedPayerCount(activeMembers.size() - 1)
                 .build();
 
             rounds.add(round);
             log.debug(
-                "Created round {} for dart {} - recipient: {}, date: {}",
+                "Created round {} for dart {} - recipient member: {}, date: {}",
                 roundNumber,
                 request.dartId(),
-                recipient.getUser().getUserName(),
+                recipient.getId(),
                 roundDate
             );
         }
 
+        // One batched INSERT (hibernate.jdbc.batch_size): ids are generated in memory
         List<Round> savedRounds = roundRepository.saveAll(rounds);
+        // Rounds are built in number order: the first one is current
+        dart.setCurrentRound(savedRounds.get(0));
         log.info(
             "Successfully created {} rounds for dart {}",
             savedRounds.size(),
@@ -310,16 +311,17 @@ public class RoundServiceImpl implements RoundService {
     public RoundResponse getCurrentRoundByDartId(UUID dartId) {
         log.debug("Fetching current round for dart {}", dartId);
 
-        Dart dart = findDartById(dartId);
+        Dart dart = dartRepository
+            .findByIdWithCurrentRound(dartId)
+            .orElseThrow(() -> {
+                log.warn("Dart not found with id: {}", dartId);
+                return new ResponseStatusException(
+                    HttpStatus.NOT_FOUND,
+                    "Dart not found with id: " + dartId
+                );
+            });
 
-        Page<Round> page = roundRepository.findCurrentRoundByDartId(
-            dartId,
-            RoundStatus.INPAYED,
-            PageRequest.of(0, 1)
-        );
-        Round currentRound = page.hasContent()
-            ? page.getContent().get(0)
-            : null;
+        Round currentRound = dart.getCurrentRound();
         if (currentRound == null) {
             log.warn("No current round found for dart {}", dartId);
             throw new ResponseStatusException(
@@ -346,24 +348,27 @@ public class RoundServiceImpl implements RoundService {
         );
     }
 
+    /**
+     * Not transactional: runs as a {@link RoundLifecycleService} transition.
+     */
     @Override
-    @Transactional
     public RoundResponse markRoundAsPaid(UUID dartId, UUID roundId) {
         log.info("Marking round {} as paid for dart {}", roundId, dartId);
-        Dart dart = findDartById(dartId);
-        Round round = findRoundById(roundId);
-        if (!round.getDart().getId().equals(dartId)) {
-            throw new ResponseStatusException(
-                HttpStatus.BAD_REQUEST,
-                "Round does not belong to this dart"
-            );
-        }
-        round.setStatus(RoundStatus.PAYED);
-        round = roundRepository.save(round);
+        return roundLifecycleService.execute(dartId, "round-closed", () -> {
+            Dart dart = findDartById(dartId);
+            Round round = findRoundById(roundId);
+            if (!round.getDart().getId().equals(dartId)) {
+                throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Round does not belong to this dart"
+                );
+            }
+            roundLifecycleService.close(round);
 
-        // After marking paid, all members are effectively done — fetch updated list
-        List<UUID> paidMemberIds = buildPaidMemberIdsForRound(round.getId());
-        return roundMapper.toDtoWithDart(round, dart, paidMemberIds);
+            // After marking paid, all members are effectively done — fetch updated list
+            List<UUID> paidMemberIds = buildPaidMemberIdsForRound(round.getId());
+            return roundMapper.toDtoWithDart(round, dart, paidMemberIds);
+        });
     }
 
     @Override
@@ -376,6 +381,37 @@ public class RoundServiceImpl implements RoundService {
         );
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<UpcomingDueResponse> getUpcomingDueDates(int days, int limit) {
+        if (days < 1 || days > 366 || limit < 1 || limit > 100) {
+            throw new ResponseStatusException(
+                HttpStatus.BAD_REQUEST,
+                "days must be between 1 and 366 and limit between 1 and 100"
+            );
+        }
+        UUID userId = securityUtils.requireCurrentUserId();
+        return roundRepository
+            .findUpcomingDueRoundsForUser(
+                userId,
+                LocalDateTime.now().plusDays(days),
+                PageRequest.of(0, limit)
+            )
+            .stream()
+            .map(row -> UpcomingDueResponse.builder()
+                .dartId(row.dartId())
+                .dartName(row.dartName())
+                .roundId(row.roundId())
+                .roundNumber(row.roundNumber())
+                .dueDate(row.dueDate())
+                .amountDue(Boolean.TRUE.equals(row.recipient()) ? BigDecimal.ZERO : row.monthlyContribution())
+                .payoutAmount(row.payoutAmount())
+                .recipient(Boolean.TRUE.equals(row.recipient()))
+                .build()
+            )
+            .toList();
+    }
+
     // -------------------------------------------------------------------------
     // Private helpers
     // -------------------------------------------------------------------------
@@ -394,7 +430,7 @@ public class RoundServiceImpl implements RoundService {
 
     private Dart findDartByIdWithMembers(UUID dartId) {
         return dartRepository
-            .findByIdWithMembers(dartId)
+            .findByIdWithMemberUsers(dartId)
             .orElseThrow(() -> {
                 log.warn("Dart not found with id: {}", dartId);
                 return new ResponseStatusException(
@@ -0,0 +1,57 @@
+package com.tontin.platform.service.impl;
+
+import com.tontin.platform.repository.SchedulerLockRepository;
+import com.tontin.platform.service.SchedulerLockService;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Default {@link SchedulerLockService}. The owner id is the host name plus a random
+ * suffix, so two instances on one host never share a lease.
+ *
+ * <p>Leases compare application clocks: keep the lease well above the expected clock
+ * skew between instances.</p>
+ */
+@Service
+@Slf4j
+public class SchedulerLockServiceImpl implements SchedulerLockService {
+
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final String owner;
+
+    public SchedulerLockServiceImpl(SchedulerLockRepository schedulerLockRepository) {
+        this.schedulerLockRepository = schedulerLockRepository;
+        this.owner = hostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Override
+    @Transactional
+    public boolean tryAcquire(String name, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        boolean acquired = schedulerLockRepository.tryAcquire(name, owner, now, now.plus(lease)) == 1;
+        if (!acquired && !schedulerLockRepository.existsById(name)) {
+            log.warn("No scheduler_locks row named {}; the job cannot run", name);
+        }
+        return acquired;
+    }
+
+    @Override
+    @Transactional
+    public void release(String name) {
+        schedulerLockRepository.release(name, owner, LocalDateTime.now());
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,371 @@
+package com.tontin.platform.service.impl;
+
+import com.stripe.exception.EventDataObjectDeserializationException;
+import com.stripe.exception.SignatureVerificationException;
+import com.stripe.model.Event;
+import com.stripe.model.EventDataObjectDeserializer;
+import com.stripe.model.PaymentIntent;
+import com.stripe.model.StripeObject;
+import com.stripe.net.Webhook;
+import com.tontin.platform.config.CorrelationIdFilter;
+import com.tontin.platform.domain.StripeWebhookEvent;
+import com.tontin.platform.domain.enums.payment.WebhookEventStatus;
+import com.tontin.platform.repository.StripeWebhookEventRepository;
+import com.tontin.platform.service.PaymentService;
+import com.tontin.platform.service.StripeWebhookInboxService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Database-backed implementation of {@link StripeWebhookInboxService}.
+ *
+ * <p>Events are keyed for ordering by the {@code roundId} metadata set on every
+ * PaymentIntent at creation (the intent id when absent). Each poll claims at most one
+ * event per key (see {@link StripeWebhookEventRepository#findClaimable}), so the
+ * {@code stripe.webhook.inbox.workers} threads work on different rounds in parallel
+ * while a round's events stay in order. A claim is a lease of
+ * {@code stripe.webhook.inbox.lease} ms: an event whose worker died is picked up again
+ * once it expires, and the handlers are idempotent. The request id of the webhook
+ * delivery is stored with the event and put back in the {@link MDC} while a worker
+ * processes it, so the worker's logs correlate with the delivery.</p>
+ *
+ * <p>Meters: {@code stripe.webhook.received}, {@code .duplicates}, {@code .processed},
+ * {@code .retried}, {@code .dead}, {@code .lag} (receipt to processed) and the
+ * {@code stripe.webhook.dead.events} gauge.</p>
+ */
+@Service
+@Slf4j
+public class StripeWebhookInboxServiceImpl implements StripeWebhookInboxService {
+
+    static final String PAYMENT_INTENT_SUCCEEDED = "payment_intent.succeeded";
+
+    private static final Set<String> HANDLED_TYPES = Set.of(PAYMENT_INTENT_SUCCEEDED);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final StripeWebhookEventRepository repository;
+    private final PaymentService paymentService;
+    private final TransactionTemplate transactionTemplate;
+    private final String webhookSecret;
+    private final int batchSize;
+    private final long leaseMillis;
+    private final int maxAttempts;
+    private final long retryBaseDelayMillis;
+    private final long retryMaxDelayMillis;
+    private final int retentionDays;
+    private final ExecutorService workers;
+
+    private final Counter received;
+    private final Counter duplicates;
+    private final Counter processed;
+    private final Counter retried;
+    private final Counter dead;
+    private final Timer lag;
+
+    public StripeWebhookInboxServiceImpl(
+        StripeWebhookEventRepository repository,
+        PaymentService paymentService,
+        TransactionTemplate transactionTemplate,
+        MeterRegistry meterRegistry,
+        @Value("${stripe.webhook-secret:}") String webhookSecret,
+        @Value("${stripe.webhook.inbox.workers:4}") int workerCount,
+        @Value("${stripe.webhook.inbox.batch-size:50}") int batchSize,
+        @Value("${stripe.webhook.inbox.lease:60000}") long leaseMillis,
+        @Value("${stripe.webhook.inbox.max-attempts:8}") int maxAttempts,
+        @Value("${stripe.webhook.inbox.retry-base-delay:5000}") long retryBaseDelayMillis,
+        @Value("${stripe.webhook.inbox.retry-max-delay:900000}") long retryMaxDelayMillis,
+        @Value("${stripe.webhook.inbox.retention-days:30}") int retentionDays
+    ) {
+        this.repository = repository;
+        this.paymentService = paymentService;
+        this.transactionTemplate = transactionTemplate;
+        this.webhookSecret = webhookSecret != null ? webhookSecret.trim() : "";
+        this.batchSize = Math.max(1, batchSize);
+        this.leaseMillis = Math.max(1_000, leaseMillis);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBaseDelayMillis = Math.max(0, retryBaseDelayMillis);
+        this.retryMaxDelayMillis = Math.max(this.retryBaseDelayMillis, retryMaxDelayMillis);
+        // Stripe redelivers for up to 3 days: processed ids must be kept at least that long
+        this.retentionDays = Math.max(3, retentionDays);
+        this.workers = Executors.newFixedThreadPool(
+            Math.max(1, workerCount),
+            Thread.ofPlatform().name("stripe-webhook-", 1).daemon(true).factory()
+        );
+
+        this.received = Counter.builder("stripe.webhook.received").register(meterRegistry);
+        this.duplicates = Counter.builder("stripe.webhook.duplicates").register(meterRegistry);
+        this.processed = Counter.builder("stripe.webhook.processed").register(meterRegistry);
+        this.retried = Counter.builder("stripe.webhook.retried").register(meterRegistry);
+        this.dead = Counter.builder("stripe.webhook.dead").register(meterRegistry);
+        this.lag = Timer.builder("stripe.webhook.lag").register(meterRegistry);
+        Gauge.builder("stripe.webhook.dead.events", repository, r -> r.countByStatus(WebhookEventStatus.DEAD))
+            .register(meterRegistry);
+    }
+
+    // -------------------------------------------------------------------------
+    // Receiving
+    // -------------------------------------------------------------------------
+
+    @Override
+    public void receive(String payload, String signature) {
+        if (webhookSecret.isBlank()) {
+            log.warn("Stripe webhook secret not configured; skipping verification.");
+            return;
+        }
+
+        Event event;
+        try {
+            event = Webhook.constructEvent(payload, signature, webhookSecret);
+        } catch (SignatureVerificationException e) {
+            log.warn("Stripe webhook signature verification failed: {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid signature");
+        }
+
+        if (!HANDLED_TYPES.contains(event.getType())) {
+            log.debug("Ignoring Stripe event {} of type {}", event.getId(), event.getType());
+            return;
+        }
+        PaymentIntent intent = paymentIntent(event);
+        if (intent == null) {
+            log.warn("Stripe event {} carries no readable PaymentIntent; ignored", event.getId());
+            return;
+        }
+        if (repository.existsByEventId(event.getId())) {
+            duplicates.increment();
+            log.debug("Stripe event {} already received", event.getId());
+            return;
+        }
+
+        String roundId = intent.getMetadata() != null ? intent.getMetadata().get("roundId") : null;
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            repository.saveAndFlush(
+                StripeWebhookEvent.builder()
+                    .receivedAt(now)
+                    .eventId(event.getId())
+                    .eventType(event.getType())
+                    .objectId(intent.getId())
+                    .orderingKey(roundId != null ? roundId : intent.getId())
+                    .payload(payload)
+                    .status(WebhookEventStatus.PENDING)
+                    .attempts(0)
+                    .nextAttemptAt(now)
+                    .requestId(MDC.get(CorrelationIdFilter.MDC_KEY))
+                    .build()
+            );
+            received.increment();
+        } catch (DataIntegrityViolationException e) {
+            // Concurrent redelivery of the same event won the insert
+            duplicates.increment();
+        }
+    }
+
+    private static PaymentIntent paymentIntent(Event event) {
+        EventDataObjectDeserializer data = event.getDataObjectDeserializer();
+        try {
+            // deserializeUnsafe reads events sent with another API version than the library's
+            StripeObject object = data.getObject().isPresent()
+                ? data.getObject().get()
+                : data.deserializeUnsafe();
+            return object instanceof PaymentIntent intent ? intent : null;
+        } catch (EventDataObjectDeserializationException e) {
+            log.warn("Cannot read object of Stripe event {}: {}", event.getId(), e.getMessage());
+            return null;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Processing
+    // -------------------------------------------------------------------------
+
+    @Override
+    public int processDue() {
+        List<UUID> ids = repository.findClaimable(
+            LocalDateTime.now(),
+            WebhookEventStatus.PENDING,
+            WebhookEventStatus.PROCESSING,
+            PageRequest.of(0, batchSize)
+        );
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<Callable<Boolean>> tasks = ids.stream()
+            .<Callable<Boolean>>map(id -> () -> process(id))
+            .toList();
+        int attempted = 0;
+        try {
+            for (Future<Boolean> result : workers.invokeAll(tasks)) {
+                if (Boolean.TRUE.equals(result.get())) {
+                    attempted++;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.error("Stripe webhook worker failed: {}", e.getCause().getMessage(), e.getCause());
+        }
+        return attempted;
+    }
+
+    /**
+     * One attempt at one event.
+     *
+     * @return false if the event could not be claimed (taken by another worker or instance)
+     */
+    private boolean process(UUID id) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        LocalDateTime lockedUntil = now.plus(leaseMillis, ChronoUnit.MILLIS);
+        Integer claimed = transactionTemplate.execute(status ->
+            repository.claim(id, now, lockedUntil, WebhookEventStatus.PENDING, WebhookEventStatus.PROCESSING)
+        );
+        if (claimed == null || claimed == 0) {
+            return false;
+        }
+        StripeWebhookEvent event = repository.findById(id).orElse(null);
+        if (event == null) {
+            return false;
+        }
+        if (event.getRequestId() != null) {
+            MDC.put(CorrelationIdFilter.MDC_KEY, event.getRequestId());
+        }
+        try {
+            return process(event, lockedUntil);
+        } finally {
+            MDC.remove(CorrelationIdFilter.MDC_KEY);
+        }
+    }
+
+    private boolean process(StripeWebhookEvent event, LocalDateTime lockedUntil) {
+        try {
+            // Outside a transaction: the handlers run as round transitions, which retry
+            // in their own transactions
+            apply(event);
+        } catch (RuntimeException e) {
+            fail(event, lockedUntil, e);
+            return true;
+        }
+        Integer completed = transactionTemplate.execute(status ->
+            repository.complete(
+                event.getId(),
+                lockedUntil,
+                WebhookEventStatus.PROCESSED,
+                event.getNextAttemptAt(),
+                LocalDateTime.now(),
+                null,
+                WebhookEventStatus.PROCESSING
+            )
+        );
+        if (completed != null && completed > 0) {
+            processed.increment();
+            lag.record(Duration.between(event.getReceivedAt(), LocalDateTime.now()));
+        } else {
+            // Another worker took the expired lease and applies it again (idempotently)
+            log.warn("Lease on Stripe event {} expired while processing", event.getEventId());
+        }
+        return true;
+    }
+
+    private void apply(StripeWebhookEvent event) {
+        switch (event.getEventType()) {
+            case PAYMENT_INTENT_SUCCEEDED -> paymentService.markPaymentSucceeded(event.getObjectId());
+            default -> log.debug("No handler for Stripe event type {}", event.getEventType());
+        }
+    }
+
+    private void fail(StripeWebhookEvent event, LocalDateTime lockedUntil, RuntimeException cause) {
+        String error = truncate(cause.getClass().getSimpleName() + ": " + cause.getMessage());
+        LocalDateTime now = LocalDateTime.now();
+        boolean giveUp = event.getAttempts() >= maxAttempts;
+        try {
+            transactionTemplate.execute(status ->
+                repository.complete(
+                    event.getId(),
+                    lockedUntil,
+                    giveUp ? WebhookEventStatus.DEAD : WebhookEventStatus.PENDING,
+                    giveUp
+                        ? event.getNextAttemptAt()
+                        : now.plus(backoff(event.getAttempts(), retryBaseDelayMillis, retryMaxDelayMillis)),
+                    giveUp ? now : null,
+                    error,
+                    WebhookEventStatus.PROCESSING
+                )
+            );
+        } catch (RuntimeException e) {
+            // The lease expires and the event is retried anyway
+            log.error("Cannot record failure of Stripe event {}: {}", event.getEventId(), e.getMessage());
+        }
+        if (giveUp) {
+            dead.increment();
+            log.error(
+                "Stripe event {} ({}) dead-lettered after {} attempts: {}",
+                event.getEventId(),
+                event.getEventType(),
+                event.getAttempts(),
+                error
+            );
+        } else {
+            retried.increment();
+            log.warn("Stripe event {} attempt {} failed, will retry: {}", event.getEventId(), event.getAttempts(), error);
+        }
+    }
+
+    /** Delay before the next attempt: base doubled per failed attempt, capped at max. */
+    static Duration backoff(int attempts, long baseMillis, long maxMillis) {
+        int doublings = Math.min(Math.max(0, attempts - 1), 30);
+        return Duration.ofMillis(Math.min(maxMillis, baseMillis << doublings));
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    // -------------------------------------------------------------------------
+    // Retention
+    // -------------------------------------------------------------------------
+
+    @Override
+    @Transactional
+    public int purgeProcessed() {
+        return repository.deleteByStatusAndProcessedAtBefore(
+            WebhookEventStatus.PROCESSED,
+            LocalDateTime.now().minusDays(retentionDays)
+        );
+    }
+
+    @PreDestroy
+    void stop() {
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
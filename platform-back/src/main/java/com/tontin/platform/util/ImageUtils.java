@@ -0,0 +1,233 @@
+package com.tontin.platform.util;
+
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.regex.Pattern;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * Utility class for stored pictures: content hashes, image URLs, dimensions, content
+ * types and thumbnail rendering.
+ */
+public class ImageUtils {
+
+    /** Path of the public image endpoint ({@code ImageController}). */
+    public static final String IMAGE_PATH = "/api/v1/images/";
+
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    private ImageUtils() {}
+
+    /**
+     * Computes the lowercase hex SHA-256 of the given bytes.
+     *
+     * @param content the content (may be null)
+     * @return the hash, or null for null/empty content
+     */
+    public static String sha256Hex(byte[] content) {
+        if (content == null || content.length == 0) {
+            return null;
+        }
+        try {
+            return HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest(content)
+            );
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public static boolean isValidHash(String hash) {
+        return hash != null && HASH_PATTERN.matcher(hash).matches();
+    }
+
+    /**
+     * Builds the URL of an image from its content hash. Absolute when called within an
+     * HTTP request (the frontend runs on another origin), relative otherwise.
+     *
+     * @param hash the content hash (may be null)
+     * @return the image URL, or null when there is no image
+     */
+    public static String url(String hash) {
+        if (hash == null) {
+            return null;
+        }
+        if (RequestContextHolder.getRequestAttributes() == null) {
+            return IMAGE_PATH + hash;
+        }
+        return ServletUriComponentsBuilder.fromCurrentContextPath()
+            .path(IMAGE_PATH)
+            .path(hash)
+            .toUriString();
+    }
+
+    /**
+     * Detects the media type of an image from its magic bytes.
+     *
+     * @param content the image bytes
+     * @return the media type, {@code application/octet-stream} if unknown
+     */
+    public static String detectContentType(byte[] content) {
+        if (content == null || content.length < 12) {
+            return "application/octet-stream";
+        }
+        if ((content[0] & 0xFF) == 0xFF && (content[1] & 0xFF) == 0xD8) {
+            return "image/jpeg";
+        }
+        if ((content[0] & 0xFF) == 0x89 && content[1] == 'P' && content[2] == 'N' && content[3] == 'G') {
+            return "image/png";
+        }
+        if (content[0] == 'G' && content[1] == 'I' && content[2] == 'F') {
+            return "image/gif";
+        }
+        if (
+            new String(content, 0, 4, StandardCharsets.US_ASCII).equals("RIFF") &&
+            new String(content, 8, 4, StandardCharsets.US_ASCII).equals("WEBP")
+        ) {
+            return "image/webp";
+        }
+        return "application/octet-stream";
+    }
+
+    /**
+     * Reads the dimensions of an image from its header, without decoding the pixels.
+     *
+     * @param content the encoded bytes
+     * @return width and height, or null if the format is not supported
+     */
+    public static Dimension readDimensions(byte[] content) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(content))) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                return new Dimension(reader.getWidth(0), reader.getHeight(0));
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Decodes an uploaded image. Check {@link #readDimensions(byte[])} first: the
+     * decoded image takes 4 bytes per pixel whatever the upload size.
+     *
+     * @param content the encoded bytes
+     * @return the decoded image, or null if the format is not supported
+     */
+    public static BufferedImage decode(byte[] content) {
+        try {
+            return ImageIO.read(new ByteArrayInputStream(content));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Scales an image down so that its longest side is at most {@code maxSide} pixels,
+     * keeping the aspect ratio. Smaller images are returned as is (never upscaled).
+     *
+     * <p>Large reductions are done in successive halving steps with bilinear
+     * interpolation, which is much sharper than a single bilinear step.</p>
+     *
+     * @param source  the decoded image
+     * @param maxSide the maximum width/height
+     * @return the scaled image
+     */
+    public static BufferedImage resizeToFit(BufferedImage source, int maxSide) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        if (width <= maxSide && height <= maxSide) {
+            return source;
+        }
+        double scale = (double) maxSide / Math.max(width, height);
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+        int type = source.getColorModel().hasAlpha()
+            ? BufferedImage.TYPE_INT_ARGB
+            : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage current = source;
+        int w = width;
+        int h = height;
+        do {
+            w = Math.max(targetWidth, w / 2);
+            h = Math.max(targetHeight, h / 2);
+            BufferedImage step = new BufferedImage(w, h, type);
+            Graphics2D g = step.createGraphics();
+            try {
+                g.setRenderingHint(
+                    RenderingHints.KEY_INTERPOLATION,
+                    RenderingHints.VALUE_INTERPOLATION_BILINEAR
+                );
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, w, h, null);
+            } finally {
+                g.dispose();
+            }
+            current = step;
+        } while (w != targetWidth || h != targetHeight);
+        return current;
+    }
+
+    /**
+     * Encodes an image as PNG when it has transparency, JPEG otherwise.
+     *
+     * @param image       the image
+     * @param jpegQuality JPEG quality between 0 and 1
+     * @return the encoded bytes
+     */
+    public static byte[] encode(BufferedImage image, float jpegQuality) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            if (image.getColorModel().hasAlpha()) {
+                ImageIO.write(image, "png", out);
+                return out.toByteArray();
+            }
+            BufferedImage rgb = image;
+            if (image.getType() != BufferedImage.TYPE_INT_RGB) {
+                rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+                Graphics2D g = rgb.createGraphics();
+                g.drawImage(image, 0, 0, null);
+                g.dispose();
+            }
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+            try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+                writer.setOutput(ios);
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+                writer.write(null, new IIOImage(rgb, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not encode image", e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.tontin.platform.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Position in a list ordered by {@code (date DESC, id DESC)}, exchanged with clients
+ * as an opaque token. The next page holds the rows strictly after this position, so
+ * any page costs one index seek however deep it is.
+ *
+ * @param date date of the last row returned
+ * @param id   id of the last row returned (tie-breaker for equal dates)
+ */
+public record PageCursor(LocalDateTime date, UUID id) {
+
+    /**
+     * @return a URL-safe token for this position
+     */
+    public String encode() {
+        String raw = date + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parses a token produced by {@link #encode()}.
+     *
+     * @param token the token, or null/blank for the first page
+     * @return the position, or null for the first page
+     * @throws ResponseStatusException 400 if the token is malformed
+     */
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("missing separator");
+            }
+            return new PageCursor(
+                LocalDateTime.parse(raw.substring(0, separator)),
+                UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,3 @@
+-- X-Request-Id of the webhook delivery that stored the event, restored into the MDC
+-- while a background worker processes it (see StripeWebhookInboxServiceImpl)
+ALTER TABLE stripe_webhook_events ADD COLUMN request_id VARCHAR(100);
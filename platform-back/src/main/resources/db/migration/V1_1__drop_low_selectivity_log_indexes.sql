@@ -0,0 +1,5 @@
+-- event and status have a handful of distinct values: the indexes cost a write per
+-- audit row and no query uses them (Loggin, LogStorageServiceImpl).
+
+DROP INDEX IF EXISTS idx_logs_event;
+DROP INDEX IF EXISTS idx_logs_status;
@@ -0,0 +1,13 @@
+-- Users and darts reference their pictures in images by content hash: the original
+-- upload and its 64px (lists) and 256px (detail) variants. The legacy picture column
+-- is emptied by the startup backfill (ImageServiceImpl.backfillPictures).
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS picture_hash VARCHAR(64);
+ALTER TABLE users ADD COLUMN IF NOT EXISTS thumbnail_hash VARCHAR(64);
+ALTER TABLE users ADD COLUMN IF NOT EXISTS preview_hash VARCHAR(64);
+CREATE INDEX IF NOT EXISTS idx_users_picture_hash ON users (picture_hash);
+
+ALTER TABLE darts ADD COLUMN IF NOT EXISTS picture_hash VARCHAR(64);
+ALTER TABLE darts ADD COLUMN IF NOT EXISTS thumbnail_hash VARCHAR(64);
+ALTER TABLE darts ADD COLUMN IF NOT EXISTS preview_hash VARCHAR(64);
+CREATE INDEX IF NOT EXISTS idx_darts_picture_hash ON darts (picture_hash);
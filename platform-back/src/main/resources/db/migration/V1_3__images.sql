@@ -0,0 +1,11 @@
+-- Content-addressed pictures (Image): the primary key is the SHA-256 of content.
+
+CREATE TABLE IF NOT EXISTS images (
+    hash         VARCHAR(64)  NOT NULL,
+    content_type VARCHAR(50)  NOT NULL,
+    width        INTEGER      NOT NULL,
+    height       INTEGER      NOT NULL,
+    content      BYTEA        NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    CONSTRAINT images_pkey PRIMARY KEY (hash)
+);
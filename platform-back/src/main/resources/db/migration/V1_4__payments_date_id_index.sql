@@ -0,0 +1,3 @@
+-- Keyset scan of the payment CSV export (PaymentReportServiceImpl, ORDER BY payment_date, id)
+
+CREATE INDEX IF NOT EXISTS idx_payments_date_id ON payments (payment_date, id);
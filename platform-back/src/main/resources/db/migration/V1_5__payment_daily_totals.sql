@@ -0,0 +1,15 @@
+-- Daily payment totals per user/dart and kind (PaymentDailyTotal), kept up to date by
+-- PaymentRollupServiceImpl and rebuilt from payments at startup when empty.
+
+CREATE TABLE IF NOT EXISTS payment_daily_totals (
+    id          UUID           NOT NULL,
+    user_id     UUID,
+    dart_id     UUID           NOT NULL,
+    kind        VARCHAR(20)    NOT NULL,
+    bucket_date DATE           NOT NULL,
+    amount      NUMERIC(19, 2) NOT NULL,
+    entry_count BIGINT         NOT NULL,
+    CONSTRAINT payment_daily_totals_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_payment_daily_totals_key UNIQUE (user_id, dart_id, kind, bucket_date)
+);
+CREATE INDEX IF NOT EXISTS idx_payment_daily_totals_dart ON payment_daily_totals (dart_id, kind, bucket_date);
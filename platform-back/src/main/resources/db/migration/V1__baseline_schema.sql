@@ -0,0 +1,158 @@
+-- Baseline: the schema previously created by Hibernate (ddl-auto=update) from the
+-- entities in com.tontin.platform.domain. Existing databases are baselined at this
+-- version (spring.flyway.baseline-on-migrate) and start at V1.1, so everything added
+-- since then lives in its own migration, never here.
+
+CREATE TABLE users (
+    id                        UUID         NOT NULL,
+    created_at                TIMESTAMP(6) NOT NULL,
+    updated_at                TIMESTAMP(6),
+    version                   BIGINT,
+    user_name                 VARCHAR(50)  NOT NULL,
+    email                     VARCHAR(100) NOT NULL,
+    password                  VARCHAR(255) NOT NULL,
+    verification_code         VARCHAR(64),
+    creation_date             VARCHAR(30)  NOT NULL,
+    email_confirmed           BOOLEAN      NOT NULL,
+    account_access_file_count INTEGER      NOT NULL,
+    reset_password_date       TIMESTAMP(6),
+    role                      VARCHAR(20)  NOT NULL,
+    picture                   BYTEA,
+    status                    VARCHAR(20)  NOT NULL,
+    points                    INTEGER      NOT NULL,
+    CONSTRAINT users_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_users_user_name UNIQUE (user_name),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE darts (
+    id                   UUID           NOT NULL,
+    created_at           TIMESTAMP(6)   NOT NULL,
+    updated_at           TIMESTAMP(6),
+    version              BIGINT,
+    name                 VARCHAR(100)   NOT NULL,
+    start_date           TIMESTAMP(6),
+    monthly_contribution NUMERIC(19, 2) NOT NULL,
+    order_method         VARCHAR(50)    NOT NULL,
+    status               VARCHAR(20)    NOT NULL,
+    custom_rules         VARCHAR(255),
+    description          VARCHAR(500),
+    payment_frequency    VARCHAR(50)    NOT NULL,
+    picture              BYTEA,
+    CONSTRAINT darts_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE members (
+    id         UUID         NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6),
+    version    BIGINT,
+    permission VARCHAR(20)  NOT NULL,
+    status     VARCHAR(20)  NOT NULL,
+    joined_at  TIMESTAMP(6) NOT NULL,
+    dart_id    UUID         NOT NULL,
+    user_id    UUID         NOT NULL,
+    CONSTRAINT members_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_members_dart FOREIGN KEY (dart_id) REFERENCES darts (id),
+    CONSTRAINT fk_members_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE rounds (
+    id                  UUID             NOT NULL,
+    created_at          TIMESTAMP(6)     NOT NULL,
+    updated_at          TIMESTAMP(6),
+    version             BIGINT,
+    round_number        INTEGER          NOT NULL,
+    status              VARCHAR(20)      NOT NULL,
+    round_date          TIMESTAMP(6)     NOT NULL,
+    amount              DOUBLE PRECISION NOT NULL,
+    dart_id             UUID             NOT NULL,
+    recipient_member_id UUID,
+    CONSTRAINT rounds_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_rounds_dart FOREIGN KEY (dart_id) REFERENCES darts (id),
+    CONSTRAINT fk_rounds_recipient FOREIGN KEY (recipient_member_id) REFERENCES members (id)
+);
+
+CREATE TABLE payments (
+    id                       UUID           NOT NULL,
+    created_at               TIMESTAMP(6)   NOT NULL,
+    updated_at               TIMESTAMP(6),
+    version                  BIGINT,
+    amount                   NUMERIC(19, 2) NOT NULL,
+    method                   VARCHAR(50)    NOT NULL,
+    payment_date             TIMESTAMP(6)   NOT NULL,
+    payment_status           VARCHAR(20)    NOT NULL,
+    round_id                 UUID           NOT NULL,
+    payer_member_id          UUID           NOT NULL,
+    stripe_payment_intent_id VARCHAR(255),
+    CONSTRAINT payments_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_payments_round FOREIGN KEY (round_id) REFERENCES rounds (id),
+    CONSTRAINT fk_payments_payer FOREIGN KEY (payer_member_id) REFERENCES members (id)
+);
+
+CREATE TABLE notifications (
+    id           UUID         NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    updated_at   TIMESTAMP(6),
+    version      BIGINT,
+    title        VARCHAR(200) NOT NULL,
+    description  TEXT,
+    action_url   VARCHAR(500),
+    action_label VARCHAR(100),
+    status       VARCHAR(20)  NOT NULL,
+    type         VARCHAR(50)  NOT NULL,
+    user_id      UUID         NOT NULL,
+    CONSTRAINT notifications_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_notifications_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE dart_messages (
+    id               UUID          NOT NULL,
+    created_at       TIMESTAMP(6)  NOT NULL,
+    updated_at       TIMESTAMP(6),
+    version          BIGINT,
+    dart_id          UUID          NOT NULL,
+    sender_member_id UUID          NOT NULL,
+    content          VARCHAR(2000),
+    gif_url          VARCHAR(500),
+    CONSTRAINT dart_messages_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_dart_messages_dart FOREIGN KEY (dart_id) REFERENCES darts (id),
+    CONSTRAINT fk_dart_messages_sender FOREIGN KEY (sender_member_id) REFERENCES members (id)
+);
+
+CREATE TABLE dart_message_reactions (
+    id         UUID         NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6),
+    version    BIGINT,
+    message_id UUID         NOT NULL,
+    member_id  UUID         NOT NULL,
+    emoji      VARCHAR(20)  NOT NULL,
+    CONSTRAINT dart_message_reactions_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_dart_message_reactions_message_member_emoji UNIQUE (message_id, member_id, emoji),
+    CONSTRAINT fk_dart_message_reactions_message FOREIGN KEY (message_id) REFERENCES dart_messages (id),
+    CONSTRAINT fk_dart_message_reactions_member FOREIGN KEY (member_id) REFERENCES members (id)
+);
+
+-- Converted to monthly partitions at startup on PostgreSQL (LogStorageServiceImpl)
+CREATE TABLE logs (
+    id            UUID         NOT NULL,
+    timestamp     TIMESTAMP(6) NOT NULL,
+    level         VARCHAR(20),
+    service       VARCHAR(100) NOT NULL,
+    env           VARCHAR(20)  NOT NULL,
+    request_id    VARCHAR(100) NOT NULL,
+    event         VARCHAR(100) NOT NULL,
+    path          VARCHAR(255) NOT NULL,
+    status        VARCHAR(20)  NOT NULL,
+    user_email    VARCHAR(100),
+    error_message TEXT,
+    stack_trace   TEXT,
+    CONSTRAINT logs_pkey PRIMARY KEY (id)
+);
+CREATE INDEX idx_logs_timestamp ON logs (timestamp);
+CREATE INDEX idx_logs_user_email ON logs (user_email);
+CREATE INDEX idx_logs_event ON logs (event);
+CREATE INDEX idx_logs_status ON logs (status);
+CREATE INDEX idx_logs_request_id ON logs (request_id);
+
@@ -0,0 +1,70 @@
+-- Indexes for the lookups on the payment, round, membership, notification and chat
+-- paths. Each statement names the repository method(s) it serves.
+
+-- Three of them are unique. Data written through the services respects them, but a
+-- database baselined from ddl-auto=update may hold older duplicates, which cannot be
+-- merged automatically (payments, members and rounds are referenced by other rows).
+-- Stop before any index is built; PostgreSQL names the first duplicate key found:
+--   violates check constraint "resolve_duplicates_before_v2"
+--   Failing row contains (payments.stripe_payment_intent_id = pi_...)
+CREATE TABLE v2_duplicate_keys (
+    duplicate_key VARCHAR(200),
+    CONSTRAINT resolve_duplicates_before_v2 CHECK (duplicate_key IS NULL)
+);
+
+INSERT INTO v2_duplicate_keys (duplicate_key)
+SELECT 'payments.stripe_payment_intent_id = ' || stripe_payment_intent_id
+FROM payments
+WHERE stripe_payment_intent_id IS NOT NULL
+GROUP BY stripe_payment_intent_id
+HAVING count(*) > 1;
+
+INSERT INTO v2_duplicate_keys (duplicate_key)
+SELECT 'members (dart_id, user_id) = (' || CAST(dart_id AS VARCHAR(36)) || ', ' ||
+       CAST(user_id AS VARCHAR(36)) || ')'
+FROM members
+GROUP BY dart_id, user_id
+HAVING count(*) > 1;
+
+INSERT INTO v2_duplicate_keys (duplicate_key)
+SELECT 'rounds (dart_id, round_number) = (' || CAST(dart_id AS VARCHAR(36)) || ', ' ||
+       CAST(round_number AS VARCHAR(11)) || ')'
+FROM rounds
+GROUP BY dart_id, round_number
+HAVING count(*) > 1;
+
+DROP TABLE v2_duplicate_keys;
+
+-- PaymentRepository.existsByRoundIdAndPayerIdAndPaymentStatus,
+-- countDistinctPayersByRoundIdAndStatus, findAllByRoundIdAndPaymentStatus
+CREATE INDEX idx_payments_round_status_payer ON payments (round_id, payment_status, payer_member_id);
+
+-- PaymentRepository.findByStripePaymentIntentId (one payment per Stripe intent)
+CREATE UNIQUE INDEX uk_payments_stripe_intent ON payments (stripe_payment_intent_id);
+
+-- PaymentRepository.findAllByPayerIdOrderByDateDesc, payment report "my payments"
+CREATE INDEX idx_payments_payer_date ON payments (payer_member_id, payment_date);
+
+-- MemberRepository.findByDartIdAndUserId, existsByUserIdAndDartId (one membership per user and dart)
+CREATE UNIQUE INDEX uk_members_dart_user ON members (dart_id, user_id);
+
+-- Darts of a user (members by user_id)
+CREATE INDEX idx_members_user ON members (user_id);
+
+-- RoundRepository.findAllByDartId, findByDartIdAndNumber (round numbers are unique per dart)
+CREATE UNIQUE INDEX uk_rounds_dart_number ON rounds (dart_id, round_number);
+
+-- RoundRepository.findCurrentRoundByDartId, findAllByDartIdAndStatus
+CREATE INDEX idx_rounds_dart_status_number ON rounds (dart_id, status, round_number);
+
+-- Payouts per recipient (reports)
+CREATE INDEX idx_rounds_recipient ON rounds (recipient_member_id);
+
+-- NotificationRepository.findByUser_IdAndStatusOrderByCreatedAtDesc, countByUser_IdAndStatus
+CREATE INDEX idx_notifications_user_status_created ON notifications (user_id, status, created_at);
+
+-- NotificationRepository.findByUser_IdOrderByCreatedAtDesc
+CREATE INDEX idx_notifications_user_created ON notifications (user_id, created_at);
+
+-- DartMessageRepository.findByDartIdOrderByCreatedAtAsc
+CREATE INDEX idx_dart_messages_dart_created ON dart_messages (dart_id, created_at);
@@ -0,0 +1,12 @@
+-- Denormalized pointer to the current (lowest-numbered INPAYED) round of each dart,
+-- maintained by RoundService.refreshCurrentRound on every round state change.
+
+ALTER TABLE darts ADD COLUMN current_round_id UUID;
+ALTER TABLE darts ADD CONSTRAINT fk_darts_current_round FOREIGN KEY (current_round_id) REFERENCES rounds (id);
+
+UPDATE darts d SET current_round_id = (
+    SELECT r.id FROM rounds r
+    WHERE r.dart_id = d.id AND r.status = 'INPAYED'
+    ORDER BY r.round_number
+    LIMIT 1
+);
@@ -0,0 +1,25 @@
+-- Inbox of verified Stripe webhook events: the webhook endpoint only stores the event,
+-- StripeWebhookInboxServiceImpl processes it in the background (in order per round,
+-- retried with backoff, dead-lettered after stripe.webhook.inbox.max-attempts).
+
+CREATE TABLE stripe_webhook_events (
+    id              UUID         NOT NULL,
+    received_at     TIMESTAMP(6) NOT NULL,
+    event_id        VARCHAR(255) NOT NULL,
+    event_type      VARCHAR(100) NOT NULL,
+    object_id       VARCHAR(255),
+    ordering_key    VARCHAR(255) NOT NULL,
+    payload         TEXT         NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    attempts        INTEGER      NOT NULL,
+    next_attempt_at TIMESTAMP(6) NOT NULL,
+    locked_until    TIMESTAMP(6),
+    processed_at    TIMESTAMP(6),
+    last_error      VARCHAR(1000),
+    CONSTRAINT stripe_webhook_events_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_stripe_webhook_events_event_id UNIQUE (event_id)
+);
+-- Poller: due events by status; per-key ordering check; retention cleanup
+CREATE INDEX idx_stripe_webhook_events_status_next ON stripe_webhook_events (status, next_attempt_at);
+CREATE INDEX idx_stripe_webhook_events_key_received ON stripe_webhook_events (ordering_key, received_at);
+CREATE INDEX idx_stripe_webhook_events_status_processed ON stripe_webhook_events (status, processed_at);
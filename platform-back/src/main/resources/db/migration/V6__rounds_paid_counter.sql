@@ -0,0 +1,17 @@
+-- Per-round payment progress kept on the row: paid_count is incremented atomically
+-- (RoundRepository.incrementPaidCount) when a payer's first PAYED payment lands, and
+-- the round closes when it reaches expected_payer_count.
+
+ALTER TABLE rounds ADD COLUMN paid_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE rounds ADD COLUMN expected_payer_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE rounds r SET paid_count = (
+    SELECT COUNT(DISTINCT p.payer_member_id) FROM payments p
+    WHERE p.round_id = r.id AND p.payment_status = 'PAYED'
+);
+
+-- Same rule as before: every active member except the recipient pays
+UPDATE rounds r SET expected_payer_count = GREATEST(
+    (SELECT COUNT(*) FROM members m WHERE m.dart_id = r.dart_id AND m.status = 'ACTIVE') - 1,
+    0
+);
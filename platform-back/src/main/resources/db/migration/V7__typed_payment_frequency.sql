@@ -0,0 +1,15 @@
+-- Dart.paymentFrequency becomes the PaymentFrequency enum (stored by constant name).
+-- Existing values were free-form strings matched case-insensitively; anything the
+-- old parser did not know could not have generated rounds and falls back to MONTHLY.
+UPDATE darts SET payment_frequency = CASE UPPER(TRIM(payment_frequency))
+    WHEN 'WEEKLY' THEN 'WEEKLY'
+    WHEN 'BI-WEEKLY' THEN 'BI_WEEKLY'
+    WHEN 'BIWEEKLY' THEN 'BI_WEEKLY'
+    WHEN 'BI_WEEKLY' THEN 'BI_WEEKLY'
+    WHEN 'QUARTERLY' THEN 'QUARTERLY'
+    ELSE 'MONTHLY'
+END;
+
+-- RoundRepository.findUpcomingDueRoundsForUser: open rounds of each of the user's
+-- darts in due-date order (the stored payout calendar)
+CREATE INDEX idx_rounds_dart_status_date ON rounds (dart_id, status, round_date);
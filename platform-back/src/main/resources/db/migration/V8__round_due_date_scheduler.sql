@@ -0,0 +1,18 @@
+-- Due-date scheduler (RoundDueDateServiceImpl): open rounds are scanned in round_date
+-- order per due stage (reminder when the payment window opens, overdue after the
+-- grace period), and only the instance holding the scheduler_locks lease runs a tick.
+
+ALTER TABLE rounds ADD COLUMN due_stage VARCHAR(20) NOT NULL DEFAULT 'SCHEDULED';
+
+-- RoundRepository.findDueRounds: INPAYED rounds of a stage, earliest date first
+CREATE INDEX idx_rounds_status_stage_date ON rounds (status, due_stage, round_date);
+
+CREATE TABLE scheduler_locks (
+    name         VARCHAR(100) NOT NULL,
+    locked_by    VARCHAR(255),
+    locked_until TIMESTAMP(6) NOT NULL,
+    CONSTRAINT scheduler_locks_pkey PRIMARY KEY (name)
+);
+
+INSERT INTO scheduler_locks (name, locked_by, locked_until)
+VALUES ('round-due-dates', NULL, TIMESTAMP '1970-01-01 00:00:00');
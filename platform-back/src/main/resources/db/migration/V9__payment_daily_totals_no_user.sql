@@ -0,0 +1,27 @@
+-- Payouts of rounds without a recipient were stored with a NULL user_id, which never
+-- matches uk_payment_daily_totals_key: ON CONFLICT inserted a new row for each one.
+-- They now use the nil UUID (PaymentDailyTotal.NO_USER) and user_id is NOT NULL.
+
+-- Fold duplicate NULL-user rows into one row per key (the lowest id)
+UPDATE payment_daily_totals t SET
+    amount = (
+        SELECT SUM(o.amount) FROM payment_daily_totals o
+        WHERE o.user_id IS NULL AND o.dart_id = t.dart_id AND o.kind = t.kind AND o.bucket_date = t.bucket_date
+    ),
+    entry_count = (
+        SELECT SUM(o.entry_count) FROM payment_daily_totals o
+        WHERE o.user_id IS NULL AND o.dart_id = t.dart_id AND o.kind = t.kind AND o.bucket_date = t.bucket_date
+    )
+WHERE t.user_id IS NULL;
+
+DELETE FROM payment_daily_totals t
+WHERE t.user_id IS NULL
+  AND EXISTS (
+    SELECT 1 FROM payment_daily_totals o
+    WHERE o.user_id IS NULL AND o.dart_id = t.dart_id AND o.kind = t.kind AND o.bucket_date = t.bucket_date
+      AND o.id < t.id
+  );
+
+UPDATE payment_daily_totals SET user_id = '00000000-0000-0000-0000-000000000000' WHERE user_id IS NULL;
+
+ALTER TABLE payment_daily_totals ALTER COLUMN user_id SET NOT NULL;
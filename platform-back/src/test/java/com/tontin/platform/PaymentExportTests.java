@@ -0,0 +1,125 @@
+package com.tontin.platform;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tontin.platform.domain.enums.dart.DartPermission;
+import com.tontin.platform.service.PaymentReportService;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Exports a report much larger than the export buffers and checks that it leaves in
+ * one flush per keyset batch, in writes no larger than the buffer, and that the gzip
+ * variant decompresses to the same CSV.
+ */
+@SpringBootTest(properties = "app.scheduling.enabled=false")
+class PaymentExportTests {
+
+    private static final int PAYMENTS = 25_500;
+    // PaymentReportServiceImpl.EXPORT_BATCH_SIZE and EXPORT_BUFFER_SIZE
+    private static final int BATCH_SIZE = 1000;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Autowired
+    private PaymentReportService paymentReportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID dartId;
+    private LocalDateTime latest;
+
+    @BeforeEach
+    void seed() {
+        LocalDateTime now = LocalDateTime.now();
+        latest = now.minusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        dartId = TestSeeds.dart(jdbcTemplate, "export", now, now);
+        UUID memberId = TestSeeds.member(
+            jdbcTemplate,
+            dartId,
+            TestSeeds.user(jdbcTemplate, "export", now),
+            DartPermission.ORGANIZER,
+            now
+        );
+        UUID roundId = TestSeeds.round(jdbcTemplate, dartId, 1, now, 100, memberId, 1, now);
+        TestSeeds.payedPayments(jdbcTemplate, roundId, memberId, PAYMENTS, latest);
+    }
+
+    @Test
+    void exportCsv_streamsOneBatchPerFlush() throws IOException {
+        RecordingStream out = new RecordingStream();
+
+        paymentReportService.exportCsv(null, dartId, latest.minusYears(1), latest.plusDays(1), out);
+
+        String csv = out.bytes.toString(StandardCharsets.UTF_8);
+        String[] lines = csv.split("\n");
+        assertEquals(PAYMENTS + 1, lines.length);
+        assertTrue(lines[1].contains(latest.toString()), "newest payment first");
+        // 25 full batches, then the partial one that ends the scan
+        assertEquals(PAYMENTS / BATCH_SIZE + 1, out.flushes);
+        assertTrue(out.bytes.size() > 20 * BUFFER_SIZE);
+        assertTrue(
+            out.largestWrite <= BUFFER_SIZE,
+            () -> "Report was buffered: one write of " + out.largestWrite + " bytes"
+        );
+    }
+
+    @Test
+    void exportCsv_gzipRoundTrip() throws IOException {
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        paymentReportService.exportCsv(null, dartId, latest.minusYears(1), latest.plusDays(1), plain);
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        // As PaymentController does for gzip=true
+        GZIPOutputStream gzip = new GZIPOutputStream(compressed, 8192);
+        paymentReportService.exportCsv(null, dartId, latest.minusYears(1), latest.plusDays(1), gzip);
+        gzip.finish();
+
+        byte[] decompressed;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+            decompressed = in.readAllBytes();
+        }
+        assertArrayEquals(plain.toByteArray(), decompressed);
+        assertTrue(compressed.size() < plain.size() / 2);
+    }
+
+    /** Keeps everything written, plus the flush count and the largest single write. */
+    private static final class RecordingStream extends OutputStream {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private int flushes;
+        private int largestWrite;
+
+        @Override
+        public void write(int b) {
+            bytes.write(b);
+            largestWrite = Math.max(largestWrite, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes.write(b, off, len);
+            largestWrite = Math.max(largestWrite, len);
+        }
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+}
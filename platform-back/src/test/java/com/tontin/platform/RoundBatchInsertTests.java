@@ -0,0 +1,72 @@
+package com.tontin.platform;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.tontin.platform.domain.enums.dart.DartPermission;
+import com.tontin.platform.dto.round.request.CreateRoundsRequest;
+import com.tontin.platform.service.RoundService;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Generates the rounds of a large dart and counts the JDBC statements Hibernate
+ * prepares: with batching and ordered inserts the whole schedule goes out in one
+ * batched INSERT instead of one INSERT (plus a lazy user load) per member.
+ */
+@SpringBootTest(
+    properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "app.scheduling.enabled=false",
+    }
+)
+class RoundBatchInsertTests {
+
+    private static final int MEMBERS = 30;
+
+    @Autowired
+    private RoundService roundService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void createRoundsForDart_insertsRoundsInBatches() {
+        UUID dartId = seedStartedDart();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        roundService.createRoundsForDart(new CreateRoundsRequest(dartId));
+
+        assertEquals(MEMBERS, statistics.getEntityInsertCount());
+        // Dart with its members, existing round count, one batched INSERT, current round update
+        assertEquals(
+            4,
+            statistics.getPrepareStatementCount(),
+            () -> "Expected batched inserts, got " + statistics.getPrepareStatementCount() + " statements"
+        );
+        assertEquals(
+            MEMBERS,
+            jdbcTemplate.queryForObject("SELECT count(*) FROM rounds WHERE dart_id = ?", Integer.class, dartId)
+        );
+    }
+
+    private UUID seedStartedDart() {
+        LocalDateTime now = LocalDateTime.now();
+        UUID dartId = TestSeeds.dart(jdbcTemplate, "batch", now, now);
+        for (int i = 0; i < MEMBERS; i++) {
+            UUID userId = TestSeeds.user(jdbcTemplate, "batch", now);
+            TestSeeds.member(jdbcTemplate, dartId, userId, DartPermission.MEMBER, now);
+        }
+        return dartId;
+    }
+}
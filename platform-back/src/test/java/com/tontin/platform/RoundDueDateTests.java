@@ -0,0 +1,127 @@
+package com.tontin.platform;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tontin.platform.domain.enums.dart.DartPermission;
+import com.tontin.platform.domain.enums.payment.PaymentStatus;
+import com.tontin.platform.service.RoundDueDateService;
+import com.tontin.platform.service.RoundDueDateService.TickResult;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Runs due-date ticks over one dart with an overdue round, a round inside its payment
+ * window and a later round, and checks the notifications, the stages and the lease.
+ */
+@SpringBootTest(properties = { "app.scheduling.enabled=false", "rounds.payment-window.open-days=5" })
+class RoundDueDateTests {
+
+    @Autowired
+    private RoundDueDateService roundDueDateService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void tick_remindsFlagsOverdueAndRunsOnce() {
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> users = new ArrayList<>();
+        UUID dartId = seedDart(users, now);
+        UUID organizer = users.get(0);
+        UUID paidPayer = users.get(1);
+        UUID latePayer = users.get(2);
+
+        TickResult first = roundDueDateService.tick();
+
+        assertTrue(first.ran());
+        // Round 1 (3 days late, recipient 0, payer 1 paid): alert to payer 2, warning to the organizer
+        assertEquals(1, notifications(latePayer, "alert"));
+        assertEquals(1, notifications(organizer, "warning"));
+        assertEquals(0, notifications(paidPayer, "alert"));
+        // Round 2 (due in 2 days, recipient 1): reminders to users 0 and 2
+        assertEquals(1, notifications(organizer, "payment_due"));
+        assertEquals(1, notifications(latePayer, "payment_due"));
+        assertEquals(0, notifications(paidPayer, "payment_due"));
+        assertEquals("OVERDUE", stage(dartId, 1));
+        assertEquals("REMINDED", stage(dartId, 2));
+        assertEquals("SCHEDULED", stage(dartId, 3));
+
+        // Nothing is sent twice
+        TickResult second = roundDueDateService.tick();
+        assertEquals(0, second.notifications());
+        assertEquals(1, notifications(latePayer, "alert"));
+    }
+
+    @Test
+    void tick_skipsWhileAnotherInstanceHoldsTheLease() {
+        jdbcTemplate.update(
+            "UPDATE scheduler_locks SET locked_by = 'other-node', locked_until = ? WHERE name = 'round-due-dates'",
+            LocalDateTime.now().plusHours(1)
+        );
+        try {
+            assertFalse(roundDueDateService.tick().ran());
+        } finally {
+            jdbcTemplate.update(
+                "UPDATE scheduler_locks SET locked_by = NULL, locked_until = ? WHERE name = 'round-due-dates'",
+                LocalDateTime.now().minusSeconds(1)
+            );
+        }
+    }
+
+    private int notifications(UUID userId, String type) {
+        return jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM notifications WHERE user_id = ? AND type = ?",
+            Integer.class,
+            userId,
+            type
+        );
+    }
+
+    private String stage(UUID dartId, int number) {
+        return jdbcTemplate.queryForObject(
+            "SELECT due_stage FROM rounds WHERE dart_id = ? AND round_number = ?",
+            String.class,
+            dartId,
+            number
+        );
+    }
+
+    /** Three members (0 is the organizer), rounds due 3 days ago, in 2 days and in 30 days. */
+    private UUID seedDart(List<UUID> users, LocalDateTime now) {
+        UUID dartId = TestSeeds.dart(jdbcTemplate, "due", now.minusMonths(1), now);
+        List<UUID> members = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            UUID userId = TestSeeds.user(jdbcTemplate, "due", now);
+            DartPermission permission = i == 0 ? DartPermission.ORGANIZER : DartPermission.MEMBER;
+            users.add(userId);
+            members.add(TestSeeds.member(jdbcTemplate, dartId, userId, permission, now));
+        }
+        LocalDateTime[] dates = { now.minusDays(3), now.plusDays(2), now.plusDays(30) };
+        UUID firstRound = null;
+        for (int number = 1; number <= 3; number++) {
+            UUID roundId = TestSeeds.round(
+                jdbcTemplate,
+                dartId,
+                number,
+                dates[number - 1],
+                300,
+                members.get(number - 1),
+                2,
+                now
+            );
+            if (number == 1) {
+                firstRound = roundId;
+            }
+        }
+        TestSeeds.payment(jdbcTemplate, firstRound, members.get(1), PaymentStatus.PAYED, null, now);
+        return dartId;
+    }
+}
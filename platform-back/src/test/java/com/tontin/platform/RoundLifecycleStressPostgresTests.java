@@ -0,0 +1,25 @@
+package com.tontin.platform;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * {@link RoundLifecycleStressTests} on PostgreSQL, where the dart row lock and the
+ * per-round paid counter run against real row-level locking.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RoundLifecycleStressPostgresTests extends RoundLifecycleStressTests {
+
+    @Container
+    private static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+}
@@ -0,0 +1,192 @@
+package com.tontin.platform;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.tontin.platform.config.CustomUserDetails;
+import com.tontin.platform.domain.enums.dart.DartPermission;
+import com.tontin.platform.domain.enums.payment.PaymentStatus;
+import com.tontin.platform.domain.enums.user.UserRole;
+import com.tontin.platform.domain.enums.user.UserStatus;
+import com.tontin.platform.service.PaymentService;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Fires every payment of one round at the same time, each one twice (the Stripe webhook
+ * and the payer's client confirmation racing), and checks that the round is counted and
+ * closed exactly once without any call failing. Runs on the H2 test database;
+ * {@link RoundLifecycleStressPostgresTests} repeats it on PostgreSQL.
+ */
+@SpringBootTest
+class RoundLifecycleStressTests {
+
+    private static final int PAYERS = 24;
+
+    @DynamicPropertySource
+    static void pool(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> "20");
+        registry.add("app.scheduling.enabled", () -> "false");
+    }
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void concurrentPaymentsCloseRoundOnce() throws Exception {
+        String run = UUID.randomUUID().toString();
+        SeededRound seeded = seedDart(run);
+        double conflictsBefore = meterRegistry.counter("round.transition.conflicts").count();
+
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> calls = new ArrayList<>();
+        for (int i = 0; i < PAYERS; i++) {
+            String intentId = "pi_" + run + "_" + i;
+            UUID paymentId = seeded.paymentIds().get(i);
+            UUID payerId = seeded.payerIds().get(i);
+            calls.add(pool.submit(() -> {
+                start.await();
+                paymentService.markPaymentSucceeded(intentId);
+                return null;
+            }));
+            calls.add(pool.submit(() -> {
+                start.await();
+                confirmAs(payerId, paymentId);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> call : calls) {
+            call.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        UUID dartId = seeded.dartId();
+        assertEquals(
+            PAYERS,
+            jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM payments p JOIN rounds r ON r.id = p.round_id " +
+                "WHERE r.dart_id = ? AND p.payment_status = 'PAYED'",
+                Integer.class,
+                dartId
+            )
+        );
+        assertEquals(
+            "PAYED",
+            jdbcTemplate.queryForObject(
+                "SELECT status FROM rounds WHERE dart_id = ? AND round_number = 1", String.class, dartId
+            )
+        );
+        assertEquals(
+            PAYERS,
+            jdbcTemplate.queryForObject(
+                "SELECT paid_count FROM rounds WHERE dart_id = ? AND round_number = 1", Integer.class, dartId
+            )
+        );
+        assertEquals(
+            2,
+            jdbcTemplate.queryForObject(
+                "SELECT r.round_number FROM darts d JOIN rounds r ON r.id = d.current_round_id WHERE d.id = ?",
+                Integer.class,
+                dartId
+            )
+        );
+        assertEquals(
+            1,
+            jdbcTemplate.queryForObject(
+                "SELECT entry_count FROM payment_daily_totals WHERE dart_id = ? AND kind = 'PAYOUT'",
+                Integer.class,
+                dartId
+            )
+        );
+        // Same-dart transitions queue on the engine's locks instead of conflicting
+        assertEquals(conflictsBefore, meterRegistry.counter("round.transition.conflicts").count());
+    }
+
+    /** Confirms the payment from the client side, authenticated as its payer. */
+    private void confirmAs(UUID userId, UUID paymentId) {
+        CustomUserDetails payer = CustomUserDetails.fromClaims(
+            userId,
+            userId + "@mail.com",
+            UserRole.ROLE_CLIENT,
+            UserStatus.ACTIVE
+        );
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(payer, null, payer.getAuthorities())
+        );
+        try {
+            paymentService.confirmPaymentById(paymentId);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private record SeededRound(UUID dartId, List<UUID> paymentIds, List<UUID> payerIds) {}
+
+    /** A dart of PAYERS + 1 members: round 1 (current) with one PENDING payment per payer, round 2. */
+    private SeededRound seedDart(String run) {
+        LocalDateTime now = LocalDateTime.now();
+        UUID dartId = TestSeeds.dart(jdbcTemplate, "stress", now, now);
+        List<UUID> users = new ArrayList<>();
+        List<UUID> members = new ArrayList<>();
+        for (int i = 0; i <= PAYERS; i++) {
+            UUID userId = TestSeeds.user(jdbcTemplate, "stress", now);
+            users.add(userId);
+            members.add(TestSeeds.member(jdbcTemplate, dartId, userId, DartPermission.MEMBER, now));
+        }
+        UUID firstRound = null;
+        for (int number = 1; number <= 2; number++) {
+            UUID roundId = TestSeeds.round(
+                jdbcTemplate,
+                dartId,
+                number,
+                now,
+                100.0 * (PAYERS + 1),
+                members.get(number - 1),
+                PAYERS,
+                now
+            );
+            if (number == 1) {
+                firstRound = roundId;
+            }
+        }
+        jdbcTemplate.update("UPDATE darts SET current_round_id = ? WHERE id = ?", firstRound, dartId);
+        // Member 0 receives round 1; every other member pays it
+        List<UUID> payments = new ArrayList<>();
+        for (int i = 1; i <= PAYERS; i++) {
+            payments.add(
+                TestSeeds.payment(
+                    jdbcTemplate,
+                    firstRound,
+                    members.get(i),
+                    PaymentStatus.PENDING,
+                    "pi_" + run + "_" + (i - 1),
+                    now
+                )
+            );
+        }
+        return new SeededRound(dartId, payments, users.subList(1, users.size()));
+    }
+}
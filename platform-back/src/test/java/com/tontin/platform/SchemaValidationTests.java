@@ -0,0 +1,31 @@
+package com.tontin.platform;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Boots the application on an empty database: Flyway builds the schema from the
+ * migrations and Hibernate must accept it in {@code validate} mode, so an entity change
+ * without a matching migration fails here instead of at deploy time. Runs on the H2
+ * test database; {@link SchemaValidationPostgresTests} repeats it on PostgreSQL.
+ */
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+class SchemaValidationTests {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void migrationsMatchEntities() {
+        Integer failed = jdbcTemplate.queryForObject(
+            // Quoted: Flyway creates the table in lower case on H2 as well
+            "SELECT count(*) FROM \"flyway_schema_history\" WHERE NOT \"success\"",
+            Integer.class
+        );
+        assertEquals(0, failed);
+    }
+}
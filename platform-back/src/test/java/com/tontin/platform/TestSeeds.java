@@ -0,0 +1,158 @@
+package com.tontin.platform;
+
+import com.tontin.platform.domain.enums.dart.DartPermission;
+import com.tontin.platform.domain.enums.dart.DartStatus;
+import com.tontin.platform.domain.enums.member.MemberStatus;
+import com.tontin.platform.domain.enums.payment.PaymentStatus;
+import com.tontin.platform.domain.enums.round.OrderMethod;
+import com.tontin.platform.domain.enums.round.RoundStatus;
+import com.tontin.platform.domain.enums.user.UserRole;
+import com.tontin.platform.domain.enums.user.UserStatus;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Raw-JDBC seeding for the integration tests that need rows faster or in states the
+ * services would not create. Enum columns are bound from the enums themselves, so a
+ * seed cannot hold a value the entity mapping does not know.
+ */
+final class TestSeeds {
+
+    private TestSeeds() {}
+
+    /** An ACTIVE, monthly, random-once dart. */
+    static UUID dart(JdbcTemplate jdbcTemplate, String name, LocalDateTime startDate, LocalDateTime now) {
+        UUID dartId = UUID.randomUUID();
+        jdbcTemplate.update(
+            "INSERT INTO darts (id, created_at, version, name, start_date, monthly_contribution, order_method, " +
+            "status, payment_frequency) VALUES (?, ?, 0, ?, ?, 100, ?, ?, 'MONTHLY')",
+            dartId,
+            now,
+            name,
+            startDate,
+            OrderMethod.RANDOM_ONCE.name(),
+            DartStatus.ACTIVE.name()
+        );
+        return dartId;
+    }
+
+    /** An ACTIVE, confirmed client whose user name starts with {@code prefix}. */
+    static UUID user(JdbcTemplate jdbcTemplate, String prefix, LocalDateTime now) {
+        UUID userId = UUID.randomUUID();
+        jdbcTemplate.update(
+            "INSERT INTO users (id, created_at, version, user_name, email, password, creation_date, " +
+            "email_confirmed, account_access_file_count, role, status, points) " +
+            "VALUES (?, ?, 0, ?, ?, 'x', '2024-01-01', true, 0, ?, ?, 0)",
+            userId,
+            now,
+            prefix + "-" + userId,
+            userId + "@mail.com",
+            UserRole.ROLE_CLIENT.name(),
+            UserStatus.ACTIVE.name()
+        );
+        return userId;
+    }
+
+    /** An ACTIVE membership of {@code userId} in {@code dartId}. */
+    static UUID member(
+        JdbcTemplate jdbcTemplate,
+        UUID dartId,
+        UUID userId,
+        DartPermission permission,
+        LocalDateTime now
+    ) {
+        UUID memberId = UUID.randomUUID();
+        jdbcTemplate.update(
+            "INSERT INTO members (id, created_at, version, permission, status, joined_at, dart_id, user_id) " +
+            "VALUES (?, ?, 0, ?, ?, ?, ?, ?)",
+            memberId,
+            now,
+            permission.name(),
+            MemberStatus.ACTIVE.name(),
+            now,
+            dartId,
+            userId
+        );
+        return memberId;
+    }
+
+    /** An unpaid round that nobody has paid yet. */
+    static UUID round(
+        JdbcTemplate jdbcTemplate,
+        UUID dartId,
+        int number,
+        LocalDateTime roundDate,
+        double amount,
+        UUID recipientMemberId,
+        int expectedPayers,
+        LocalDateTime now
+    ) {
+        UUID roundId = UUID.randomUUID();
+        jdbcTemplate.update(
+            "INSERT INTO rounds (id, created_at, version, round_number, status, round_date, amount, dart_id, " +
+            "recipient_member_id, paid_count, expected_payer_count) VALUES (?, ?, 0, ?, ?, ?, ?, ?, ?, 0, ?)",
+            roundId,
+            now,
+            number,
+            RoundStatus.INPAYED.name(),
+            roundDate,
+            amount,
+            dartId,
+            recipientMemberId,
+            expectedPayers
+        );
+        return roundId;
+    }
+
+    /** A 100 Stripe payment of {@code payerMemberId}; {@code intentId} may be null. */
+    static UUID payment(
+        JdbcTemplate jdbcTemplate,
+        UUID roundId,
+        UUID payerMemberId,
+        PaymentStatus status,
+        String intentId,
+        LocalDateTime now
+    ) {
+        UUID paymentId = UUID.randomUUID();
+        jdbcTemplate.update(
+            "INSERT INTO payments (id, created_at, version, amount, method, payment_date, payment_status, " +
+            "round_id, payer_member_id, stripe_payment_intent_id) VALUES (?, ?, 0, 100, 'STRIPE', ?, ?, ?, ?, ?)",
+            paymentId,
+            now,
+            now,
+            status.name(),
+            roundId,
+            payerMemberId,
+            intentId
+        );
+        return paymentId;
+    }
+
+    /**
+     * {@code count} PAYED payments of {@code payerMemberId} in one JDBC batch, dated one
+     * minute apart going back from {@code latest}.
+     */
+    static void payedPayments(
+        JdbcTemplate jdbcTemplate,
+        UUID roundId,
+        UUID payerMemberId,
+        int count,
+        LocalDateTime latest
+    ) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime date = latest.minusMinutes(i);
+            rows.add(
+                new Object[] { UUID.randomUUID(), date, date, PaymentStatus.PAYED.name(), roundId, payerMemberId }
+            );
+        }
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO payments (id, created_at, version, amount, method, payment_date, payment_status, " +
+            "round_id, payer_member_id) VALUES (?, ?, 0, 100, 'STRIPE', ?, ?, ?, ?)",
+            rows
+        );
+    }
+}
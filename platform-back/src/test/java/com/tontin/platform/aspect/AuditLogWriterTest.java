@@ -0,0 +1,124 @@
+package com.tontin.platform.aspect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+
+import com.tontin.platform.domain.Loggin;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+@ExtendWith(MockitoExtension.class)
+class AuditLogWriterTest {
+
+    private static final int CAPACITY = 5;
+    private static final int BATCH_SIZE = 3;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    /** Copies of each batch passed to batchUpdate (the writer reuses its list). */
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            Collection<Loggin> batch = invocation.getArgument(1);
+            batches.add(batch.stream().map(Loggin::getRequestId).toList());
+            return new int[0][];
+        })
+            .when(jdbcTemplate)
+            .batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    void append_dropsAndCountsRecordsBeyondCapacity() {
+        // Flusher not started: nothing leaves the queue until stop()
+        AuditLogWriter writer = new AuditLogWriter(jdbcTemplate, meterRegistry, CAPACITY, BATCH_SIZE, 10, "drop");
+
+        for (int i = 0; i < CAPACITY + 3; i++) {
+            writer.append(entry("req-" + i));
+        }
+        assertEquals(3.0, meterRegistry.counter("audit.log.dropped").count());
+
+        writer.stop();
+
+        assertEquals(List.of(List.of("req-0", "req-1", "req-2"), List.of("req-3", "req-4")), batches);
+        assertEquals(5.0, meterRegistry.counter("audit.log.written").count());
+    }
+
+    @Test
+    void flusher_writesEveryQueuedRecord() {
+        AuditLogWriter writer = new AuditLogWriter(jdbcTemplate, meterRegistry, 100, BATCH_SIZE, 10, "drop");
+        writer.start();
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            writer.append(entry("req-" + i));
+            expected.add("req-" + i);
+        }
+        writer.stop();
+
+        assertEquals(expected, batches.stream().flatMap(List::stream).toList());
+        assertEquals(0.0, meterRegistry.counter("audit.log.dropped").count());
+        assertEquals(20.0, meterRegistry.counter("audit.log.written").count());
+    }
+
+    @Test
+    void blockMode_waitsForSpaceInsteadOfDropping() {
+        AuditLogWriter writer = new AuditLogWriter(jdbcTemplate, meterRegistry, 2, BATCH_SIZE, 10, "block");
+        writer.start();
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            writer.append(entry("req-" + i));
+            expected.add("req-" + i);
+        }
+        writer.stop();
+
+        assertEquals(expected, batches.stream().flatMap(List::stream).toList());
+        assertEquals(0.0, meterRegistry.counter("audit.log.dropped").count());
+    }
+
+    @Test
+    void blockMode_dropsOnceStopped() {
+        AuditLogWriter writer = new AuditLogWriter(jdbcTemplate, meterRegistry, 1, BATCH_SIZE, 10, "block");
+        writer.start();
+        writer.append(entry("req-0"));
+        writer.stop();
+
+        // Writer stopped: once the queue is full, append must return instead of waiting forever
+        writer.append(entry("req-1"));
+        writer.append(entry("req-2"));
+
+        assertEquals(List.of(List.of("req-0")), batches);
+        assertEquals(1.0, meterRegistry.counter("audit.log.dropped").count());
+    }
+
+    private static Loggin entry(String requestId) {
+        return Loggin.builder()
+            .timestamp(LocalDateTime.now())
+            .service("platform")
+            .env("test")
+            .requestId(requestId)
+            .event("LOGIN")
+            .path("/api/v1/auth/login")
+            .status("SUCCESS")
+            .build();
+    }
+}
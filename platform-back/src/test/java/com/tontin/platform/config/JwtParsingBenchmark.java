@@ -0,0 +1,88 @@
+package com.tontin.platform.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.security.Key;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Cost of authenticating one request's access token: the former path, which decoded
+ * the secret and built a new parser for each of the three claim reads of
+ * {@link JwtAuthenticationFilter}, against the single {@link JwtService#parseToken}
+ * with the parser built at startup.
+ *
+ * <p>Not run by {@code mvn test}. After {@code mvn test-compile}, run {@link #main} from
+ * the IDE, or {@code java -cp target/test-classes:target/classes:<test classpath>
+ * com.tontin.platform.config.JwtParsingBenchmark}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtParsingBenchmark {
+
+    private static final String SECRET = "test-jwt-secret-for-ci-only-min-32-chars-ok-123456";
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtService, "accessTokenExpiration", 900_000L);
+        ReflectionTestUtils.setField(jwtService, "refreshTokenExpiration", 2_592_000_000L);
+        ReflectionTestUtils.setField(jwtService, "issuer", "tontin-platform");
+        jwtService.init();
+        token = jwtService.generateToken(
+            User.withUsername("bench@mail.com").password("ignored").authorities(List.of()).build()
+        );
+    }
+
+    /** One claim read as it was done before: key decoded and parser built per call. */
+    @Benchmark
+    public Claims legacySingleParse() {
+        return legacyParse(token);
+    }
+
+    /** The former filter: extractUsername, then isTokenValid (username and expiration). */
+    @Benchmark
+    public boolean legacyFilterPath() {
+        String username = legacyParse(token).getSubject();
+        return username.equals(legacyParse(token).getSubject())
+            && legacyParse(token).getExpiration().getTime() > System.currentTimeMillis();
+    }
+
+    @Benchmark
+    public VerifiedJwt cachedParseToken() {
+        return jwtService.parseToken(token);
+    }
+
+    private Claims legacyParse(String jwt) {
+        Key key = Keys.hmacShaKeyFor(jwtService.ensureMinHs256KeyLength(jwtService.decodeSecretKey(SECRET)));
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(jwt).getBody();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JwtParsingBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,110 @@
+package com.tontin.platform.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tontin.platform.domain.enums.user.UserRole;
+import com.tontin.platform.domain.enums.user.UserStatus;
+import io.jsonwebtoken.JwtException;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JwtServiceTest {
+
+    private JwtService jwtService;
+    private UserDetails userDetails;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = newService("test-jwt-secret-for-ci-only-min-32-chars-ok-123456");
+        userDetails = User.withUsername("test@mail.com")
+            .password("ignored")
+            .authorities(List.of())
+            .build();
+    }
+
+    private static JwtService newService(String secret) {
+        JwtService service = new JwtService();
+        ReflectionTestUtils.setField(service, "secretKey", secret);
+        ReflectionTestUtils.setField(service, "accessTokenExpiration", 900_000L);
+        ReflectionTestUtils.setField(service, "refreshTokenExpiration", 2_592_000_000L);
+        ReflectionTestUtils.setField(service, "issuer", "tontin-platform");
+        service.init();
+        return service;
+    }
+
+    @Test
+    void parseToken_shouldExposeSubjectTypeAndExpiration() {
+        String token = jwtService.generateToken(userDetails);
+
+        VerifiedJwt verified = jwtService.parseToken(token);
+
+        assertEquals("test@mail.com", verified.username());
+        assertTrue(verified.isAccessToken());
+        assertFalse(verified.isExpired());
+        assertTrue(jwtService.isTokenValid(verified, userDetails));
+    }
+
+    @Test
+    void isRefreshTokenValid_shouldRejectAccessTokens() {
+        String access = jwtService.generateToken(userDetails);
+        String refresh = jwtService.generateRefreshToken(userDetails);
+
+        assertFalse(jwtService.isRefreshTokenValid(access, userDetails));
+        assertTrue(jwtService.isRefreshTokenValid(refresh, userDetails));
+    }
+
+    @Test
+    void parseToken_shouldRejectTokensSignedWithAnotherKey() {
+        JwtService other = newService("another-secret-that-is-also-long-enough-0987654321");
+        String foreign = other.generateToken(userDetails);
+
+        assertThrows(JwtException.class, () -> jwtService.parseToken(foreign));
+    }
+
+    @Test
+    void toPrincipal_shouldRebuildPrincipalFromAccessTokenClaims() {
+        com.tontin.platform.domain.User user = com.tontin.platform.domain.User.builder()
+            .email("test@mail.com")
+            .role(UserRole.ROLE_ADMIN)
+            .status(UserStatus.ACTIVE)
+            .build();
+        user.setId(UUID.randomUUID());
+        CustomUserDetails details = new CustomUserDetails(
+            user.getId(),
+            user.getEmail(),
+            "hash",
+            user,
+            List.of()
+        );
+
+        VerifiedJwt access = jwtService.parseToken(jwtService.generateToken(details));
+        CustomUserDetails principal = jwtService.toPrincipal(access);
+
+        assertNotNull(principal);
+        assertEquals(user.getId(), principal.getId());
+        assertEquals("test@mail.com", principal.getEmail());
+        assertEquals("ROLE_ADMIN", principal.getAuthorities().iterator().next().getAuthority());
+        assertTrue(principal.isEnabled());
+
+        VerifiedJwt refresh = jwtService.parseToken(jwtService.generateRefreshToken(details));
+        assertNull(jwtService.toPrincipal(refresh));
+    }
+
+    @Test
+    void init_shouldFailFastOnEmptySecret() {
+        JwtService service = new JwtService();
+        ReflectionTestUtils.setField(service, "secretKey", " ");
+
+        assertThrows(IllegalStateException.class, service::init);
+    }
+}
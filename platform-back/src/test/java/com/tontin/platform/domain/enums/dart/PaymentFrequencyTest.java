@@ -0,0 +1,46 @@
+package com.tontin.platform.domain.enums.dart;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PaymentFrequencyTest {
+
+    private static final LocalDateTime JAN_31 = LocalDateTime.of(2026, 1, 31, 10, 0);
+
+    @Test
+    void monthlyCalendar_clampsShortMonthsWithoutDrift() {
+        List<LocalDateTime> calendar = PaymentFrequency.MONTHLY.calendar(JAN_31, 3);
+
+        assertEquals(LocalDateTime.of(2026, 2, 28, 10, 0), calendar.get(0));
+        assertEquals(LocalDateTime.of(2026, 3, 31, 10, 0), calendar.get(1));
+        assertEquals(LocalDateTime.of(2026, 4, 30, 10, 0), calendar.get(2));
+    }
+
+    @Test
+    void quarterlyAndWeeklyDueDates() {
+        assertEquals(LocalDateTime.of(2026, 7, 31, 10, 0), PaymentFrequency.QUARTERLY.dueDate(JAN_31, 2));
+        assertEquals(LocalDateTime.of(2026, 2, 14, 10, 0), PaymentFrequency.WEEKLY.dueDate(JAN_31, 2));
+        assertEquals(LocalDateTime.of(2026, 2, 28, 10, 0), PaymentFrequency.BI_WEEKLY.dueDate(JAN_31, 2));
+    }
+
+    @Test
+    void dueDate_rejectsRoundZero() {
+        assertThrows(IllegalArgumentException.class, () -> PaymentFrequency.WEEKLY.dueDate(JAN_31, 0));
+    }
+
+    @Test
+    void fromApiValue_acceptsLegacySpellings() {
+        assertEquals(PaymentFrequency.MONTHLY, PaymentFrequency.fromApiValue("MONTH"));
+        assertEquals(PaymentFrequency.MONTHLY, PaymentFrequency.fromApiValue("monthly"));
+        assertEquals(PaymentFrequency.BI_WEEKLY, PaymentFrequency.fromApiValue("bi-weekly"));
+        assertEquals(PaymentFrequency.BI_WEEKLY, PaymentFrequency.fromApiValue("BIWEEKLY"));
+        assertEquals(PaymentFrequency.BI_WEEKLY, PaymentFrequency.fromApiValue("BI_WEEKLY"));
+        assertEquals("MONTH", PaymentFrequency.MONTHLY.getApiValue());
+        assertNull(PaymentFrequency.fromApiValue("YEARLY"));
+    }
+}
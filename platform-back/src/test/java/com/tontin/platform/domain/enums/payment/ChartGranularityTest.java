@@ -0,0 +1,52 @@
+package com.tontin.platform.domain.enums.payment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+class ChartGranularityTest {
+
+    @Test
+    void weekLabels_useIsoWeekBasedYearAroundNewYear() {
+        // Thursday 1 Jan 2026 is in week 1 of 2026, which starts on Monday 29 Dec 2025
+        LocalDate week = ChartGranularity.WEEK.bucketStart(LocalDate.of(2026, 1, 1));
+        assertEquals(LocalDate.of(2025, 12, 29), week);
+        assertEquals("W01 2026", ChartGranularity.WEEK.label(week));
+
+        // Friday 1 Jan 2021 is still in week 53 of 2020
+        LocalDate lastWeek = ChartGranularity.WEEK.bucketStart(LocalDate.of(2021, 1, 1));
+        assertEquals(LocalDate.of(2020, 12, 28), lastWeek);
+        assertEquals("W53 2020", ChartGranularity.WEEK.label(lastWeek));
+        assertEquals("W01 2021", ChartGranularity.WEEK.label(ChartGranularity.WEEK.next(lastWeek)));
+    }
+
+    @Test
+    void quarterBuckets_startOnTheQuarterAndRollOverTheYear() {
+        assertEquals(LocalDate.of(2025, 4, 1), ChartGranularity.QUARTER.bucketStart(LocalDate.of(2025, 5, 17)));
+        assertEquals(LocalDate.of(2025, 1, 1), ChartGranularity.QUARTER.bucketStart(LocalDate.of(2025, 3, 31)));
+
+        LocalDate q4 = ChartGranularity.QUARTER.bucketStart(LocalDate.of(2025, 12, 31));
+        assertEquals(LocalDate.of(2025, 10, 1), q4);
+        assertEquals("Q4 2025", ChartGranularity.QUARTER.label(q4));
+        assertEquals(LocalDate.of(2026, 1, 1), ChartGranularity.QUARTER.next(q4));
+        assertEquals("Q1 2026", ChartGranularity.QUARTER.label(ChartGranularity.QUARTER.next(q4)));
+    }
+
+    @Test
+    void dayAndMonthLabels() {
+        assertEquals("2025-01-06", ChartGranularity.DAY.label(LocalDate.of(2025, 1, 6)));
+        assertEquals(LocalDate.of(2025, 2, 1), ChartGranularity.MONTH.bucketStart(LocalDate.of(2025, 2, 28)));
+        assertEquals("Feb 2025", ChartGranularity.MONTH.label(LocalDate.of(2025, 2, 1)));
+    }
+
+    @Test
+    void from_defaultsToMonthAndIgnoresCase() {
+        assertEquals(ChartGranularity.MONTH, ChartGranularity.from(null));
+        assertEquals(ChartGranularity.MONTH, ChartGranularity.from(" "));
+        assertEquals(ChartGranularity.WEEK, ChartGranularity.from("week"));
+        assertEquals(ChartGranularity.QUARTER, ChartGranularity.from(" Quarter "));
+        assertThrows(IllegalArgumentException.class, () -> ChartGranularity.from("year"));
+    }
+}
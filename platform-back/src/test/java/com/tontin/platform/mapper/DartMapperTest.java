@@ -0,0 +1,81 @@
+package com.tontin.platform.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.tontin.platform.domain.Dart;
+import com.tontin.platform.domain.Member;
+import com.tontin.platform.domain.User;
+import com.tontin.platform.domain.enums.dart.DartPermission;
+import com.tontin.platform.domain.enums.member.MemberStatus;
+import com.tontin.platform.dto.dart.response.DartResponse;
+import com.tontin.platform.repository.projection.DartMemberRow;
+import com.tontin.platform.repository.projection.DartRoundStats;
+import com.tontin.platform.util.ImageUtils;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class DartMapperTest {
+
+    private final DartMapper dartMapper = new DartMapperImpl();
+
+    @Test
+    void entityAndListingPathsMapTheSameWay() {
+        LocalDateTime nextPayout = LocalDateTime.of(2026, 11, 1, 0, 0);
+        User organizer = user("alice", "thumb-a");
+        User member = user("bob", null);
+        Dart dart = Dart.builder()
+            .name("Family")
+            .monthlyContribution(BigDecimal.valueOf(100))
+            .build();
+        dart.setId(UUID.randomUUID());
+        dart.setPicture("orig", null, null);
+        dart.addMember(member(organizer, DartPermission.ORGANIZER, MemberStatus.ACTIVE));
+        dart.addMember(member(member, DartPermission.MEMBER, MemberStatus.PENDING));
+
+        DartResponse fromEntity = dartMapper.toDtoWithContext(dart, member.getId(), 2, 5, nextPayout);
+        DartResponse fromRows = dartMapper.toListItem(
+            dart,
+            member.getId(),
+            new DartRoundStats(dart.getId(), 2L, 5L, nextPayout),
+            List.of(
+                row(dart, organizer, "thumb-a", DartPermission.ORGANIZER, MemberStatus.ACTIVE),
+                row(dart, member, null, DartPermission.MEMBER, MemberStatus.PENDING)
+            )
+        );
+
+        // No picture variants, so the detail and list images are the same original
+        assertEquals(fromEntity, fromRows);
+        assertEquals(ImageUtils.url("orig"), fromEntity.image());
+        assertEquals(organizer.getId(), fromEntity.organizerId());
+        assertEquals(ImageUtils.url("thumb-a"), fromEntity.organizerAvatar());
+        assertEquals("PENDING", fromEntity.userMemberStatus());
+        assertEquals(2, fromEntity.memberCount());
+        assertEquals(5, fromEntity.totalCycles());
+        assertFalse(fromEntity.isOrganizer());
+    }
+
+    private static User user(String name, String thumbnailHash) {
+        User user = User.builder().userName(name).build();
+        user.setId(UUID.randomUUID());
+        user.setPicture(null, thumbnailHash, null);
+        return user;
+    }
+
+    private static DartMemberRow row(
+        Dart dart,
+        User user,
+        String pictureHash,
+        DartPermission permission,
+        MemberStatus status
+    ) {
+        return new DartMemberRow(dart.getId(), user.getId(), user.getUserName(), pictureHash, permission, status);
+    }
+
+    private static Member member(User user, DartPermission permission, MemberStatus status) {
+        return Member.builder().user(user).permission(permission).status(status).build();
+    }
+}
@@ -0,0 +1,212 @@
+package com.tontin.platform.repository;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * Guards the indexes added in {@code V2__hot_path_indexes.sql}: the schema is built
+ * by the Flyway migrations on a real PostgreSQL, seeded with enough rows for the
+ * planner to prefer an index, and each hot lookup must be planned without a
+ * sequential scan of its table.
+ *
+ * <p>The SQL mirrors what Hibernate generates for the repository methods named on
+ * each test. Skipped when Docker is not available.</p>
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class HotPathQueryPlanTest {
+
+    @Container
+    private static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:16-alpine");
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        Flyway.configure()
+            .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+            .locations("classpath:db/migration", "classpath:db/vendor/postgresql")
+            .load()
+            .migrate();
+
+        connection = DriverManager.getConnection(
+            POSTGRES.getJdbcUrl(),
+            POSTGRES.getUsername(),
+            POSTGRES.getPassword()
+        );
+        try (Statement st = connection.createStatement()) {
+            // 2k users, 500 darts of 40 members, 20 rounds per dart, 20 payments per round
+            st.execute(
+                "INSERT INTO users (id, created_at, user_name, email, password, creation_date, " +
+                "email_confirmed, account_access_file_count, role, status, points) " +
+                "SELECT md5('u' || g)::uuid, now(), 'user' || g, 'user' || g || '@mail.com', 'x', " +
+                "'2024-01-01', true, 0, 'USER', 'ACTIVE', 0 FROM generate_series(0, 1999) g"
+            );
+            st.execute(
+                "INSERT INTO darts (id, created_at, name, monthly_contribution, order_method, status, " +
+                "payment_frequency) SELECT md5('d' || g)::uuid, now(), 'dart' || g, 100, 'RANDOM', " +
+                "'ACTIVE', 'MONTHLY' FROM generate_series(0, 499) g"
+            );
+            st.execute(
+                "INSERT INTO members (id, created_at, permission, status, joined_at, dart_id, user_id) " +
+                "SELECT md5('m' || g)::uuid, now(), 'MEMBER', 'ACTIVE', now(), md5('d' || (g / 40))::uuid, " +
+                "md5('u' || ((g % 40) + 40 * ((g / 40) % 50)))::uuid FROM generate_series(0, 19999) g"
+            );
+            st.execute(
+                "INSERT INTO rounds (id, created_at, round_number, status, round_date, amount, dart_id, " +
+                "recipient_member_id) SELECT md5('r' || g)::uuid, now(), g % 20 + 1, " +
+                "CASE WHEN g % 20 < 5 THEN 'PAYED' ELSE 'INPAYED' END, now(), 4000, " +
+                "md5('d' || (g / 20))::uuid, md5('m' || ((g / 20) * 40 + g % 20))::uuid " +
+                "FROM generate_series(0, 9999) g"
+            );
+            st.execute(
+                "INSERT INTO payments (id, created_at, amount, method, payment_date, payment_status, " +
+                "round_id, payer_member_id, stripe_payment_intent_id) " +
+                "SELECT md5('p' || g)::uuid, now(), 100, 'CARD', now() - (g || ' minutes')::interval, " +
+                "CASE WHEN g % 3 = 0 THEN 'PENDING' ELSE 'PAYED' END, md5('r' || (g / 20))::uuid, " +
+                "md5('m' || ((g / 400) * 40 + g % 20))::uuid, 'pi_' || g FROM generate_series(0, 199999) g"
+            );
+            st.execute(
+                "INSERT INTO notifications (id, created_at, title, status, type, user_id) " +
+                "SELECT md5('n' || g)::uuid, now() - (g || ' minutes')::interval, 'title', " +
+                "CASE WHEN g % 4 = 0 THEN 'UNREAD' ELSE 'READ' END, 'SYSTEM', md5('u' || (g % 2000))::uuid " +
+                "FROM generate_series(0, 99999) g"
+            );
+            st.execute(
+                "INSERT INTO dart_messages (id, created_at, dart_id, sender_member_id, content) " +
+                "SELECT md5('dm' || g)::uuid, now() - (g || ' minutes')::interval, md5('d' || (g % 500))::uuid, " +
+                "md5('m' || ((g % 500) * 40))::uuid, 'hello' FROM generate_series(0, 99999) g"
+            );
+            st.execute("ANALYZE");
+        }
+    }
+
+    @AfterAll
+    static void close() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    /** PaymentRepository.existsByRoundIdAndPayerIdAndPaymentStatus */
+    @Test
+    void paymentExistsForPayer_usesRoundStatusPayerIndex() throws SQLException {
+        assertIndexScan(
+            "SELECT p.id FROM payments p WHERE p.round_id = md5('r' || 42)::uuid " +
+            "AND p.payer_member_id = md5('m' || 82)::uuid AND p.payment_status = 'PAYED' FETCH FIRST 1 ROWS ONLY",
+            "payments",
+            "idx_payments_round_status_payer"
+        );
+    }
+
+    /** RoundRepository.incrementPaidCount (the NOT EXISTS check on the payer's payments) */
+    @Test
+    void otherPaidPaymentOfPayer_usesRoundStatusPayerIndex() throws SQLException {
+        assertIndexScan(
+            "SELECT 1 FROM payments p WHERE p.round_id = md5('r' || 42)::uuid " +
+            "AND p.payer_member_id = md5('m' || 82)::uuid AND p.payment_status = 'PAYED' " +
+            "AND p.id <> md5('p' || 842)::uuid",
+            "payments",
+            "idx_payments_round_status_payer"
+        );
+    }
+
+    /** PaymentRepository.findByStripePaymentIntentId (webhook) */
+    @Test
+    void findByStripeIntent_usesUniqueIndex() throws SQLException {
+        assertIndexScan(
+            "SELECT p.id FROM payments p WHERE p.stripe_payment_intent_id = 'pi_123456'",
+            "payments",
+            "uk_payments_stripe_intent"
+        );
+    }
+
+    /** PaymentRepository.findAllByPayerIdOrderByDateDesc */
+    @Test
+    void paymentsOfPayer_usesPayerDateIndex() throws SQLException {
+        assertIndexScan(
+            "SELECT p.id FROM payments p WHERE p.payer_member_id = md5('m' || 82)::uuid " +
+            "ORDER BY p.payment_date DESC",
+            "payments",
+            "idx_payments_payer_date"
+        );
+    }
+
+    /** MemberRepository.findByDartIdAndUserId */
+    @Test
+    void memberOfDart_usesDartUserIndex() throws SQLException {
+        assertIndexScan(
+            "SELECT m.id FROM members m WHERE m.dart_id = md5('d' || 7)::uuid " +
+            "AND m.user_id = md5('u' || 287)::uuid",
+            "members",
+            "uk_members_dart_user"
+        );
+    }
+
+    /** RoundRepository.findFirstByDartIdAndStatusOrderByNumberAsc (moves Dart.currentRound) */
+    @Test
+    void currentRound_usesDartStatusNumberIndex() throws SQLException {
+        assertIndexScan(
+            "SELECT r.id FROM rounds r WHERE r.dart_id = md5('d' || 7)::uuid AND r.status = 'INPAYED' " +
+            "ORDER BY r.round_number ASC FETCH FIRST 1 ROWS ONLY",
+            "rounds",
+            "idx_rounds_dart_status_number"
+        );
+    }
+
+    /** NotificationRepository.findByUser_IdAndStatusOrderByCreatedAtDesc */
+    @Test
+    void unreadNotifications_useUserStatusCreatedIndex() throws SQLException {
+        assertIndexScan(
+            "SELECT n.id FROM notifications n WHERE n.user_id = md5('u' || 12)::uuid " +
+            "AND n.status = 'UNREAD' ORDER BY n.created_at DESC OFFSET 0 ROWS FETCH FIRST 20 ROWS ONLY",
+            "notifications",
+            "idx_notifications_user_status_created"
+        );
+    }
+
+    /** DartMessageRepository.findByDartIdOrderByCreatedAtAsc */
+    @Test
+    void dartMessages_useDartCreatedIndex() throws SQLException {
+        assertIndexScan(
+            "SELECT m.id FROM dart_messages m WHERE m.dart_id = md5('d' || 7)::uuid " +
+            "ORDER BY m.created_at ASC OFFSET 0 ROWS FETCH FIRST 50 ROWS ONLY",
+            "dart_messages",
+            "idx_dart_messages_dart_created"
+        );
+    }
+
+    private static void assertIndexScan(String sql, String table, String index) throws SQLException {
+        List<String> plan = explain(sql);
+        String text = String.join("\n", plan);
+        assertFalse(
+            plan.stream().anyMatch(line -> line.contains("Seq Scan on " + table + " ")),
+            () -> "Sequential scan on " + table + ":\n" + text
+        );
+        assertTrue(text.contains(index), () -> "Expected " + index + " in plan:\n" + text);
+    }
+
+    private static List<String> explain(String sql) throws SQLException {
+        List<String> lines = new ArrayList<>();
+        try (Statement st = connection.createStatement(); ResultSet rs = st.executeQuery("EXPLAIN " + sql)) {
+            while (rs.next()) {
+                lines.add(rs.getString(1));
+            }
+        }
+        return lines;
+    }
+}
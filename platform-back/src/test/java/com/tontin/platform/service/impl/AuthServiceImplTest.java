@@ -5,18 +5,23 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.tontin.platform.config.JwtService;
 import com.tontin.platform.config.SecurityUtils;
+import com.tontin.platform.config.TokenRevocationRegistry;
+import com.tontin.platform.config.UserDetailsCache;
 import com.tontin.platform.domain.User;
 import com.tontin.platform.domain.enums.user.UserRole;
 import com.tontin.platform.domain.enums.user.UserStatus;
 import com.tontin.platform.dto.auth.register.request.RegisterRequest;
+import com.tontin.platform.dto.auth.user.UserProfileUpdateRequest;
 import com.tontin.platform.dto.auth.user.UserResponse;
 import com.tontin.platform.mapper.UserMapper;
 import com.tontin.platform.repository.UserRepository;
+import com.tontin.platform.service.ImageService;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -51,6 +56,12 @@ class AuthServiceImplTest {
     private JavaMailSender mailSender;
     @Mock
     private SecurityUtils securityUtils;
+    @Mock
+    private UserDetailsCache userDetailsCache;
+    @Mock
+    private ImageService imageService;
+    @Mock
+    private TokenRevocationRegistry tokenRevocationRegistry;
 
     private AuthServiceImpl authService;
 
@@ -63,7 +74,10 @@ class AuthServiceImplTest {
             passwordEncoder,
             userMapper,
             mailSender,
-            securityUtils
+            securityUtils,
+            userDetailsCache,
+            imageService,
+            tokenRevocationRegistry
         );
     }
 
@@ -141,4 +155,40 @@ class AuthServiceImplTest {
         assertEquals("encoded-password", saved.getPassword());
         assertEquals(0, saved.getPoints());
     }
+
+    @Test
+    void updateCurrentUserProfile_revokesTokensWhenPasswordChanges() {
+        User user = currentUser();
+        when(passwordEncoder.matches("Old-pass1@", "old-hash")).thenReturn(true);
+        when(passwordEncoder.encode("New-pass1@")).thenReturn("new-hash");
+
+        authService.updateCurrentUserProfile(new UserProfileUpdateRequest(null, "Old-pass1@", "New-pass1@", null));
+
+        assertEquals("new-hash", user.getPassword());
+        verify(tokenRevocationRegistry).revoke(user.getId());
+        verify(userDetailsCache).evict("test@mail.com");
+    }
+
+    @Test
+    void updateCurrentUserProfile_keepsTokensWhenOnlyUserNameChanges() {
+        currentUser();
+        when(userRepository.findByUserNameIgnoreCase("renamed")).thenReturn(Optional.empty());
+
+        authService.updateCurrentUserProfile(new UserProfileUpdateRequest("renamed", null, null, null));
+
+        verify(userRepository).save(any(User.class));
+        verify(tokenRevocationRegistry, never()).revoke(any());
+    }
+
+    private User currentUser() {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setEmail("test@mail.com");
+        user.setUserName("test_user");
+        user.setPassword("old-hash");
+        user.setStatus(UserStatus.ACTIVE);
+        when(securityUtils.requireCurrentUser()).thenReturn(user);
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        return user;
+    }
 }
@@ -0,0 +1,116 @@
+package com.tontin.platform.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.tontin.platform.repository.ImageRepository;
+import com.tontin.platform.service.ImageService.IngestedPicture;
+import com.tontin.platform.util.ImageUtils;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ImageServiceImplTest {
+
+    @Mock
+    private ImageRepository imageRepository;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ImageServiceImpl imageService;
+
+    @BeforeEach
+    void setUp() {
+        imageService = new ImageServiceImpl(imageRepository, jdbcTemplate);
+        ReflectionTestUtils.setField(imageService, "maxUploadBytes", 5_242_880L);
+        ReflectionTestUtils.setField(imageService, "maxPixels", 16_000_000L);
+        when(imageRepository.existsById(anyString())).thenReturn(false);
+    }
+
+    @Test
+    void ingest_storesOriginalAndBothVariants() throws IOException {
+        byte[] upload = png(800, 600);
+
+        IngestedPicture ingested = imageService.ingest(upload);
+
+        assertEquals(ImageUtils.sha256Hex(upload), ingested.originalHash());
+        assertNotEquals(ingested.thumbnailHash(), ingested.previewHash());
+        verify(jdbcTemplate).update(anyString(), eq(ingested.originalHash()), any(), eq(800), eq(600), any(), any());
+        verify(jdbcTemplate).update(anyString(), eq(ingested.thumbnailHash()), any(), eq(64), eq(48), any(), any());
+        verify(jdbcTemplate).update(anyString(), eq(ingested.previewHash()), any(), eq(256), eq(192), any(), any());
+    }
+
+    @Test
+    void ingest_skipsImagesAlreadyStored() throws IOException {
+        when(imageRepository.existsById(anyString())).thenReturn(true);
+
+        imageService.ingest(png(800, 600));
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void ingest_rejectsOversizedUpload() {
+        ReflectionTestUtils.setField(imageService, "maxUploadBytes", 10L);
+
+        ResponseStatusException ex = assertThrows(
+            ResponseStatusException.class,
+            () -> imageService.ingest(new byte[11])
+        );
+
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, ex.getStatusCode());
+    }
+
+    @Test
+    void ingest_rejectsCanvasOverPixelBudgetBeforeDecoding() throws IOException {
+        byte[] upload = png(10, 10);
+        // Declared 50000 x 50000: rejected from the header, decoding it would need 10 GB
+        ByteBuffer.wrap(upload).putInt(16, 50_000).putInt(20, 50_000);
+
+        ResponseStatusException ex = assertThrows(
+            ResponseStatusException.class,
+            () -> imageService.ingest(upload)
+        );
+
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, ex.getStatusCode());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void ingest_rejectsUnsupportedFormat() {
+        ResponseStatusException ex = assertThrows(
+            ResponseStatusException.class,
+            () -> imageService.ingest("not an image".getBytes())
+        );
+
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+}
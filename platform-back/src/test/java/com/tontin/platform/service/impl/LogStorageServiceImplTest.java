@@ -0,0 +1,124 @@
+package com.tontin.platform.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * Runs the audit log partitioning on a real PostgreSQL: the V10 migration turns a
+ * populated plain table into {@code logs_default}, rows that landed in
+ * {@code logs_default} move into their month when it is created, and expired ones are
+ * purged by retention. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class LogStorageServiceImplTest {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    @Container
+    private static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:16-alpine");
+
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate transactionTemplate;
+    private static UUID legacyRow;
+
+    private LogStorageServiceImpl logStorageService;
+
+    @BeforeAll
+    static void migrate() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            POSTGRES.getJdbcUrl(),
+            POSTGRES.getUsername(),
+            POSTGRES.getPassword()
+        );
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        // A database still on the plain logs table, with rows in it
+        flyway("9").migrate();
+        legacyRow = insertLog(LocalDateTime.now().minusMonths(1));
+        flyway("latest").migrate();
+    }
+
+    private static Flyway flyway(String target) {
+        return Flyway.configure()
+            .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+            .locations("classpath:db/migration", "classpath:db/vendor/postgresql")
+            .target(target)
+            .load();
+    }
+
+    @BeforeEach
+    void setUp() {
+        logStorageService = new LogStorageServiceImpl(jdbcTemplate, transactionTemplate);
+        ReflectionTestUtils.setField(logStorageService, "premakeMonths", 2);
+        ReflectionTestUtils.setField(logStorageService, "retentionMonths", 6);
+        logStorageService.ensurePartitions();
+    }
+
+    @Test
+    void migration_keepsLegacyRowsInTheDefaultPartition() {
+        assertEquals(
+            "p",
+            jdbcTemplate.queryForObject("SELECT relkind::text FROM pg_class WHERE oid = 'logs'::regclass", String.class)
+        );
+        assertEquals(1, count("logs", legacyRow));
+        assertEquals(1, count("logs_default", legacyRow));
+    }
+
+    @Test
+    void ensurePartitions_movesRowsOfTheNewMonthOutOfDefault() {
+        YearMonth month = YearMonth.now().plusMonths(5);
+        UUID id = insertLog(month.atDay(10).atStartOfDay());
+        assertEquals(1, count("logs_default", id));
+
+        ReflectionTestUtils.setField(logStorageService, "premakeMonths", 5);
+        logStorageService.ensurePartitions();
+
+        assertEquals(0, count("logs_default", id));
+        assertEquals(1, count("logs_p" + month.format(SUFFIX), id));
+    }
+
+    @Test
+    void purgeExpired_deletesExpiredRowsFromDefault() {
+        UUID expired = insertLog(LocalDateTime.now().minusMonths(12));
+        UUID future = insertLog(LocalDateTime.now().plusYears(3));
+        assertEquals(1, count("logs_default", expired));
+
+        logStorageService.purgeExpired();
+
+        assertEquals(0, count("logs", expired));
+        assertEquals(1, count("logs_default", future));
+    }
+
+    private static UUID insertLog(LocalDateTime timestamp) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update(
+            "INSERT INTO logs (id, timestamp, level, service, env, request_id, event, path, status) " +
+            "VALUES (?, ?, 'INFO', 'platform', 'test', 'req', 'LOGIN', '/api/v1/auth/login', 'SUCCESS')",
+            id,
+            Timestamp.valueOf(timestamp)
+        );
+        return id;
+    }
+
+    private static int count(String table, UUID id) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM " + table + " WHERE id = ?", Integer.class, id);
+    }
+}
@@ -0,0 +1,147 @@
+package com.tontin.platform.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.tontin.platform.service.PaymentGatewayService.Intent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Runs the gateway against a local HTTP stub of the Stripe API.
+ */
+class PaymentGatewayServiceImplTest {
+
+    private static final String INTENT_JSON =
+        "{\"id\":\"pi_123\",\"object\":\"payment_intent\",\"status\":\"requires_payment_method\"," +
+        "\"client_secret\":\"pi_123_secret_456\",\"amount\":5000,\"currency\":\"usd\"}";
+
+    private HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicReference<String> lastBody = new AtomicReference<>();
+    private final AtomicReference<String> lastIdempotencyKey = new AtomicReference<>();
+    private volatile int status = 200;
+    private volatile long delayMillis;
+
+    @BeforeEach
+    void startStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/payment_intents", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    void stopStub() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        lastBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+        lastIdempotencyKey.set(exchange.getRequestHeaders().getFirst("Idempotency-Key"));
+        if (delayMillis > 0) {
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        byte[] body = (status == 200
+            ? INTENT_JSON
+            : "{\"error\":{\"type\":\"api_error\",\"message\":\"stub failure\"}}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private PaymentGatewayServiceImpl gateway(int failureThreshold, int readTimeoutMillis) {
+        return new PaymentGatewayServiceImpl(
+            new SimpleMeterRegistry(),
+            "sk_test_stub",
+            "http://127.0.0.1:" + server.getAddress().getPort(),
+            1_000,
+            readTimeoutMillis,
+            0,
+            failureThreshold,
+            60_000
+        );
+    }
+
+    @Test
+    void createIntent_returnsIntentFromApi() {
+        Intent intent = gateway(3, 2_000).createIntent(5000, "usd", Map.of("paymentId", "p-1"), "key-1");
+
+        assertEquals("pi_123", intent.id());
+        assertEquals("pi_123_secret_456", intent.clientSecret());
+        assertTrue(intent.isOpen());
+        assertTrue(lastBody.get().contains("amount=5000"));
+        assertTrue(lastBody.get().contains("paymentId"));
+        assertEquals("key-1", lastIdempotencyKey.get());
+    }
+
+    @Test
+    void retrieveIntent_returnsIntentFromApi() {
+        Intent intent = gateway(3, 2_000).retrieveIntent("pi_123");
+
+        assertEquals("pi_123", intent.id());
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void serverErrors_openCircuitAndFailFast() {
+        status = 500;
+        PaymentGatewayServiceImpl gateway = gateway(2, 2_000);
+
+        for (int i = 0; i < 2; i++) {
+            ResponseStatusException ex = assertThrows(
+                ResponseStatusException.class,
+                () -> gateway.retrieveIntent("pi_123")
+            );
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, ex.getStatusCode());
+        }
+        assertEquals(2, requests.get());
+
+        // Open: rejected without reaching the API
+        assertThrows(ResponseStatusException.class, () -> gateway.retrieveIntent("pi_123"));
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void slowApi_timesOutAsUnavailable() {
+        delayMillis = 1_000;
+
+        ResponseStatusException ex = assertThrows(
+            ResponseStatusException.class,
+            () -> gateway(3, 200).retrieveIntent("pi_123")
+        );
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, ex.getStatusCode());
+    }
+
+    @Test
+    void missingKey_isNotConfigured() {
+        PaymentGatewayServiceImpl gateway = new PaymentGatewayServiceImpl(
+            new SimpleMeterRegistry(), "", "http://127.0.0.1:1", 1_000, 1_000, 0, 3, 1_000
+        );
+
+        assertFalse(gateway.isConfigured());
+        assertThrows(ResponseStatusException.class, () -> gateway.retrieveIntent("pi_123"));
+    }
+}
@@ -0,0 +1,114 @@
+package com.tontin.platform.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.tontin.platform.domain.enums.payment.ChartGranularity;
+import com.tontin.platform.domain.enums.payment.PaymentTotalKind;
+import com.tontin.platform.dto.payment.response.PaymentChartResponse;
+import com.tontin.platform.repository.PaymentRepository;
+import com.tontin.platform.repository.RoundRepository;
+import com.tontin.platform.service.PaymentRollupService;
+import com.tontin.platform.service.PaymentRollupService.DartDay;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentReportServiceImplTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2025, 4, 1, 0, 0);
+
+    @Mock
+    private PaymentRepository paymentRepository;
+    @Mock
+    private RoundRepository roundRepository;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private PaymentRollupService paymentRollupService;
+
+    private PaymentReportServiceImpl paymentReportService;
+
+    @BeforeEach
+    void setUp() {
+        paymentReportService = new PaymentReportServiceImpl(
+            paymentRepository,
+            roundRepository,
+            jdbcTemplate,
+            paymentRollupService
+        );
+    }
+
+    @Test
+    void getChart_foldsDailyTotalsIntoBucketsPerDart() {
+        UUID dartA = UUID.randomUUID();
+        UUID dartB = UUID.randomUUID();
+        when(paymentRollupService.dailyByDart(
+            PaymentTotalKind.PAYED, null, null, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 4, 1)
+        )).thenReturn(List.of(
+            new DartDay(dartA, "A", LocalDate.of(2025, 1, 5), amount(10)),
+            new DartDay(dartB, "B", LocalDate.of(2025, 1, 9), amount(1)),
+            new DartDay(dartA, "A", LocalDate.of(2025, 1, 20), amount(5)),
+            new DartDay(dartB, "B", LocalDate.of(2025, 2, 2), amount(2)),
+            new DartDay(dartA, "A", LocalDate.of(2025, 3, 31), amount(7))
+        ));
+
+        PaymentChartResponse chart = paymentReportService.getChart(null, null, FROM, TO, ChartGranularity.MONTH, true);
+
+        assertEquals(List.of("Jan 2025", "Feb 2025", "Mar 2025"), chart.labels());
+        assertEquals(List.of("2025-01-01", "2025-02-01", "2025-03-01"), chart.bucketStarts());
+        assertEquals(List.of(amount(16), amount(2), amount(7)), chart.total());
+        assertEquals(
+            List.of(
+                new PaymentChartResponse.Series(dartA.toString(), "A", List.of(amount(15), BigDecimal.ZERO, amount(7))),
+                new PaymentChartResponse.Series(dartB.toString(), "B", List.of(amount(1), amount(2), BigDecimal.ZERO))
+            ),
+            chart.series()
+        );
+    }
+
+    @Test
+    void getChart_withoutBreakdownReturnsOnlyTheTotal() {
+        when(paymentRollupService.dailyByDart(any(), any(), any(), any(), any())).thenReturn(List.of(
+            new DartDay(UUID.randomUUID(), "A", LocalDate.of(2025, 2, 14), amount(3))
+        ));
+
+        PaymentChartResponse chart = paymentReportService.getChart(null, null, FROM, TO, ChartGranularity.QUARTER, false);
+
+        assertEquals(List.of("Q1 2025"), chart.labels());
+        assertEquals(List.of(amount(3)), chart.total());
+        assertTrue(chart.series().isEmpty());
+    }
+
+    @Test
+    void getChart_rejectsTooManyBuckets() {
+        ResponseStatusException ex = assertThrows(
+            ResponseStatusException.class,
+            () -> paymentReportService.getChart(null, null, FROM, FROM.plusYears(3), ChartGranularity.DAY, false)
+        );
+
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+        verify(paymentRollupService, never()).dailyByDart(any(), any(), any(), any(), any());
+    }
+
+    private static BigDecimal amount(long value) {
+        return BigDecimal.valueOf(value);
+    }
+}
@@ -0,0 +1,228 @@
+package com.tontin.platform.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.stripe.Stripe;
+import com.tontin.platform.config.CorrelationIdFilter;
+import com.tontin.platform.domain.StripeWebhookEvent;
+import com.tontin.platform.domain.enums.payment.WebhookEventStatus;
+import com.tontin.platform.repository.StripeWebhookEventRepository;
+import com.tontin.platform.service.PaymentService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.slf4j.MDC;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+class StripeWebhookInboxServiceImplTest {
+
+    private static final String SECRET = "whsec_test";
+
+    private StripeWebhookEventRepository repository;
+    private PaymentService paymentService;
+    private StripeWebhookInboxServiceImpl inbox;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        repository = mock(StripeWebhookEventRepository.class);
+        paymentService = mock(PaymentService.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(inv ->
+            ((TransactionCallback<Object>) inv.getArgument(0)).doInTransaction(mock(TransactionStatus.class))
+        );
+        inbox = new StripeWebhookInboxServiceImpl(
+            repository, paymentService, transactionTemplate, new SimpleMeterRegistry(),
+            SECRET, 2, 10, 60_000, 3, 5_000, 60_000, 30
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        inbox.stop();
+        MDC.clear();
+    }
+
+    @Test
+    void receive_storesVerifiedEventKeyedByRound() throws Exception {
+        String payload = event("evt_1", "pi_1", "round-1");
+
+        inbox.receive(payload, sign(payload));
+
+        ArgumentCaptor<StripeWebhookEvent> saved = ArgumentCaptor.forClass(StripeWebhookEvent.class);
+        verify(repository).saveAndFlush(saved.capture());
+        assertEquals("evt_1", saved.getValue().getEventId());
+        assertEquals("pi_1", saved.getValue().getObjectId());
+        assertEquals("round-1", saved.getValue().getOrderingKey());
+        assertEquals(WebhookEventStatus.PENDING, saved.getValue().getStatus());
+        verify(paymentService, never()).markPaymentSucceeded(any());
+    }
+
+    @Test
+    void receive_storesRequestIdOfTheDelivery() throws Exception {
+        String payload = event("evt_1", "pi_1", "round-1");
+        MDC.put(CorrelationIdFilter.MDC_KEY, "req-42");
+
+        inbox.receive(payload, sign(payload));
+
+        ArgumentCaptor<StripeWebhookEvent> saved = ArgumentCaptor.forClass(StripeWebhookEvent.class);
+        verify(repository).saveAndFlush(saved.capture());
+        assertEquals("req-42", saved.getValue().getRequestId());
+    }
+
+    @Test
+    void receive_ignoresRedeliveredEvent() throws Exception {
+        String payload = event("evt_1", "pi_1", "round-1");
+        when(repository.existsByEventId("evt_1")).thenReturn(true);
+
+        inbox.receive(payload, sign(payload));
+
+        verify(repository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void receive_rejectsBadSignature() {
+        String payload = event("evt_1", "pi_1", "round-1");
+
+        ResponseStatusException ex = assertThrows(
+            ResponseStatusException.class,
+            () -> inbox.receive(payload, "t=1,v1=deadbeef")
+        );
+
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+        verify(repository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void processDue_appliesEventAndMarksProcessed() {
+        UUID id = claimable(storedEvent(1));
+
+        assertEquals(1, inbox.processDue());
+
+        verify(paymentService).markPaymentSucceeded("pi_1");
+        verify(repository).complete(
+            eq(id), any(), eq(WebhookEventStatus.PROCESSED), any(), any(), isNull(), eq(WebhookEventStatus.PROCESSING)
+        );
+    }
+
+    @Test
+    void processDue_restoresRequestIdWhileProcessing() {
+        StripeWebhookEvent event = storedEvent(1);
+        event.setRequestId("req-42");
+        claimable(event);
+        AtomicReference<String> seen = new AtomicReference<>();
+        doAnswer(inv -> {
+            seen.set(MDC.get(CorrelationIdFilter.MDC_KEY));
+            return null;
+        }).when(paymentService).markPaymentSucceeded("pi_1");
+
+        inbox.processDue();
+
+        assertEquals("req-42", seen.get());
+    }
+
+    @Test
+    void processDue_failureIsRetriedWithBackoff() {
+        UUID id = claimable(storedEvent(1));
+        doThrow(new IllegalStateException("boom")).when(paymentService).markPaymentSucceeded("pi_1");
+        LocalDateTime before = LocalDateTime.now();
+
+        inbox.processDue();
+
+        verify(repository).complete(
+            eq(id),
+            any(),
+            eq(WebhookEventStatus.PENDING),
+            argThat(next -> !next.isBefore(before.plusSeconds(5))),
+            isNull(),
+            argThat(error -> error.contains("boom")),
+            eq(WebhookEventStatus.PROCESSING)
+        );
+    }
+
+    @Test
+    void processDue_lastFailedAttemptIsDeadLettered() {
+        UUID id = claimable(storedEvent(3));
+        doThrow(new IllegalStateException("boom")).when(paymentService).markPaymentSucceeded("pi_1");
+
+        inbox.processDue();
+
+        verify(repository).complete(
+            eq(id), any(), eq(WebhookEventStatus.DEAD), any(), any(), any(), eq(WebhookEventStatus.PROCESSING)
+        );
+    }
+
+    @Test
+    void backoff_doublesUpToMax() {
+        assertEquals(Duration.ofSeconds(5), StripeWebhookInboxServiceImpl.backoff(1, 5_000, 60_000));
+        assertEquals(Duration.ofSeconds(20), StripeWebhookInboxServiceImpl.backoff(3, 5_000, 60_000));
+        assertEquals(Duration.ofSeconds(60), StripeWebhookInboxServiceImpl.backoff(10, 5_000, 60_000));
+    }
+
+    private UUID claimable(StripeWebhookEvent event) {
+        when(repository.findClaimable(any(), any(), any(), any())).thenReturn(List.of(event.getId()));
+        when(repository.claim(eq(event.getId()), any(), any(), any(), any())).thenReturn(1);
+        when(repository.findById(event.getId())).thenReturn(Optional.of(event));
+        when(repository.complete(any(), any(), any(), any(), any(), any(), any())).thenReturn(1);
+        return event.getId();
+    }
+
+    /** An event as read back after its {@code attempts}-th claim. */
+    private static StripeWebhookEvent storedEvent(int attempts) {
+        LocalDateTime now = LocalDateTime.now();
+        return StripeWebhookEvent.builder()
+            .id(UUID.randomUUID())
+            .receivedAt(now)
+            .eventId("evt_1")
+            .eventType(StripeWebhookInboxServiceImpl.PAYMENT_INTENT_SUCCEEDED)
+            .objectId("pi_1")
+            .orderingKey("round-1")
+            .payload("{}")
+            .status(WebhookEventStatus.PROCESSING)
+            .attempts(attempts)
+            .nextAttemptAt(now)
+            .build();
+    }
+
+    private static String event(String eventId, String intentId, String roundId) {
+        return "{\"id\":\"" + eventId + "\",\"object\":\"event\",\"api_version\":\"" + Stripe.API_VERSION + "\"," +
+            "\"created\":" + (System.currentTimeMillis() / 1000) + ",\"type\":\"payment_intent.succeeded\"," +
+            "\"data\":{\"object\":{\"id\":\"" + intentId + "\",\"object\":\"payment_intent\"," +
+            "\"metadata\":{\"roundId\":\"" + roundId + "\"}}}}";
+    }
+
+    private static String sign(String payload) throws Exception {
+        long timestamp = System.currentTimeMillis() / 1000;
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        byte[] digest = mac.doFinal((timestamp + "." + payload).getBytes(StandardCharsets.UTF_8));
+        return "t=" + timestamp + ",v1=" + HexFormat.of().formatHex(digest);
+    }
+}
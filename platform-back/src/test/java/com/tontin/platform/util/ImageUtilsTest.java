@@ -0,0 +1,64 @@
+package com.tontin.platform.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Dimension;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.Test;
+
+class ImageUtilsTest {
+
+    @Test
+    void resizeToFit_scalesLongestSideAndKeepsAspectRatio() {
+        BufferedImage source = new BufferedImage(1000, 500, BufferedImage.TYPE_INT_RGB);
+
+        BufferedImage resized = ImageUtils.resizeToFit(source, 64);
+
+        assertEquals(64, resized.getWidth());
+        assertEquals(32, resized.getHeight());
+    }
+
+    @Test
+    void resizeToFit_neverUpscales() {
+        BufferedImage source = new BufferedImage(40, 20, BufferedImage.TYPE_INT_RGB);
+
+        assertSame(source, ImageUtils.resizeToFit(source, 64));
+    }
+
+    @Test
+    void resizeToFit_keepsTransparency() {
+        BufferedImage source = new BufferedImage(300, 300, BufferedImage.TYPE_INT_ARGB);
+
+        BufferedImage resized = ImageUtils.resizeToFit(source, 256);
+
+        assertEquals(256, resized.getWidth());
+        assertTrue(resized.getColorModel().hasAlpha());
+    }
+
+    @Test
+    void readDimensions_readsTheHeaderOnly() throws IOException {
+        byte[] png = png(new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB));
+        // IHDR width/height: a 50000 x 50000 canvas would take 10 GB once decoded
+        ByteBuffer.wrap(png).putInt(16, 50_000).putInt(20, 50_000);
+
+        assertEquals(new Dimension(50_000, 50_000), ImageUtils.readDimensions(png));
+    }
+
+    @Test
+    void readDimensions_returnsNullForUnsupportedContent() {
+        assertNull(ImageUtils.readDimensions("not an image".getBytes()));
+    }
+
+    static byte[] png(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
@@ -9,6 +9,17 @@ export interface RoundContributionsResponse {
   paidMemberIds: string[];
 }
 
+export interface UpcomingDue {
+  dartId: string;
+  dartName: string;
+  roundId: string;
+  roundNumber: number;
+  dueDate: string;
+  amountDue: number;
+  payoutAmount: number;
+  recipient: boolean;
+}
+
 @Injectable({
   providedIn: 'root'
 })
@@ -65,6 +76,17 @@ export class RoundService {
     );
   }
 
+  /**
+   * Get the upcoming due dates across all of the current user's darts (overdue first)
+   */
+  getUpcomingDueDates(days: number = 30, limit: number = 20): Observable<UpcomingDue[]> {
+    const params = new HttpParams()
+      .set('days', days.toString())
+      .set('limit', limit.toString());
+
+    return this.http.get<UpcomingDue[]>(`${this.apiUrl}/upcoming`, { params });
+  }
+
   /**
    * Get round statistics for a dart
    */
@@ -274,7 +274,7 @@ export class PayContributionComponent
           }
 
           this.paymentService
-            .createPaymentIntent(this.darId!)
+            .createPaymentIntent(this.darId!, crypto.randomUUID())
             .pipe(takeUntil(this.destroy$))
             .subscribe({
               next: async (res) => {
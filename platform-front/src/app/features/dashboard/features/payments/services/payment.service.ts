@@ -1,5 +1,5 @@
 import { Injectable } from "@angular/core";
-import { HttpClient, HttpParams } from "@angular/common/http";
+import { HttpClient, HttpHeaders, HttpParams } from "@angular/common/http";
 import { Observable, BehaviorSubject, tap, of } from "rxjs";
 import { environment } from "../../../../../../environments/environment";
 
@@ -390,11 +390,19 @@ export class PaymentService {
   /**
    * Create a Stripe PaymentIntent for contribution (current round of the dart).
    * Use the returned clientSecret with Stripe.js to confirm payment.
+   * Resending with the same idempotencyKey reuses the same intent.
    */
-  createPaymentIntent(dartId: string): Observable<CreatePaymentIntentResponse> {
+  createPaymentIntent(
+    dartId: string,
+    idempotencyKey?: string,
+  ): Observable<CreatePaymentIntentResponse> {
+    const headers = idempotencyKey
+      ? new HttpHeaders({ "Idempotency-Key": idempotencyKey })
+      : undefined;
     return this.http.post<CreatePaymentIntentResponse>(
       `${this.apiV1Url}/create-intent`,
       { dartId },
+      { headers },
     );
   }
 
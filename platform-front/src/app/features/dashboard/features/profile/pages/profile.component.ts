@@ -304,7 +304,7 @@ export class ProfileComponent implements OnInit {
   }
 
   private mapUserToProfile(user: UserResponse): UserProfile {
-    const avatar = user.picture ? `data:image/jpeg;base64,${user.picture}` : "";
+    const avatar = user.picture ?? "";
     return {
       userName: user.userName || "",
       email: user.email || "",